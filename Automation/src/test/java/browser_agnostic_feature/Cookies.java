@@ -57,7 +57,6 @@ public class Cookies {
 		Cookie newCookie = new Cookie("New_Cookie", "Prathamesh");
 		option.addCookie(newCookie);
 		
-		Thread.sleep(5000);
 		String cookie_text = option.getCookieNamed("New_Cookie").getValue();
 		System.out.println(cookie_text);
 		driver.findElement(By.id("refresh-cookies")).click();
@@ -71,7 +70,6 @@ public class Cookies {
 		Cookie editCookie = new Cookie(username.getName(), "Prathamesh");
 		option.addCookie(editCookie);
 		
-		Thread.sleep(5000);
 		String cookie_text = option.getCookieNamed("username").getValue();
 		System.out.println(cookie_text);
 		driver.findElement(By.id("refresh-cookies")).click();
@@ -11,6 +11,7 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class JavaScriptExecutor {
 	WebDriver driver;
@@ -33,14 +34,14 @@ public class JavaScriptExecutor {
 		JavascriptExecutor js = (JavascriptExecutor)driver;
 		WebElement Web_form = driver.findElement(By.linkText("Web form"));
 		js.executeScript("arguments[0].click()", Web_form);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		WebElement Input_box = driver.findElement(By.id("my-text-id"));
 		js.executeScript("arguments[0].setAttribute('value', 'Name')", Input_box);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		js.executeScript("window.scrollBy(0,3000)", "");
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		js.executeScript("document.getElementById('my-text-id').value  = 'Prathamesh'");
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	@Test
 	public void Pinned_Script() {
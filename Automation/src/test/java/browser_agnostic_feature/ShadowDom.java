@@ -3,13 +3,16 @@ package browser_agnostic_feature;
 import java.time.Duration;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import pom.support.ShadowBy;
+import pom.wait.WaitEngine;
+
 public class ShadowDom {
 	WebDriver driver;
 	@BeforeMethod
@@ -23,6 +26,7 @@ public class ShadowDom {
 	
 	@AfterMethod
 	public void AfterMethod() {
+		WaitEngine.release(driver);
 		driver.quit();
 	}
 	
@@ -31,16 +35,16 @@ public class ShadowDom {
 		driver.findElement(By.linkText("Shadow DOM")).click();
 //		System.out.println(driver.findElement(By.xpath("/html/body/main/div/div[4]/div//p")).getText());
 		
-		SearchContext shadow0 = driver.findElement(By.cssSelector("#content")).getShadowRoot();
-		String ShadowText = shadow0.findElement(By.cssSelector("p")).getText();
+		// Scripted locators skip the implicit wait, so wait for the shadow content explicitly
+		String ShadowText = WaitEngine.forDriver(driver).until(
+				ExpectedConditions.visibilityOfElementLocated(ShadowBy.path("#content", "p")), WaitEngine.Timeout.DEFAULT).getText();
 		System.out.println(ShadowText);
 	}
 	
 	@Test
 	public void nested_dom() {
 		driver.get("https://dev.automationtesting.in/shadow-dom");
-		SearchContext shadow0 = driver.findElement(By.cssSelector("#shadow-root")).getShadowRoot();
-		String ShadowText = shadow0.findElement(By.cssSelector("#shadow-element")).getText();
+		String ShadowText = driver.findElement(ShadowBy.path("#shadow-root", "#shadow-element")).getText();
 		System.out.println(ShadowText);
 		
 	}
@@ -48,20 +52,18 @@ public class ShadowDom {
 	@Test
 	public void inner_dom() {
 		driver.get("https://dev.automationtesting.in/shadow-dom");
-		SearchContext shadow1 = driver.findElement(By.cssSelector("#shadow-root")).getShadowRoot();
-		SearchContext shadow2 = shadow1.findElement(By.cssSelector("#inner-shadow-dom")).getShadowRoot();
-		String ShadowText1 = shadow2.findElement(By.cssSelector("#nested-shadow-root")).getText();
+		String ShadowText1 = driver.findElement(ShadowBy.path("#shadow-root", "#inner-shadow-dom", "#nested-shadow-root")).getText();
 		System.out.println(ShadowText1);
 	}	
 	
 	@Test
 	public void nested_dom1() {
 		driver.get("https://dev.automationtesting.in/shadow-dom");
-		SearchContext shadow3 = driver.findElement(By.cssSelector("#shadow-root")).getShadowRoot();
-		SearchContext shadow4 = shadow3.findElement(By.cssSelector("#inner-shadow-dom")).getShadowRoot();
-		SearchContext shadow5 = shadow4.findElement(By.cssSelector("#nested-shadow-dom")).getShadowRoot();
-		String ShadowText2 = shadow5.findElement(By.cssSelector("#multi-nested-shadow-element")).getText();
+		// One script call whatever the depth, instead of a findElement and getShadowRoot per level
+		String ShadowText2 = driver.findElement(ShadowBy.path("#shadow-root", "#inner-shadow-dom", "#nested-shadow-dom",
+				"#multi-nested-shadow-element")).getText();
 		System.out.println(ShadowText2);
+		System.out.println(driver.findElement(ShadowBy.deep("#shadow-root >>> #multi-nested-shadow-element")).getText());
 	}
 	
 	
@@ -14,6 +14,7 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class Tabs_and_windows {
 	WebDriver driver;
@@ -42,7 +43,7 @@ public class Tabs_and_windows {
 	     Keys modifier = SystemUtils.IS_OS_MAC ? Keys.COMMAND : Keys.CONTROL;
 	     String openInNewTab = Keys.chord(modifier, Keys.RETURN);
 	     driver.findElement(By.linkText("Web form")).sendKeys(openInNewTab);
-	     Thread.sleep(3000);
+	     Sleeps.sleep(3000);
 
 	     Set<String> windowHandles = driver.getWindowHandles();
 	     System.out.println(windowHandles.size());
@@ -52,7 +53,7 @@ public class Tabs_and_windows {
 	         } else {
 	        	 System.out.println("Current window handle {} "+ windowHandle);
 	             driver.switchTo().window(windowHandle);
-	             Thread.sleep(3000);
+	             Sleeps.sleep(3000);
 	             WebElement textbox = driver.findElement(By.id("my-text-id"));
 	     		 textbox.sendKeys("Prathamesh");
 	         }
@@ -83,12 +84,12 @@ public class Tabs_and_windows {
 		 driver.get("https://bonigarcia.dev/selenium-webdriver-java/web-form.html");
 		 Set<String> windowHandles = driver.getWindowHandles();
 	     System.out.println(windowHandles.size());
-		 Thread.sleep(3000);
+		 Sleeps.sleep(3000);
 		 WebElement textbox = driver.findElement(By.id("my-text-id"));
  		 textbox.sendKeys("Prathamesh");
- 		Thread.sleep(3000);
+ 		Sleeps.sleep(3000);
  		driver.switchTo().window(initHandle);
 		driver.findElement(By.linkText("Drag and drop")).click();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 }
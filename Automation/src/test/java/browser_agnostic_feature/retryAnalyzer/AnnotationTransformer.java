@@ -3,11 +3,10 @@ package browser_agnostic_feature.retryAnalyzer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
-import org.openqa.selenium.support.events.WebDriverListener;
 import org.testng.IAnnotationTransformer;
 import org.testng.annotations.ITestAnnotation;
 
-public class AnnotationTransformer implements IAnnotationTransformer, WebDriverListener {
+public class AnnotationTransformer implements IAnnotationTransformer {
     @Override
     public void transform(ITestAnnotation annotation,
                           Class testClass,
@@ -19,6 +19,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import pom.wait.Sleeps;
 
 public class AddExtension {
 
@@ -56,7 +57,7 @@ options.addArguments(
     @AfterMethod
     public void teardown() throws InterruptedException {
         // FIXME: pause for manual browser inspection
-        Thread.sleep(Duration.ofSeconds(3).toMillis());
+        Sleeps.sleep(Duration.ofSeconds(3).toMillis());
 
 //        driver.quit();
     }
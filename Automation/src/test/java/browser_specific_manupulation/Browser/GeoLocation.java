@@ -14,6 +14,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class GeoLocation {
 	 WebDriver driver;
@@ -31,7 +32,7 @@ public class GeoLocation {
 	    @AfterMethod
 	    public void teardown() throws InterruptedException {
 	        // FIXME: pause for manual browser inspection
-	        Thread.sleep(Duration.ofSeconds(3).toMillis());
+	        Sleeps.sleep(Duration.ofSeconds(3).toMillis());
 
 	        driver.quit();
 	    }
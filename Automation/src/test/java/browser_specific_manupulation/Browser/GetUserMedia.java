@@ -17,6 +17,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class GetUserMedia {
 	WebDriver driver;
@@ -45,7 +46,7 @@ public class GetUserMedia {
 	        WebElement startBtn = driver.findElement(By.id("start"));
 	        wait.until(ExpectedConditions.elementToBeClickable(startBtn));
 	        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", startBtn);
-	        Thread.sleep(500);
+	        Sleeps.sleep(500);
 	        startBtn.click();
 	        By videoDevice = By.id("video-device");
 	        Pattern nonEmptyString = Pattern.compile(".+");
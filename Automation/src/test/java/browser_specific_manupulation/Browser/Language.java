@@ -12,6 +12,7 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class Language {
 	WebDriver driver;
@@ -45,6 +46,6 @@ public class Language {
 	        String bodyText = driver.findElement(By.tagName("body")).getText();
 	        assertThat(bodyText).contains(home).contains(content).contains(about)
 	                .contains(contact);
-	        Thread.sleep(3000);
+	        Sleeps.sleep(3000);
 	}
 }
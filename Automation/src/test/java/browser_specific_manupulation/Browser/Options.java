@@ -18,6 +18,7 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class Options {
 	WebDriver driver;
@@ -55,7 +56,7 @@ public class Options {
 		ChromeOptions options = new ChromeOptions();
 		options.setExperimentalOption("excludeSwitches", Arrays.asList("enable-automation"));
 		driver = new ChromeDriver(options);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -81,7 +82,7 @@ public class Options {
 		WebElement searchBox = driver.findElement(By.name("q"));
 		Actions actions = new Actions(driver);
 		actions.contextClick(searchBox).build().perform();
-		Thread.sleep(10000);
+		Sleeps.sleep(10000);
 	}
 	
 	@Test
@@ -103,7 +104,7 @@ public class Options {
 	     Actions actions = new Actions(driver);
 	     actions.contextClick(searchBox).build().perform();
 
-	     Thread.sleep(10000); // Just to keep browser open for you to see
+	     Sleeps.sleep(10000); // Just to keep browser open for you to see
 	}
 	
 	@Test
@@ -14,6 +14,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import pom.wait.Sleeps;
 
 public class Web_Proxy {
 	WebDriver driver;
@@ -31,7 +32,7 @@ public class Web_Proxy {
 		((HasAuthentication) driver)
         .register(() -> new UsernameAndPassword("lgzlswko", "m9s7add53nqz"));
 		driver.get("https://whatismyipaddress.com/");
-		Thread.sleep(15000);
+		Sleeps.sleep(15000);
 	}
 	
 	@Test
@@ -43,7 +44,7 @@ public class Web_Proxy {
         driver = new ChromeDriver(options);
         
         driver.get("https://api.ipify.org/");
-        Thread.sleep(3000);
+        Sleeps.sleep(3000);
 	}
 
 }
@@ -15,6 +15,8 @@ import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
 
+import pom.wait.WaitEngine;
+
 public class BlockURL {
 	WebDriver driver;
 	DevTools devTools;
@@ -29,6 +31,7 @@ public class BlockURL {
 	@AfterMethod
 	public void TearDown() {
 		devTools.close();
+		WaitEngine.release(driver);
 //		driver.close();
 	}
 
@@ -43,9 +46,10 @@ public class BlockURL {
 			System.out.println("Blocking reason: "+reason);
 			assertThat(reason).isEqualTo(BlockedReason.INSPECTOR);
 		});
-		Thread.sleep(10000);
 //		driver.get("https://bonigarcia.dev/selenium-webdriver-java/");
 		driver.get("https://bonigarcia.dev/selenium-webdriver-java/loading-images.html");
+		// Images load after the document; let the blocked request fail before asserting
+		WaitEngine.forDriver(driver).awaitPageReady();
 		assertThat(driver.getTitle()).contains("Selenium WebDriver");
 	}
 }
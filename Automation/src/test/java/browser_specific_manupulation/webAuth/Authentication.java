@@ -14,6 +14,7 @@ import org.openqa.selenium.virtualauthenticator.VirtualAuthenticatorOptions;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 public class Authentication {
 	WebDriver driver;
 	
@@ -29,17 +30,17 @@ public class Authentication {
               .addVirtualAuthenticator(new VirtualAuthenticatorOptions());
 
       String randomId = UUID.randomUUID().toString();
-      Thread.sleep(3000);
+      Sleeps.sleep(3000);
       driver.findElement(By.id("input-email")).sendKeys(randomId);
-      Thread.sleep(3000);
+      Sleeps.sleep(3000);
       driver.findElement(By.id("register-button")).click();
-      Thread.sleep(3000);
+      Sleeps.sleep(3000);
       WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
       wait.until(ExpectedConditions.textToBePresentInElementLocated(
               By.className("alert"), "Success! Now try to authenticate..."));
 
       driver.findElement(By.id("login-button")).click();
-      Thread.sleep(3000);
+      Sleeps.sleep(3000);
       wait.until(ExpectedConditions.textToBePresentInElementLocated(
               By.className("main-content"), "You're logged in!"));
 
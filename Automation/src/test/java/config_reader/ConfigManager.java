@@ -1,26 +1,22 @@
 package config_reader;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import novus.config.config_loader.LayeredConfiguration;
 import pom.constant.Constants;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Properties;
-
 /**
  * ConfigManager class to read and manage configuration properties
  * Singleton pattern implementation for configuration management
+ *
+ * Values come from the shared {@link LayeredConfiguration}, so config.properties,
+ * environment variables and system properties resolve the same way here as in
+ * the JSON based configuration facades.
  */
 public class ConfigManager {
     
-    private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
     private static ConfigManager instance;
-    private Properties properties;
     
     // Private constructor for Singleton pattern
     private ConfigManager() {
-        loadProperties();
     }
     
     /**
@@ -33,59 +29,25 @@ public class ConfigManager {
         return instance;
     }
     
-    /**
-     * Load properties from config file
-     */
-    private void loadProperties() {
-        properties = new Properties();
-        try (FileInputStream fis = new FileInputStream(Constants.CONFIG_FILE_PATH)) {
-            properties.load(fis);
-            logger.info("Configuration properties loaded successfully from: {}", Constants.CONFIG_FILE_PATH);
-        } catch (IOException e) {
-            logger.error("Failed to load configuration properties: {}", e.getMessage());
-            // Load default properties if file not found
-            loadDefaultProperties();
-        }
-    }
-    
-    /**
-     * Load default properties if config file is not available
-     */
-    private void loadDefaultProperties() {
-        logger.info("Loading default configuration properties");
-        properties.setProperty("app.base.url", Constants.BASE_URL);
-        properties.setProperty("browser.default", Constants.DEFAULT_BROWSER);
-        properties.setProperty("timeout.implicit", String.valueOf(Constants.IMPLICIT_WAIT_TIMEOUT));
-        properties.setProperty("timeout.explicit", String.valueOf(Constants.EXPLICIT_WAIT_TIMEOUT));
-        properties.setProperty("timeout.page.load", String.valueOf(Constants.PAGE_LOAD_TIMEOUT));
-        properties.setProperty("testdata.valid.username", Constants.VALID_USERNAME);
-        properties.setProperty("testdata.valid.password", Constants.VALID_PASSWORD);
-    }
-    
     /**
      * Get property value by key
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return LayeredConfiguration.getInstance().get(key);
     }
     
     /**
      * Get property value by key with default value
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return LayeredConfiguration.getInstance().get(key, defaultValue);
     }
     
     /**
      * Get integer property value
      */
     public int getIntProperty(String key, int defaultValue) {
-        try {
-            return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid integer value for property {}, using default: {}", key, defaultValue);
-            return defaultValue;
-        }
+        return LayeredConfiguration.getInstance().getInt(key, defaultValue);
     }
     
     /**
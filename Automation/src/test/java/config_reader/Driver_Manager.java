@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import config_reader.ConfigManager;
 import pom.constant.Constants;
+import pom.support.ImplicitWaitScope;
 
 import java.time.Duration;
 
@@ -128,7 +129,7 @@ public class Driver_Manager {
         }
         
         // Set timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitTimeout()));
+        ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(config.getImplicitTimeout()));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getIntProperty("timeout.script", 30)));
         
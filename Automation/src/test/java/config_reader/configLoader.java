@@ -3,8 +3,10 @@ package config_reader;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import novus.config.config_loader.LayeredConfiguration;
 import pom.pages.ConfigurationException;
 import pom.pages.DriverCreationException;
+import pom.support.ImplicitWaitScope;
 
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
@@ -25,8 +27,6 @@ import org.openqa.selenium.safari.SafariOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.sql.Connection;
@@ -75,21 +75,12 @@ public class configLoader {
     private static volatile configLoader instance;
     private static final Object INITIALIZATION_LOCK = new Object();
     
-    // Configuration holders with immutable data structures
-    private volatile JsonNode webConfig;
-    private volatile JsonNode runConfig;
-    private volatile JsonNode applicationConfig;
     
     // Thread-safe collections for multi-threaded execution
     private final Map<Long, WebDriver> driverRegistry = new ConcurrentHashMap<>();
     private final Map<String, Connection> databaseConnections = new ConcurrentHashMap<>();
     private final Map<String, Object> runtimeProperties = new ConcurrentHashMap<>();
     
-    // Configuration file constants
-    private static final String WEB_CONFIG_PATH = "config/web.json";
-    private static final String RUN_CONFIG_PATH = "config/run_config.json";
-    private static final String APPLICATION_CONFIG_PATH = "config/application.json";
-    
     // Jackson ObjectMapper with optimized configuration
     private final ObjectMapper objectMapper;
     
@@ -161,10 +152,6 @@ public class configLoader {
         try {
             logger.debug("Loading configuration files...");
             
-            webConfig = loadJsonConfigWithFallback(WEB_CONFIG_PATH);
-            runConfig = loadJsonConfigWithFallback(RUN_CONFIG_PATH);
-            applicationConfig = loadJsonConfigWithFallback(APPLICATION_CONFIG_PATH);
-            
             validateConfigurationIntegrity();
             logConfigurationSummary();
             
@@ -174,45 +161,6 @@ public class configLoader {
         }
     }
     
-    /**
-     * Load JSON configuration with fallback mechanisms
-     * @param configPath Path to configuration file
-     * @return JsonNode representation
-     */
-    private JsonNode loadJsonConfigWithFallback(String configPath) throws IOException {
-        // Try primary location first
-        JsonNode config = loadJsonConfig(configPath);
-        
-        if (config == null || config.isMissingNode()) {
-            // Try backup locations or default configurations
-            logger.warn("Primary config not found: {}, attempting fallback", configPath);
-            throw new IOException("Configuration file not available: " + configPath);
-        }
-        
-        return config;
-    }
-    
-    /**
-     * Load JSON configuration from resources with enhanced error handling
-     * @param configPath Path to configuration file
-     * @return JsonNode representation
-     */
-    private JsonNode loadJsonConfig(String configPath) throws IOException {
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configPath)) {
-            if (inputStream == null) {
-                throw new IOException("Configuration resource not found: " + configPath);
-            }
-            
-            JsonNode config = objectMapper.readTree(inputStream);
-            logger.debug("Successfully loaded configuration: {}", configPath);
-            return config;
-            
-        } catch (IOException e) {
-            logger.error("Failed to parse configuration file: {}", configPath, e);
-            throw e;
-        }
-    }
-    
     /**
      * Create WebDriver with comprehensive configuration and monitoring
      * @return Fully configured WebDriver instance
@@ -306,7 +254,7 @@ public class configLoader {
     private ChromeOptions createAdvancedChromeOptions(boolean isHeadless, String mobileDevice, 
                                                     Map<String, Object> customCapabilities) {
         ChromeOptions options = new ChromeOptions();
-        JsonNode chromeConfig = webConfig.path("chrome");
+        JsonNode chromeConfig = webConfig().path("chrome");
         
         // Configure arguments based on mode
         List<String> arguments = new ArrayList<>();
@@ -461,7 +409,7 @@ public class configLoader {
      * Configure comprehensive logging
      */
     private void configureLogging(ChromeOptions options) {
-        JsonNode loggingConfig = webConfig.path("logging");
+        JsonNode loggingConfig = webConfig().path("logging");
         LoggingPreferences logPrefs = new LoggingPreferences();
         
         if (loggingConfig.path("browser").path("enabled").asBoolean(true)) {
@@ -486,7 +434,7 @@ public class configLoader {
      * Configure proxy settings if enabled
      */
     private void configureProxy(ChromeOptions options) {
-        JsonNode proxyConfig = webConfig.path("proxy");
+        JsonNode proxyConfig = webConfig().path("proxy");
         
         if (proxyConfig.path("enabled").asBoolean(false)) {
             Proxy proxy = new Proxy();
@@ -514,7 +462,7 @@ public class configLoader {
      */
     private FirefoxOptions createAdvancedFirefoxOptions(boolean isHeadless, Map<String, Object> customCapabilities) {
         FirefoxOptions options = new FirefoxOptions();
-        JsonNode firefoxConfig = webConfig.path("firefox");
+        JsonNode firefoxConfig = webConfig().path("firefox");
         
         // Configure arguments
         List<String> args = new ArrayList<>();
@@ -580,7 +528,7 @@ public class configLoader {
      */
     private EdgeOptions createAdvancedEdgeOptions(boolean isHeadless, Map<String, Object> customCapabilities) {
         EdgeOptions options = new EdgeOptions();
-        JsonNode edgeConfig = webConfig.path("edge");
+        JsonNode edgeConfig = webConfig().path("edge");
         
         // Configure arguments
         List<String> args = new ArrayList<>();
@@ -614,7 +562,7 @@ public class configLoader {
      */
     private SafariOptions createAdvancedSafariOptions(Map<String, Object> customCapabilities) {
         SafariOptions options = new SafariOptions();
-        JsonNode safariConfig = webConfig.path("safari");
+        JsonNode safariConfig = webConfig().path("safari");
         
         // Configure Safari-specific options
         JsonNode defaultOptions = safariConfig.path("defaultOptions");
@@ -649,7 +597,7 @@ public class configLoader {
     private DesiredCapabilities createRemoteCapabilities(String browserName, boolean isHeadless, 
                                                        String mobileDevice, Map<String, Object> customCapabilities) {
         DesiredCapabilities capabilities = new DesiredCapabilities();
-        JsonNode remoteConfig = webConfig.path("remoteCapabilities");
+        JsonNode remoteConfig = webConfig().path("remoteCapabilities");
         
         // Add common capabilities
         JsonNode commonCaps = remoteConfig.path("common");
@@ -702,9 +650,9 @@ public class configLoader {
      */
     private void configureDriverSettings(WebDriver driver) {
         // Configure timeouts
-        JsonNode timeouts = webConfig.path("timeouts");
+        JsonNode timeouts = webConfig().path("timeouts");
+        ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(timeouts.path("implicit").asInt(10)));
         driver.manage().timeouts()
-            .implicitlyWait(Duration.ofSeconds(timeouts.path("implicit").asInt(10)))
             .pageLoadTimeout(Duration.ofSeconds(timeouts.path("pageLoad").asInt(30)))
             .scriptTimeout(Duration.ofSeconds(timeouts.path("script").asInt(20)));
         
@@ -734,7 +682,7 @@ public class configLoader {
      * Enable video recording for remote drivers
      */
     private void enableVideoRecording(RemoteWebDriver driver) {
-        if (runConfig.path("video").path("videoRecording").asBoolean(false)) {
+        if (runConfig().path("video").path("videoRecording").asBoolean(false)) {
             // Implementation depends on your grid setup (Selenoid, Selenium Grid 4, etc.)
             logger.info("Video recording enabled for session: {}", driver.getSessionId());
         }
@@ -819,22 +767,17 @@ public class configLoader {
     // Enhanced Configuration Getters with caching and validation
     
     public String getBrowserName() {
-    	return getSystemPropertyOrDefault("browser", 
-                runConfig.path("browser").asText("chrome"));
+    	return getSystemPropertyOrDefault("browser", configuration().get("run.browser", "chrome"));
     }
     
     
     public String getEnvironment() {
-        return getSystemPropertyOrDefault("environment", 
-               runConfig.path("environment").asText("staging"));
+        return getSystemPropertyOrDefault("environment", configuration().get("run.environment", "staging"));
     }
     
     public String getBaseUrl() {
         String env = getEnvironment();
-        String baseUrl = applicationConfig.path("environments")
-                                        .path(env)
-                                        .path("baseUrl")
-                                        .asText();
+        String baseUrl = configuration().get("application.environments." + env + ".baseUrl", "");
         
         if (baseUrl.isEmpty()) {
             throw new RuntimeException("Base URL not configured for environment: " + env);
@@ -845,17 +788,17 @@ public class configLoader {
     
     public String getApiBaseUrl() {
         String env = getEnvironment();
-        return applicationConfig.path("environments").path(env).path("apiBaseUrl").asText();
+        return configuration().get("application.environments." + env + ".apiBaseUrl", "");
     }
     
     public boolean isRemoteExecution() {
         return Boolean.parseBoolean(getSystemPropertyOrDefault("remote.execution", 
-               runConfig.path("grid").path("remoteExecution").asText("false")));
+               configuration().get("run.grid.remoteExecution", "false")));
     }
     
     public String getRemoteWebDriverUrl() {
-        String hubHost = runConfig.path("grid").path("hubHost").asText("localhost");
-        int hubPort = runConfig.path("grid").path("hubPort").asInt(4444);
+        String hubHost = configuration().get("run.grid.hubHost", "localhost");
+        int hubPort = configuration().getInt("run.grid.hubPort", 4444);
         return String.format("http://%s:%d/wd/hub", hubHost, hubPort);
     }
     
@@ -868,63 +811,71 @@ public class configLoader {
     }
     
     public boolean isParallelExecution() {
-        return runConfig.path("execution").path("parallel").asBoolean(false);
+        return configuration().getBoolean("run.execution.parallel", false);
     }
     
     public int getThreadCount() {
         return Integer.parseInt(getSystemPropertyOrDefault("thread.count",
-               String.valueOf(runConfig.path("execution").path("threadCount").asInt(4))));
+               String.valueOf(configuration().getInt("run.execution.threadCount", 4))));
     }
     
     public int getMaxRetries() {
-        return runConfig.path("execution").path("maxRetries").asInt(2);
+        return configuration().getInt("run.execution.maxRetries", 2);
     }
     
     public boolean shouldTakeScreenshots() {
-        return runConfig.path("screenshots").path("takeScreenshots").asBoolean(true);
+        return configuration().getBoolean("run.screenshots.takeScreenshots", true);
     }
     
     public String getScreenshotPath() {
-        return runConfig.path("screenshots").path("screenshotPath").asText("./test-output/screenshots");
+        return configuration().get("run.screenshots.screenshotPath", "./test-output/screenshots");
     }
     
     public boolean isVideoRecordingEnabled() {
-        return runConfig.path("video").path("videoRecording").asBoolean(false);
+        return configuration().getBoolean("run.video.videoRecording", false);
     }
     
     public String getVideoPath() {
-        return runConfig.path("video").path("videoPath").asText("./test-output/videos");
+        return configuration().get("run.video.videoPath", "./test-output/videos");
     }
     
     public boolean isPerformanceLoggingEnabled() {
-        return webConfig.path("logging").path("performance").path("enabled").asBoolean(false);
+        return configuration().getBoolean("web.logging.performance.enabled", false);
     }
     
     public int getDefaultTimeout() {
-        return runConfig.path("timeouts").path("defaultTimeout").asInt(30);
+        return configuration().getInt("run.timeouts.defaultTimeout", 30);
     }
     
     public int getExplicitTimeout(String type) {
-        return webConfig.path("timeouts").path("explicit").path(type).asInt(15);
+        return configuration().getInt("web.timeouts.explicit." + type, 15);
     }
     
     public int getElementWaitTimeout(String waitType) {
-        return webConfig.path("timeouts").path("elementWait").path(waitType).asInt(10);
+        return configuration().getInt("web.timeouts.elementWait." + waitType, 10);
     }
     
     public int getAjaxWaitTimeout(String ajaxType) {
-        return webConfig.path("timeouts").path("ajaxWait").path(ajaxType).asInt(20);
+        return configuration().getInt("web.timeouts.ajaxWait." + ajaxType, 20);
     }
     
     public int getPollingInterval() {
-        return webConfig.path("timeouts").path("pollingInterval").asInt(500);
+        return configuration().getInt("web.timeouts.pollingInterval", 500);
+    }
+    
+    public int getMemoryThreshold() {
+        return configuration().getInt("run.monitoring.memoryThreshold", 80);
+    }
+    
+    public int getCpuThreshold() {
+        return configuration().getInt("run.monitoring.cpuThreshold", 90);
     }
     
     // Enhanced Test Data Management
     
     public Map<String, String> getTestUser(String userType) {
         Map<String, String> user = new HashMap<>();
-        JsonNode userNode = applicationConfig.path("testUsers").path(userType);
+        JsonNode userNode = applicationConfig().path("testUsers").path(userType);
         
         if (!userNode.isMissingNode()) {
             userNode.fields().forEachRemaining(entry -> {
@@ -949,12 +900,12 @@ public class configLoader {
     }
     
     public String getEndpoint(String category, String endpointName) {
-        return applicationConfig.path("endpoints").path(category).path(endpointName).asText();
+        return applicationConfig().path("endpoints").path(category).path(endpointName).asText();
     }
     
     public String getEndpoint(String endpointName) {
         // Try to find endpoint in any category
-        JsonNode endpointsNode = applicationConfig.path("endpoints");
+        JsonNode endpointsNode = applicationConfig().path("endpoints");
         for (JsonNode categoryNode : endpointsNode) {
             if (categoryNode.has(endpointName)) {
                 return categoryNode.path(endpointName).asText();
@@ -964,32 +915,31 @@ public class configLoader {
     }
     
     public String getTestData(String category, String key) {
-        return applicationConfig.path("testData").path(category).path(key).asText();
+        return applicationConfig().path("testData").path(category).path(key).asText();
     }
     
     public String getTestData(String key) {
-        return applicationConfig.path("testData").path(key).asText();
+        return applicationConfig().path("testData").path(key).asText();
     }
     
     // Feature Flag Management
     
     public boolean isFeatureEnabled(String featureName) {
-        String environment = getEnvironment();
-        return applicationConfig.path("environments").path(environment)
-                .path("features").path(featureName).asBoolean(false);
+        return configuration().getBoolean("application.environments." + getEnvironment() + ".features." + featureName,
+                false);
     }
     
     // Database Query Management
     
     public String getDatabaseQuery(String queryName) {
-        return applicationConfig.path("database").path("queries").path(queryName).asText();
+        return applicationConfig().path("database").path("queries").path(queryName).asText();
     }
     
     // Third-Party Integration Support
     
     public Map<String, String> getThirdPartyConfig(String serviceName) {
         Map<String, String> config = new HashMap<>();
-        JsonNode serviceNode = applicationConfig.path("integrations").path("thirdParty").path(serviceName);
+        JsonNode serviceNode = applicationConfig().path("integrations").path("thirdParty").path(serviceName);
         
         serviceNode.fields().forEachRemaining(entry -> {
             String key = entry.getKey();
@@ -1014,33 +964,33 @@ public class configLoader {
     // Localization Support
     
     public String getDefaultLocale() {
-        return applicationConfig.path("localization").path("defaultLocale").asText("en-US");
+        return applicationConfig().path("localization").path("defaultLocale").asText("en-US");
     }
     
     public List<String> getSupportedLocales() {
         List<String> locales = new ArrayList<>();
-        applicationConfig.path("localization").path("supportedLocales")
+        applicationConfig().path("localization").path("supportedLocales")
                 .forEach(node -> locales.add(node.asText()));
         return locales;
     }
     
     public String getDateFormat() {
-        return applicationConfig.path("localization").path("dateFormat").asText("MM/dd/yyyy");
+        return applicationConfig().path("localization").path("dateFormat").asText("MM/dd/yyyy");
     }
     
     public String getTimeFormat() {
-        return applicationConfig.path("localization").path("timeFormat").asText("HH:mm:ss");
+        return applicationConfig().path("localization").path("timeFormat").asText("HH:mm:ss");
     }
     
     public String getCurrency() {
-        return applicationConfig.path("localization").path("currency").asText("USD");
+        return applicationConfig().path("localization").path("currency").asText("USD");
     }
     
     // Security Configuration
     
     public Map<String, Object> getSecurityConfig() {
         Map<String, Object> securityConfig = new HashMap<>();
-        JsonNode securityNode = applicationConfig.path("security");
+        JsonNode securityNode = applicationConfig().path("security");
         
         // Encryption settings
         JsonNode encryptionNode = securityNode.path("encryption");
@@ -1064,12 +1014,12 @@ public class configLoader {
     // Notification Configuration
     
     public boolean isNotificationEnabled(String notificationType) {
-        return runConfig.path("notifications").path(notificationType).path("enabled").asBoolean(false);
+        return runConfig().path("notifications").path(notificationType).path("enabled").asBoolean(false);
     }
     
     public Map<String, String> getNotificationConfig(String notificationType) {
         Map<String, String> config = new HashMap<>();
-        JsonNode notificationNode = runConfig.path("notifications").path(notificationType);
+        JsonNode notificationNode = runConfig().path("notifications").path(notificationType);
         
         notificationNode.fields().forEachRemaining(entry -> {
             String key = entry.getKey();
@@ -1087,6 +1037,23 @@ public class configLoader {
     
     // Utility Methods
     
+    // Read through the shared configuration on every lookup, so reloads are seen at once
+    private LayeredConfiguration configuration() {
+        return LayeredConfiguration.getInstance();
+    }
+    
+    private JsonNode webConfig() {
+        return configuration().getDocument(LayeredConfiguration.WEB_DOCUMENT);
+    }
+    
+    private JsonNode runConfig() {
+        return configuration().getDocument(LayeredConfiguration.RUN_DOCUMENT);
+    }
+    
+    private JsonNode applicationConfig() {
+        return configuration().getDocument(LayeredConfiguration.APPLICATION_DOCUMENT);
+    }
+    
     private String getSystemPropertyOrDefault(String propertyName, String defaultValue) {
         String systemValue = System.getProperty(propertyName);
         return systemValue != null ? systemValue : defaultValue;
@@ -1142,7 +1109,7 @@ public class configLoader {
         
         // Validate environment-specific configurations
         String environment = getEnvironment();
-        JsonNode envConfig = applicationConfig.path("environments").path(environment);
+        JsonNode envConfig = applicationConfig().path("environments").path(environment);
         if (envConfig.isMissingNode()) {
             throw new ConfigurationException("Environment configuration not found: " + environment);
         }
@@ -1246,7 +1213,7 @@ public class configLoader {
     }
     
     private void cleanupTemporaryFiles() {
-        if (runConfig.path("cleanup").path("cleanupOnEnd").asBoolean(true)) {
+        if (runConfig().path("cleanup").path("cleanupOnEnd").asBoolean(true)) {
             // Implement cleanup logic for temporary files
             logger.debug("Temporary files cleanup completed");
         }
@@ -1278,10 +1245,10 @@ public class configLoader {
             summary.append("\n Default Locale: ").append(getDefaultLocale());
             summary.append("\n Supported Locales: ").append(getSupportedLocales());
             summary.append("\n Database Required: ").append(isDatabaseRequired());
-            summary.append("\n Proxy Enabled: ").append(webConfig.path("proxy").path("enabled").asBoolean(false));
+            summary.append("\n Proxy Enabled: ").append(webConfig().path("proxy").path("enabled").asBoolean(false));
             summary.append("\n Notification Systems: ");
             
-            JsonNode notifications = runConfig.path("notifications");
+            JsonNode notifications = runConfig().path("notifications");
             List<String> enabledNotifications = new ArrayList<>();
             notifications.fields().forEachRemaining(entry -> {
                 if (entry.getValue().path("enabled").asBoolean(false)) {
@@ -1303,6 +1270,7 @@ public class configLoader {
         logger.info("Reloading configurations...");
         
         try {
+            LayeredConfiguration.reload();
             loadAndValidateConfigurations();
             performHealthChecks();
             logger.info("Configuration reload completed successfully");
@@ -1345,9 +1313,9 @@ public class configLoader {
      */
     public boolean isReadyForExecution() {
         return isHealthy && 
-               webConfig != null && 
-               runConfig != null && 
-               applicationConfig != null;
+               !webConfig().isMissingNode() && 
+               !runConfig().isMissingNode() && 
+               !applicationConfig().isMissingNode();
     }
     
     /**
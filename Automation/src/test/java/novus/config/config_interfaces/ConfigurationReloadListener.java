@@ -0,0 +1,11 @@
+package novus.config.config_interfaces;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Callback notified after a watched configuration file has been reloaded
+ */
+@FunctionalInterface
+public interface ConfigurationReloadListener {
+    void onConfigurationReloaded(String configPath, JsonNode configuration);
+}
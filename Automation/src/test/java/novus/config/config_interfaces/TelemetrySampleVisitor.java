@@ -0,0 +1,11 @@
+package novus.config.config_interfaces;
+
+/**
+ * Callback receiving one telemetry sample as primitives, so iterating a time
+ * series does not box values
+ */
+@FunctionalInterface
+public interface TelemetrySampleVisitor {
+    void visit(long timestampMs, long heapUsedBytes, long heapCommittedBytes, long gcPauseMs, int threadCount,
+            double processCpuLoad, double systemCpuLoad, double hostMemoryUsedPercent, double loadAverage);
+}
@@ -0,0 +1,292 @@
+package novus.config.config_loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration directory watcher backed by {@link WatchService}
+ *
+ * Invalidations are pushed as soon as the file system reports a change, while
+ * reload callbacks are debounced so that editors writing a file in several
+ * steps only trigger a single reload. Loaders subscribe to the process-wide
+ * watcher from {@link #shared()}, so every directory is registered once and
+ * one event thread and one debounce thread serve all of them.
+ */
+public class ConfigurationFileWatcher implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(ConfigurationFileWatcher.class);
+
+	public static final long DEFAULT_DEBOUNCE_MS = 250;
+
+	private static ConfigurationFileWatcher shared;
+	private static boolean sharedUnavailable;
+
+	private final WatchService watchService;
+	private final long debounceMs;
+
+	// Directory -> (file name -> subscriptions to that file)
+	private final Map<Path, Map<Path, Set<Subscription>>> watchedFiles = new ConcurrentHashMap<>();
+	private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+	private final Map<Subscription, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+
+	private Thread watcherThread;
+	private final ScheduledExecutorService debouncer = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "ConfigWatcher-Debounce");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private volatile boolean running = true;
+
+	/**
+	 * Receives the changes of the configurations a subscriber watches
+	 */
+	public interface Listener {
+		/**
+		 * Called as soon as the backing file changed
+		 */
+		void invalidate(String configPath);
+
+		/**
+		 * Called once the file has stopped changing for the debounce period
+		 */
+		void reload(String configPath);
+	}
+
+	/**
+	 * Create a watcher; no thread runs until {@link #start()}
+	 */
+	public ConfigurationFileWatcher(long debounceMs) throws IOException {
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.debounceMs = debounceMs;
+	}
+
+	/**
+	 * Get the started process-wide watcher, or null if the file system cannot be watched
+	 */
+	public static synchronized ConfigurationFileWatcher shared() {
+		if (shared == null && !sharedUnavailable) {
+			try {
+				shared = new ConfigurationFileWatcher(DEFAULT_DEBOUNCE_MS);
+				shared.start();
+			} catch (IOException | UnsupportedOperationException e) {
+				sharedUnavailable = true;
+				logger.warn("Configuration file watching unavailable, changes require explicit reload: {}",
+						e.getMessage());
+			}
+		}
+		return shared;
+	}
+
+	/**
+	 * Start the event thread
+	 */
+	public synchronized void start() {
+		if (watcherThread == null && running) {
+			watcherThread = new Thread(this::processEvents, "ConfigWatcher");
+			watcherThread.setDaemon(true);
+			watcherThread.start();
+			logger.debug("Configuration file watcher started with {}ms debounce", debounceMs);
+		}
+	}
+
+	/**
+	 * Watch the given file and report changes against the configuration path
+	 * to the listener
+	 */
+	public void watch(String configPath, Path file, Listener listener) throws IOException {
+		Path absoluteFile = file.toAbsolutePath().normalize();
+		Path directory = absoluteFile.getParent();
+		if (directory == null) {
+			throw new IOException("Cannot watch file without parent directory: " + file);
+		}
+
+		Map<Path, Set<Subscription>> filesInDirectory = watchedFiles.computeIfAbsent(directory, dir -> {
+			try {
+				WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+				watchKeys.put(key, dir);
+				logger.info("Watching configuration directory: {}", dir);
+			} catch (IOException e) {
+				throw new IllegalStateException("Unable to watch directory: " + dir, e);
+			}
+			return new ConcurrentHashMap<>();
+		});
+
+		filesInDirectory.computeIfAbsent(absoluteFile.getFileName(), name -> ConcurrentHashMap.newKeySet())
+				.add(new Subscription(configPath, listener));
+	}
+
+	/**
+	 * Stop reporting changes to the listener; directories stay registered
+	 */
+	public void unwatch(Listener listener) {
+		watchedFiles.values().forEach(files -> files.values()
+				.forEach(subscriptions -> subscriptions.removeIf(subscription -> subscription.listener == listener)));
+		pendingReloads.entrySet().removeIf(pending -> {
+			if (pending.getKey().listener != listener) {
+				return false;
+			}
+			pending.getValue().cancel(false);
+			return true;
+		});
+	}
+
+	/**
+	 * Check whether the configuration path is backed by a file watched for the listener
+	 */
+	public boolean isWatched(String configPath, Listener listener) {
+		return watchedFiles.values().stream().flatMap(files -> files.values().stream())
+				.flatMap(Set::stream).anyMatch(subscription -> subscription.listener == listener
+						&& subscription.configPath.equals(configPath));
+	}
+
+	/**
+	 * Get number of watched directories
+	 */
+	public int getWatchedDirectoryCount() {
+		return watchedFiles.size();
+	}
+
+	/**
+	 * Stop the watcher; closing the shared watcher lets {@link #shared()} create a new one
+	 */
+	@Override
+	public synchronized void close() {
+		synchronized (ConfigurationFileWatcher.class) {
+			if (shared == this) {
+				shared = null;
+			}
+		}
+		running = false;
+		pendingReloads.values().forEach(future -> future.cancel(false));
+		pendingReloads.clear();
+		debouncer.shutdownNow();
+
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			logger.debug("Error closing watch service: {}", e.getMessage());
+		}
+
+		if (watcherThread != null) {
+			watcherThread.interrupt();
+		}
+		logger.debug("Configuration file watcher stopped");
+	}
+
+	/**
+	 * Event loop draining the watch service
+	 */
+	private void processEvents() {
+		while (running) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+
+			Path directory = watchKeys.get(key);
+			if (directory != null) {
+				for (WatchEvent<?> event : key.pollEvents()) {
+					handleEvent(directory, event);
+				}
+			}
+
+			if (!key.reset()) {
+				watchKeys.remove(key);
+				if (directory != null) {
+					logger.warn("Configuration directory no longer accessible: {}", directory);
+					watchedFiles.remove(directory);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Translate a single watch event into invalidations and debounced reloads
+	 */
+	private void handleEvent(Path directory, WatchEvent<?> event) {
+		Map<Path, Set<Subscription>> filesInDirectory = watchedFiles.get(directory);
+		if (filesInDirectory == null) {
+			return;
+		}
+
+		if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+			// Events were lost, so every file in this directory may be stale
+			filesInDirectory.values().forEach(subscriptions -> subscriptions.forEach(this::onChange));
+			return;
+		}
+
+		Path fileName = (Path) event.context();
+		Set<Subscription> subscriptions = filesInDirectory.get(fileName);
+		if (subscriptions != null) {
+			logger.debug("Detected {} for configuration file: {}", event.kind().name(), directory.resolve(fileName));
+			subscriptions.forEach(this::onChange);
+		}
+	}
+
+	/**
+	 * Invalidate immediately and schedule the reload callback
+	 */
+	private void onChange(Subscription subscription) {
+		try {
+			subscription.listener.invalidate(subscription.configPath);
+		} catch (Exception e) {
+			logger.error("Invalidation callback failed for configuration: {}", subscription.configPath, e);
+		}
+
+		pendingReloads.compute(subscription, (key, pending) -> {
+			if (pending != null) {
+				pending.cancel(false);
+			}
+			return debouncer.schedule(() -> {
+				try {
+					key.listener.reload(key.configPath);
+				} catch (Exception e) {
+					logger.error("Reload callback failed for configuration: {}", key.configPath, e);
+				}
+			}, debounceMs, TimeUnit.MILLISECONDS);
+		});
+	}
+
+	/**
+	 * One listener's interest in one configuration path
+	 */
+	private static final class Subscription {
+		private final String configPath;
+		private final Listener listener;
+
+		private Subscription(String configPath, Listener listener) {
+			this.configPath = configPath;
+			this.listener = listener;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Subscription && ((Subscription) other).listener == listener
+					&& ((Subscription) other).configPath.equals(configPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(listener) + configPath.hashCode();
+		}
+	}
+}
@@ -4,55 +4,83 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
 /**
  * Configuration properties provider with type-safe access and system property override
+ *
+ * Configuration values are served from a {@link LayeredConfiguration} table;
+ * system property overrides are read live, so properties set after the table
+ * was built still apply.
  */
 public class ConfigurationPropertiesProvider{
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationPropertiesProvider.class);
-    
-    private final JsonNode webConfig;
-    private final JsonNode runConfig;
-    private final JsonNode applicationConfig;
-    
+
+    private final Supplier<LayeredConfiguration> configuration;
+
+    /**
+     * Provider backed by the shared layered configuration
+     */
+    public ConfigurationPropertiesProvider() {
+        this.configuration = LayeredConfiguration::getInstance;
+    }
+
     public ConfigurationPropertiesProvider(JsonNode webConfig, JsonNode runConfig, JsonNode applicationConfig) {
-        this.webConfig = webConfig;
-        this.runConfig = runConfig;
-        this.applicationConfig = applicationConfig;
+        Map<String, JsonNode> documents = new LinkedHashMap<>();
+        documents.put(LayeredConfiguration.WEB_DOCUMENT, webConfig);
+        documents.put(LayeredConfiguration.RUN_DOCUMENT, runConfig);
+        documents.put(LayeredConfiguration.APPLICATION_DOCUMENT, applicationConfig);
+
+        LayeredConfiguration fixedConfiguration = LayeredConfiguration.build(Map.of(), new Properties(), documents,
+                System.getenv(), System.getProperties());
+        this.configuration = () -> fixedConfiguration;
     }
-    
+
     /**
      * Get string property with system property override support
      */
     public String getStringProperty(String systemProperty, String configPath, String defaultValue) {
+        LayeredConfiguration config = configuration.get();
+
         // Check system property first
         String systemValue = System.getProperty(systemProperty);
         if (systemValue != null && !systemValue.trim().isEmpty()) {
             logger.debug("Using system property value for {}: {}", systemProperty, systemValue);
             return systemValue;
         }
-        
+
         // Check configuration file
-        String configValue = getConfigValue(configPath, defaultValue);
+        String configValue = getConfigValue(config, configPath, defaultValue);
         logger.debug("Using configuration value for {}: {}", configPath, configValue);
         return configValue;
     }
-    
+
     /**
      * Get boolean property with system property override support
      */
     public boolean getBooleanProperty(String systemProperty, String configPath, boolean defaultValue) {
+        LayeredConfiguration config = configuration.get();
+
         String systemValue = System.getProperty(systemProperty);
         if (systemValue != null) {
             return Boolean.parseBoolean(systemValue);
         }
-        
-        return getConfigNode(configPath).asBoolean(defaultValue);
+
+        if (config.indexOf(configPath) >= 0) {
+            return config.getBoolean(configPath, defaultValue);
+        }
+        return config.getNode(configPath).asBoolean(defaultValue);
     }
-    
+
     /**
      * Get integer property with system property override support
      */
     public int getIntProperty(String systemProperty, String configPath, int defaultValue) {
+        LayeredConfiguration config = configuration.get();
+
         String systemValue = System.getProperty(systemProperty);
         if (systemValue != null) {
             try {
@@ -61,93 +89,62 @@ public class ConfigurationPropertiesProvider{
                 logger.warn("Invalid integer value in system property {}: {}", systemProperty, systemValue);
             }
         }
-        
-        return getConfigNode(configPath).asInt(defaultValue);
+
+        if (config.indexOf(configPath) >= 0) {
+            return config.getInt(configPath, defaultValue);
+        }
+        return config.getNode(configPath).asInt(defaultValue);
     }
-    
+
     /**
      * Get configuration value by path
      */
-    private String getConfigValue(String configPath, String defaultValue) {
-        JsonNode node = getConfigNode(configPath);
-        return node.asText(defaultValue);
+    private String getConfigValue(LayeredConfiguration config, String configPath, String defaultValue) {
+        String value = config.get(configPath);
+        if (value != null) {
+            return value;
+        }
+        // Paths without a document prefix are not part of the flattened table
+        return config.getNode(configPath).asText(defaultValue);
     }
-    
+
     /**
      * Get configuration node by path
      */
     public JsonNode getConfigNode(String configPath) {
-        String[] pathParts = configPath.split("\\.");
-        JsonNode currentNode = null;
-        
-        // Determine which config to use based on path
-        if (pathParts[0].equals("web")) {
-            currentNode = webConfig;
-        } else if (pathParts[0].equals("run")) {
-            currentNode = runConfig;
-        } else if (pathParts[0].equals("application")) {
-            currentNode = applicationConfig;
-        } else {
-            // Try all configs
-            currentNode = webConfig.path(pathParts[0]);
-            if (currentNode.isMissingNode()) {
-                currentNode = runConfig.path(pathParts[0]);
-            }
-            if (currentNode.isMissingNode()) {
-                currentNode = applicationConfig.path(pathParts[0]);
-            }
-            // Start from index 0 if no config prefix found
-            for (int i = 0; i < pathParts.length; i++) {
-                currentNode = currentNode.path(pathParts[i]);
-            }
-            return currentNode;
-        }
-        
-        // Navigate through the path (skip first element as it's the config type)
-        for (int i = 1; i < pathParts.length; i++) {
-            currentNode = currentNode.path(pathParts[i]);
-        }
-        
-        return currentNode;
+        return configuration.get().getNode(configPath);
     }
-    
+
     /**
      * Get environment-specific configuration
      */
     public String getEnvironmentProperty(String environment, String property, String defaultValue) {
-        return applicationConfig.path("environments")
-                              .path(environment)
-                              .path(property)
-                              .asText(defaultValue);
+        return configuration.get().get("application.environments." + environment + "." + property, defaultValue);
     }
-    
+
     /**
      * Get test user configuration
      */
     public JsonNode getTestUser(String userType) {
-        return applicationConfig.path("testUsers").path(userType);
+        return configuration.get().getDocument(LayeredConfiguration.APPLICATION_DOCUMENT)
+                              .path("testUsers")
+                              .path(userType);
     }
-    
+
     /**
      * Get endpoint configuration
      */
     public String getEndpoint(String category, String endpointName) {
-        return applicationConfig.path("endpoints")
-                              .path(category)
-                              .path(endpointName)
-                              .asText("");
+        return configuration.get().get("application.endpoints." + category + "." + endpointName, "");
     }
-    
+
     /**
      * Check if feature is enabled for environment
      */
     public boolean isFeatureEnabled(String environment, String featureName) {
-        return applicationConfig.path("environments")
-                              .path(environment)
-                              .path("features")
-                              .path(featureName)
-                              .asBoolean(false);
+        return configuration.get().getBoolean("application.environments." + environment + ".features." + featureName,
+                false);
     }
-    
+
 
 }
@@ -0,0 +1,407 @@
+package novus.config.config_loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import novus.config.config_interfaces.CustomExceptions.ConfigurationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed binary snapshot of the JSON configuration files
+ *
+ * The first JVM to start parses and validates the configuration files and
+ * writes them as a compact tagged binary tree together with a SHA-256 hash of
+ * the raw sources. Later JVMs (including forked surefire JVMs) only hash the
+ * source bytes and, when the hash matches, decode the memory-mapped snapshot
+ * instead of running the JSON parser. Any hash mismatch or corrupt snapshot
+ * falls back to JSON and rewrites the snapshot.
+ */
+public class ConfigurationSnapshot {
+	private static final Logger logger = LoggerFactory.getLogger(ConfigurationSnapshot.class);
+
+	public static final String SNAPSHOT_PATH_PROPERTY = "config.snapshot.path";
+	public static final String SNAPSHOT_ENABLED_PROPERTY = "config.snapshot.enabled";
+	public static final String DEFAULT_SNAPSHOT_FILE = "config-snapshot.bin";
+
+	// Snapshot format
+	private static final int MAGIC = 0x43464753; // "CFGS"
+	private static final byte FORMAT_VERSION = 1;
+	private static final int HASH_LENGTH = 32;
+
+	// Node tags
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_TRUE = 1;
+	private static final byte TAG_FALSE = 2;
+	private static final byte TAG_INT = 3;
+	private static final byte TAG_LONG = 4;
+	private static final byte TAG_DOUBLE = 5;
+	private static final byte TAG_STRING = 6;
+	private static final byte TAG_ARRAY = 7;
+	private static final byte TAG_OBJECT = 8;
+	private static final byte TAG_BIG_INTEGER = 9;
+	private static final byte TAG_DECIMAL = 10;
+
+	private final Path snapshotFile;
+	private final boolean enabled;
+	private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+	private ObjectMapper objectMapper;
+
+	// Last load accounting
+	private volatile String lastLoadSource = "none";
+	private volatile long lastLoadTimeMicros;
+
+	public ConfigurationSnapshot(Path snapshotFile, boolean enabled) {
+		this.snapshotFile = snapshotFile;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Create snapshot honouring the config.snapshot.* system properties
+	 */
+	public static ConfigurationSnapshot fromSystemProperties() {
+		String configuredPath = System.getProperty(SNAPSHOT_PATH_PROPERTY);
+		Path path = configuredPath != null ? Paths.get(configuredPath) : defaultSnapshotPath();
+		boolean enabled = Boolean.parseBoolean(System.getProperty(SNAPSHOT_ENABLED_PROPERTY, "true"));
+		return new ConfigurationSnapshot(path, enabled);
+	}
+
+	/**
+	 * Default snapshot location: next to the build output directory this class
+	 * was loaded from (e.g. target/ for target/test-classes), or java.io.tmpdir
+	 * when classes come from a jar, so the snapshot never lands in the sources
+	 */
+	static Path defaultSnapshotPath() {
+		try {
+			URL location = ConfigurationSnapshot.class.getProtectionDomain().getCodeSource().getLocation();
+			Path classesDir = Paths.get(location.toURI());
+			if (Files.isDirectory(classesDir) && classesDir.getParent() != null) {
+				return classesDir.getParent().resolve(DEFAULT_SNAPSHOT_FILE);
+			}
+		} catch (Exception e) {
+			logger.debug("Build output directory not available for config snapshot: {}", e.getMessage());
+		}
+		return Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_SNAPSHOT_FILE);
+	}
+
+	/**
+	 * Load all configuration sources, preferring the binary snapshot when its
+	 * content hash matches the raw source files
+	 */
+	public Map<String, JsonNode> load(Map<String, URL> sources) throws IOException {
+		long startTime = System.nanoTime();
+
+		Map<String, byte[]> rawSources = new LinkedHashMap<>();
+		for (Map.Entry<String, URL> source : sources.entrySet()) {
+			try (InputStream inputStream = source.getValue().openStream()) {
+				rawSources.put(source.getKey(), inputStream.readAllBytes());
+			}
+		}
+		byte[] contentHash = computeHash(rawSources);
+
+		Map<String, JsonNode> configurations = enabled ? readSnapshot(contentHash, rawSources) : null;
+		if (configurations != null) {
+			recordLoad("snapshot", startTime);
+			return configurations;
+		}
+
+		configurations = parseSources(rawSources);
+		if (enabled) {
+			writeSnapshot(contentHash, configurations);
+		}
+		recordLoad("json", startTime);
+		return configurations;
+	}
+
+	/**
+	 * Get statistics about the most recent load
+	 */
+	public Map<String, Object> getStatistics() {
+		Map<String, Object> stats = new ConcurrentHashMap<>();
+		stats.put("snapshotEnabled", enabled);
+		stats.put("snapshotPath", snapshotFile.toString());
+		stats.put("lastLoadSource", lastLoadSource);
+		stats.put("lastLoadTimeMicros", lastLoadTimeMicros);
+		return stats;
+	}
+
+	public Path getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	// ===============================
+	// SNAPSHOT READ / WRITE
+	// ===============================
+
+	/**
+	 * Memory-map and decode the snapshot, or return null if it is missing,
+	 * stale or unreadable
+	 */
+	private Map<String, JsonNode> readSnapshot(byte[] expectedHash, Map<String, byte[]> rawSources) {
+		if (!Files.isRegularFile(snapshotFile)) {
+			logger.debug("No configuration snapshot found at {}", snapshotFile);
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC || buffer.get() != FORMAT_VERSION) {
+				logger.info("Configuration snapshot has an unknown format, rebuilding: {}", snapshotFile);
+				return null;
+			}
+
+			byte[] storedHash = new byte[HASH_LENGTH];
+			buffer.get(storedHash);
+			if (!Arrays.equals(storedHash, expectedHash)) {
+				logger.info("Configuration sources changed since snapshot was written, rebuilding: {}", snapshotFile);
+				return null;
+			}
+
+			int documentCount = buffer.getInt();
+			Map<String, JsonNode> configurations = new LinkedHashMap<>();
+			for (int i = 0; i < documentCount; i++) {
+				String configPath = readString(buffer);
+				configurations.put(configPath, readNode(buffer));
+			}
+
+			if (!configurations.keySet().equals(rawSources.keySet())) {
+				logger.info("Configuration snapshot covers different files, rebuilding: {}", snapshotFile);
+				return null;
+			}
+
+			logger.debug("Loaded {} configurations from snapshot: {}", documentCount, snapshotFile);
+			return configurations;
+
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			logger.warn("Configuration snapshot unreadable, falling back to JSON: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Write snapshot atomically so concurrent JVMs never observe a partial file
+	 */
+	private void writeSnapshot(byte[] contentHash, Map<String, JsonNode> configurations) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(MAGIC);
+				out.writeByte(FORMAT_VERSION);
+				out.write(contentHash);
+				out.writeInt(configurations.size());
+				for (Map.Entry<String, JsonNode> entry : configurations.entrySet()) {
+					writeString(out, entry.getKey());
+					writeNode(out, entry.getValue());
+				}
+			}
+
+			Path directory = snapshotFile.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, "config-snapshot", ".tmp");
+			Files.write(tempFile, bytes.toByteArray());
+			try {
+				Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			logger.info("Configuration snapshot written ({} bytes): {}", bytes.size(), snapshotFile);
+
+		} catch (IOException e) {
+			// The snapshot is only an optimization, JSON remains the source of truth
+			logger.warn("Unable to write configuration snapshot {}: {}", snapshotFile, e.getMessage());
+		}
+	}
+
+	/**
+	 * Parse and validate the raw JSON sources
+	 */
+	private Map<String, JsonNode> parseSources(Map<String, byte[]> rawSources) throws IOException {
+		if (objectMapper == null) {
+			objectMapper = new ObjectMapper();
+		}
+
+		Map<String, JsonNode> configurations = new LinkedHashMap<>();
+		for (Map.Entry<String, byte[]> source : rawSources.entrySet()) {
+			JsonNode config = objectMapper.readTree(source.getValue());
+			if (config == null || config.isMissingNode() || config.isEmpty()) {
+				throw new ConfigurationException("Configuration is null or empty: " + source.getKey());
+			}
+			configurations.put(source.getKey(), config);
+		}
+		return configurations;
+	}
+
+	/**
+	 * Hash configuration names and raw contents together with the format version
+	 */
+	private byte[] computeHash(Map<String, byte[]> rawSources) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(FORMAT_VERSION);
+			for (Map.Entry<String, byte[]> source : rawSources.entrySet()) {
+				digest.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+				digest.update(source.getValue());
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private void recordLoad(String source, long startTime) {
+		lastLoadSource = source;
+		lastLoadTimeMicros = (System.nanoTime() - startTime) / 1000;
+		logger.info("Configurations loaded from {} in {}us", source, lastLoadTimeMicros);
+	}
+
+	// ===============================
+	// NODE ENCODING
+	// ===============================
+
+	private void writeNode(DataOutputStream out, JsonNode node) throws IOException {
+		switch (node.getNodeType()) {
+		case OBJECT:
+			out.writeByte(TAG_OBJECT);
+			out.writeInt(node.size());
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				writeString(out, field.getKey());
+				writeNode(out, field.getValue());
+			}
+			break;
+		case ARRAY:
+			out.writeByte(TAG_ARRAY);
+			out.writeInt(node.size());
+			for (JsonNode element : node) {
+				writeNode(out, element);
+			}
+			break;
+		case STRING:
+			out.writeByte(TAG_STRING);
+			writeString(out, node.textValue());
+			break;
+		case BOOLEAN:
+			out.writeByte(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+			break;
+		case NUMBER:
+			writeNumber(out, node);
+			break;
+		case NULL:
+			out.writeByte(TAG_NULL);
+			break;
+		default:
+			throw new IOException("Unsupported configuration node type: " + node.getNodeType());
+		}
+	}
+
+	private void writeNumber(DataOutputStream out, JsonNode node) throws IOException {
+		if (node.isInt()) {
+			out.writeByte(TAG_INT);
+			out.writeInt(node.intValue());
+		} else if (node.isLong()) {
+			out.writeByte(TAG_LONG);
+			out.writeLong(node.longValue());
+		} else if (node.isBigInteger()) {
+			out.writeByte(TAG_BIG_INTEGER);
+			writeString(out, node.bigIntegerValue().toString());
+		} else if (node.isBigDecimal()) {
+			out.writeByte(TAG_DECIMAL);
+			writeString(out, node.decimalValue().toString());
+		} else {
+			out.writeByte(TAG_DOUBLE);
+			out.writeDouble(node.doubleValue());
+		}
+	}
+
+	private JsonNode readNode(ByteBuffer buffer) throws IOException {
+		byte tag = buffer.get();
+		switch (tag) {
+		case TAG_OBJECT:
+			int fieldCount = buffer.getInt();
+			ObjectNode objectNode = nodeFactory.objectNode();
+			for (int i = 0; i < fieldCount; i++) {
+				String key = readString(buffer);
+				objectNode.set(key, readNode(buffer));
+			}
+			return objectNode;
+		case TAG_ARRAY:
+			int elementCount = buffer.getInt();
+			ArrayNode arrayNode = nodeFactory.arrayNode(elementCount);
+			for (int i = 0; i < elementCount; i++) {
+				arrayNode.add(readNode(buffer));
+			}
+			return arrayNode;
+		case TAG_STRING:
+			return nodeFactory.textNode(readString(buffer));
+		case TAG_TRUE:
+			return nodeFactory.booleanNode(true);
+		case TAG_FALSE:
+			return nodeFactory.booleanNode(false);
+		case TAG_INT:
+			return nodeFactory.numberNode(buffer.getInt());
+		case TAG_LONG:
+			return nodeFactory.numberNode(buffer.getLong());
+		case TAG_DOUBLE:
+			return nodeFactory.numberNode(buffer.getDouble());
+		case TAG_BIG_INTEGER:
+			return nodeFactory.numberNode(new BigInteger(readString(buffer)));
+		case TAG_DECIMAL:
+			return nodeFactory.numberNode(new BigDecimal(readString(buffer)));
+		case TAG_NULL:
+			return nodeFactory.nullNode();
+		default:
+			throw new IOException("Corrupt configuration snapshot, unknown tag: " + tag);
+		}
+	}
+
+	private void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Corrupt configuration snapshot, invalid string length: " + length);
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import novus.config.config_interfaces.ConfigurationLoader;
+import novus.config.config_interfaces.ConfigurationReloadListener;
 import novus.config.config_interfaces.CustomExceptions.*;
 
 import org.slf4j.Logger;
@@ -11,16 +12,27 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 /**
  * Enhanced configuration loader with caching, validation, and fallback
  * mechanisms
+ * 
+ * Cached configurations backed by a file on disk are invalidated by the
+ * shared {@link ConfigurationFileWatcher}, so cache hits never touch the file
+ * system. A loader subscribes when it first loads a file and unsubscribes on
+ * {@link #close()}.
  */
-public class DefaultConfigurationLoader implements ConfigurationLoader {
+public class DefaultConfigurationLoader implements ConfigurationLoader, AutoCloseable {
 	private static final Logger logger = LoggerFactory.getLogger(DefaultConfigurationLoader.class);
 
 	// Configuration file paths
@@ -34,12 +46,31 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 
 	private final ObjectMapper objectMapper;
 	private final Map<String, JsonNode> configurationCache;
-	private final Map<String, Long> lastModifiedTimes;
+	private final Map<String, Long> loadTimes;
+	private final boolean watchForChanges;
+	private final ConfigurationFileWatcher.Listener watchListener = new WatchListener();
+	private volatile ConfigurationFileWatcher fileWatcher;
+	private final ConfigurationSnapshot snapshot;
+	private final List<ConfigurationReloadListener> reloadListeners = new CopyOnWriteArrayList<>();
+
+	// Cache accounting
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong cacheMisses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final AtomicLong reloads = new AtomicLong();
+	private final AtomicLong failedReloads = new AtomicLong();
+	private volatile long lastClearTime = System.currentTimeMillis();
 
 	public DefaultConfigurationLoader() {
+		this(true);
+	}
+
+	public DefaultConfigurationLoader(boolean watchForChanges) {
 		this.objectMapper = createOptimizedObjectMapper();
 		this.configurationCache = new ConcurrentHashMap<>();
-		this.lastModifiedTimes = new ConcurrentHashMap<>();
+		this.loadTimes = new ConcurrentHashMap<>();
+		this.watchForChanges = watchForChanges;
+		this.snapshot = ConfigurationSnapshot.fromSystemProperties();
 	}
 
 	@Override
@@ -53,9 +84,11 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 		}
 
 		try {
-			JsonNode config = loadConfigurationFromResource(configPath);
+			URL location = resolveConfigurationLocation(configPath);
+			JsonNode config = readConfiguration(location);
 			validateConfiguration(config);
 			cacheConfiguration(configPath, config);
+			watchConfiguration(configPath, location);
 
 			logger.debug("Successfully loaded and cached configuration: {}", configPath);
 			return config;
@@ -66,6 +99,47 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 		}
 	}
 
+	/**
+	 * Load several configurations together through the binary snapshot, so a
+	 * warm start decodes one memory-mapped file instead of parsing each JSON
+	 * source
+	 */
+	public Map<String, JsonNode> loadConfigurations(String... configPaths) throws ConfigurationException {
+		Map<String, JsonNode> configurations = new LinkedHashMap<>();
+		for (String configPath : configPaths) {
+			validateConfigPath(configPath);
+			JsonNode cachedConfig = getCachedConfiguration(configPath);
+			if (cachedConfig == null) {
+				break;
+			}
+			configurations.put(configPath, cachedConfig);
+		}
+		if (configurations.size() == configPaths.length) {
+			return configurations;
+		}
+
+		try {
+			Map<String, URL> sources = new LinkedHashMap<>();
+			for (String configPath : configPaths) {
+				sources.put(configPath, resolveConfigurationLocation(configPath));
+			}
+
+			configurations = snapshot.load(sources);
+			for (Map.Entry<String, JsonNode> entry : configurations.entrySet()) {
+				validateConfiguration(entry.getValue());
+				cacheConfiguration(entry.getKey(), entry.getValue());
+				watchConfiguration(entry.getKey(), sources.get(entry.getKey()));
+			}
+
+			logger.debug("Successfully loaded and cached {} configurations", configurations.size());
+			return configurations;
+
+		} catch (IOException e) {
+			logger.error("Failed to load configurations", e);
+			throw new ConfigurationException("Configuration loading failed", e);
+		}
+	}
+
 	@Override
 	public void validateConfiguration(JsonNode config) throws ConfigurationException {
 		if (config == null || config.isMissingNode()) {
@@ -97,31 +171,47 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 
 		// Remove from cache to force reload
 		configurationCache.remove(configPath);
-		lastModifiedTimes.remove(configPath);
+		loadTimes.remove(configPath);
 
 		// Load fresh configuration
 		loadConfiguration(configPath);
 	}
 
 	/**
-	 * Load configuration from classpath resources with fallback mechanisms
+	 * Register a callback invoked after a watched configuration has been reloaded
 	 */
-	private JsonNode loadConfigurationFromResource(String configPath) throws IOException {
+	public void addReloadListener(ConfigurationReloadListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Reload listener cannot be null");
+		}
+		reloadListeners.add(listener);
+	}
+
+	/**
+	 * Remove a previously registered reload callback
+	 */
+	public boolean removeReloadListener(ConfigurationReloadListener listener) {
+		return reloadListeners.remove(listener);
+	}
+
+	/**
+	 * Resolve configuration location from classpath resources with fallback
+	 * mechanisms
+	 */
+	private URL resolveConfigurationLocation(String configPath) throws IOException {
 		// Try primary resource location
-		try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configPath)) {
-			if (inputStream != null) {
-				return objectMapper.readTree(inputStream);
-			}
+		URL resource = getClass().getClassLoader().getResource(configPath);
+		if (resource != null) {
+			return resource;
 		}
 
 		// Try fallback locations
 		for (String fallbackPath : FALLBACK_PATHS) {
 			String fullPath = fallbackPath + configPath;
-			try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fullPath)) {
-				if (inputStream != null) {
-					logger.warn("Configuration loaded from fallback location: {}", fullPath);
-					return objectMapper.readTree(inputStream);
-				}
+			resource = getClass().getClassLoader().getResource(fullPath);
+			if (resource != null) {
+				logger.warn("Configuration loaded from fallback location: {}", fullPath);
+				return resource;
 			}
 		}
 
@@ -129,12 +219,21 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 		Path filePath = Paths.get(configPath);
 		if (Files.exists(filePath)) {
 			logger.warn("Configuration loaded from file system: {}", filePath);
-			return objectMapper.readTree(Files.newInputStream(filePath));
+			return filePath.toUri().toURL();
 		}
 
 		throw new IOException("Configuration resource not found: " + configPath);
 	}
 
+	/**
+	 * Parse configuration from a resolved location
+	 */
+	private JsonNode readConfiguration(URL location) throws IOException {
+		try (InputStream inputStream = location.openStream()) {
+			return objectMapper.readTree(inputStream);
+		}
+	}
+
 	/**
 	 * Create optimized ObjectMapper with performance settings
 	 */
@@ -147,21 +246,16 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 	}
 
 	/**
-	 * Get cached configuration if still valid
+	 * Get cached configuration; entries are kept valid by the file watcher
 	 */
 	private JsonNode getCachedConfiguration(String configPath) {
 		JsonNode cached = configurationCache.get(configPath);
 		if (cached == null) {
+			cacheMisses.incrementAndGet();
 			return null;
 		}
 
-		// Check if configuration file has been modified
-		if (isConfigurationModified(configPath)) {
-			logger.debug("Configuration file has been modified, cache invalidated: {}", configPath);
-			configurationCache.remove(configPath);
-			return null;
-		}
-
+		cacheHits.incrementAndGet();
 		logger.debug("Returning cached configuration: {}", configPath);
 		return cached;
 	}
@@ -171,29 +265,61 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 	 */
 	private void cacheConfiguration(String configPath, JsonNode config) {
 		configurationCache.put(configPath, config);
-		lastModifiedTimes.put(configPath, System.currentTimeMillis());
+		loadTimes.put(configPath, System.currentTimeMillis());
 	}
 
 	/**
-	 * Check if configuration file has been modified since last load
+	 * Watch the backing file when the configuration was loaded from disk
 	 */
-	private boolean isConfigurationModified(String configPath) {
-		Long lastModified = lastModifiedTimes.get(configPath);
-		if (lastModified == null) {
-			return true;
+	private void watchConfiguration(String configPath, URL location) {
+		if (!watchForChanges || !"file".equals(location.getProtocol())) {
+			return;
+		}
+		ConfigurationFileWatcher watcher = ConfigurationFileWatcher.shared();
+		if (watcher == null || watcher.isWatched(configPath, watchListener)) {
+			return;
 		}
 
 		try {
-			Path filePath = Paths.get(configPath);
-			if (Files.exists(filePath)) {
-				long fileLastModified = Files.getLastModifiedTime(filePath).toMillis();
-				return fileLastModified > lastModified;
-			}
-		} catch (IOException e) {
-			logger.debug("Error checking file modification time: {}", e.getMessage());
+			watcher.watch(configPath, Paths.get(location.toURI()), watchListener);
+			fileWatcher = watcher;
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			logger.warn("Unable to watch configuration {}: {}", configPath, e.getMessage());
 		}
+	}
 
-		return false;
+	/**
+	 * Drop a cached configuration after the watcher reported a change
+	 */
+	private void invalidateConfiguration(String configPath) {
+		if (configurationCache.remove(configPath) != null) {
+			invalidations.incrementAndGet();
+			logger.debug("Configuration file has been modified, cache invalidated: {}", configPath);
+		}
+		loadTimes.remove(configPath);
+	}
+
+	/**
+	 * Debounced reload callback fired by the watcher
+	 */
+	private void reloadWatchedConfiguration(String configPath) {
+		try {
+			JsonNode config = loadConfiguration(configPath);
+			reloads.incrementAndGet();
+			logger.info("Configuration reloaded after file change: {}", configPath);
+
+			for (ConfigurationReloadListener listener : reloadListeners) {
+				try {
+					listener.onConfigurationReloaded(configPath, config);
+				} catch (Exception e) {
+					logger.error("Configuration reload listener failed for {}", configPath, e);
+				}
+			}
+		} catch (ConfigurationException e) {
+			// Keep serving misses until the file becomes valid again
+			failedReloads.incrementAndGet();
+			logger.warn("Reload of modified configuration failed: {}", configPath, e);
+		}
 	}
 
 	/**
@@ -214,7 +340,8 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 	 */
 	public void clearCache() {
 		configurationCache.clear();
-		lastModifiedTimes.clear();
+		loadTimes.clear();
+		lastClearTime = System.currentTimeMillis();
 		logger.info("Configuration cache cleared");
 	}
 
@@ -224,16 +351,53 @@ public class DefaultConfigurationLoader implements ConfigurationLoader {
 	public Map<String, Object> getCacheStatistics() {
 		Map<String, Object> stats = new ConcurrentHashMap<>();
 		stats.put("cachedConfigurations", configurationCache.size());
+		stats.put("cacheHits", cacheHits.get());
+		stats.put("cacheMisses", cacheMisses.get());
 		stats.put("cacheHitRate", calculateCacheHitRate());
-		stats.put("lastClearTime", System.currentTimeMillis());
+		stats.put("invalidations", invalidations.get());
+		stats.put("reloads", reloads.get());
+		stats.put("failedReloads", failedReloads.get());
+		ConfigurationFileWatcher watcher = fileWatcher;
+		stats.put("watchingEnabled", watchForChanges);
+		stats.put("watchedDirectories", watcher != null ? watcher.getWatchedDirectoryCount() : 0);
+		stats.put("lastClearTime", lastClearTime);
+		stats.put("snapshot", snapshot.getStatistics());
 		return stats;
 	}
 
 	/**
-	 * Calculate cache hit rate (simplified implementation)
+	 * Stop receiving changes of watched configurations; the shared watcher keeps running
+	 */
+	@Override
+	public void close() {
+		ConfigurationFileWatcher watcher = fileWatcher;
+		if (watcher != null) {
+			watcher.unwatch(watchListener);
+			fileWatcher = null;
+		}
+	}
+
+	/**
+	 * Forwards the shared watcher's callbacks for this loader's configurations
+	 */
+	private final class WatchListener implements ConfigurationFileWatcher.Listener {
+		@Override
+		public void invalidate(String configPath) {
+			invalidateConfiguration(configPath);
+		}
+
+		@Override
+		public void reload(String configPath) {
+			reloadWatchedConfiguration(configPath);
+		}
+	}
+
+	/**
+	 * Calculate cache hit rate as a percentage of all lookups
 	 */
 	private double calculateCacheHitRate() {
-		// This would require hit/miss counters in a production implementation
-		return configurationCache.isEmpty() ? 0.0 : 85.0; // Placeholder
+		long hits = cacheHits.get();
+		long total = hits + cacheMisses.get();
+		return total == 0 ? 0.0 : (double) hits / total * 100;
 	}
 }
@@ -0,0 +1,396 @@
+package novus.config.config_loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import novus.config.config_interfaces.CustomExceptions.ConfigurationException;
+import pom.constant.Constants;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Unified layered configuration engine shared by every configuration facade
+ *
+ * Values are resolved once, in increasing order of precedence:
+ * defaults -> config.properties -> JSON files -> environment variables ->
+ * system properties. The effective values are flattened into an immutable
+ * table where each key maps to an array slot, so lookups are O(1) and callers
+ * on hot paths can keep the slot from {@link #indexOf(String)}.
+ *
+ * JSON scalars are keyed by their document name and dotted path (e.g.
+ * {@code run.execution.threadCount}); an environment variable overrides an
+ * existing key when its name is the upper-cased key with dots replaced by
+ * underscores (e.g. {@code RUN_EXECUTION_THREADCOUNT}). Structured values
+ * remain available through {@link #getNode(String)}.
+ */
+public final class LayeredConfiguration {
+	private static final Logger logger = LoggerFactory.getLogger(LayeredConfiguration.class);
+
+	public static final String WEB_DOCUMENT = "web";
+	public static final String RUN_DOCUMENT = "run";
+	public static final String APPLICATION_DOCUMENT = "application";
+
+	/**
+	 * Configuration layers in increasing order of precedence
+	 */
+	public enum Layer {
+		DEFAULTS, PROPERTIES, JSON, ENVIRONMENT, SYSTEM_PROPERTIES
+	}
+
+	// Shared instance and its loader
+	private static volatile LayeredConfiguration instance;
+	private static final Object INITIALIZATION_LOCK = new Object();
+	private static DefaultConfigurationLoader sharedLoader;
+
+	// Flattened effective value table
+	private final Map<String, Integer> keyIndex;
+	private final String[] values;
+	private final Layer[] layers;
+	private final Map<String, JsonNode> documents;
+	private final long buildTimeMicros;
+
+	private LayeredConfiguration(Map<String, String> effectiveValues, Map<String, Layer> effectiveLayers,
+			Map<String, JsonNode> documents, long buildTimeMicros) {
+		Map<String, Integer> index = new HashMap<>(effectiveValues.size() * 2);
+		this.values = new String[effectiveValues.size()];
+		this.layers = new Layer[effectiveValues.size()];
+
+		int slot = 0;
+		for (Map.Entry<String, String> entry : effectiveValues.entrySet()) {
+			index.put(entry.getKey(), slot);
+			values[slot] = entry.getValue();
+			layers[slot] = effectiveLayers.get(entry.getKey());
+			slot++;
+		}
+
+		this.keyIndex = Map.copyOf(index);
+		this.documents = Collections.unmodifiableMap(new LinkedHashMap<>(documents));
+		this.buildTimeMicros = buildTimeMicros;
+	}
+
+	/**
+	 * Get the shared configuration, building it on first access
+	 */
+	public static LayeredConfiguration getInstance() {
+		if (instance == null) {
+			synchronized (INITIALIZATION_LOCK) {
+				if (instance == null) {
+					instance = buildDefault();
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Rebuild the shared configuration, e.g. after files or system properties
+	 * changed. The loader's cached documents are dropped first, so every file
+	 * is read again. The previous table stays active if the rebuild fails.
+	 */
+	public static LayeredConfiguration reload() {
+		synchronized (INITIALIZATION_LOCK) {
+			getConfigurationLoader().clearCache();
+			instance = buildDefault();
+			return instance;
+		}
+	}
+
+	/**
+	 * Get the loader backing the shared configuration
+	 */
+	public static DefaultConfigurationLoader getConfigurationLoader() {
+		synchronized (INITIALIZATION_LOCK) {
+			if (sharedLoader == null) {
+				sharedLoader = new DefaultConfigurationLoader();
+				sharedLoader.addReloadListener((configPath, configuration) -> {
+					logger.info("Rebuilding layered configuration after change to {}", configPath);
+					try {
+						reload();
+					} catch (ConfigurationException e) {
+						logger.error("Layered configuration rebuild failed, keeping previous values", e);
+					}
+				});
+			}
+			return sharedLoader;
+		}
+	}
+
+	/**
+	 * Build a configuration from explicit layers, used for the standard
+	 * recipe and by callers holding their own documents
+	 */
+	public static LayeredConfiguration build(Map<String, String> defaults, Properties properties,
+			Map<String, JsonNode> documents, Map<String, String> environment, Properties systemProperties) {
+		long startTime = System.nanoTime();
+		Map<String, String> effectiveValues = new LinkedHashMap<>();
+		Map<String, Layer> effectiveLayers = new HashMap<>();
+
+		defaults.forEach((key, value) -> put(effectiveValues, effectiveLayers, key, value, Layer.DEFAULTS));
+		properties.stringPropertyNames().forEach(
+				key -> put(effectiveValues, effectiveLayers, key, properties.getProperty(key), Layer.PROPERTIES));
+		documents.forEach((name, document) -> flatten(name, document, effectiveValues, effectiveLayers));
+
+		// Environment variables only override keys that are already known
+		for (String key : effectiveValues.keySet().toArray(new String[0])) {
+			String value = environment.get(toEnvironmentName(key));
+			if (value != null) {
+				put(effectiveValues, effectiveLayers, key, value, Layer.ENVIRONMENT);
+			}
+		}
+
+		systemProperties.stringPropertyNames().forEach(key -> put(effectiveValues, effectiveLayers, key,
+				systemProperties.getProperty(key), Layer.SYSTEM_PROPERTIES));
+
+		long buildTime = (System.nanoTime() - startTime) / 1000;
+		return new LayeredConfiguration(effectiveValues, effectiveLayers, documents, buildTime);
+	}
+
+	// ===============================
+	// LOOKUPS
+	// ===============================
+
+	/**
+	 * Get slot for a key, or -1 if the key is not configured
+	 */
+	public int indexOf(String key) {
+		Integer slot = keyIndex.get(key);
+		return slot != null ? slot : -1;
+	}
+
+	/**
+	 * Get value by slot obtained from {@link #indexOf(String)}
+	 */
+	public String get(int slot) {
+		return slot >= 0 ? values[slot] : null;
+	}
+
+	/**
+	 * Get effective value of a key, or null if not configured
+	 */
+	public String get(String key) {
+		return get(indexOf(key));
+	}
+
+	/**
+	 * Get effective value of a key with default
+	 */
+	public String get(String key, String defaultValue) {
+		String value = get(key);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * Get effective integer value, accepting decimal values like Jackson does
+	 */
+	public int getInt(String key, int defaultValue) {
+		String value = get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			try {
+				return (int) Double.parseDouble(value.trim());
+			} catch (NumberFormatException ignored) {
+				logger.warn("Invalid integer value for {}: {}", key, value);
+				return defaultValue;
+			}
+		}
+	}
+
+	/**
+	 * Get effective boolean value; numeric values are true when non-zero
+	 */
+	public boolean getBoolean(String key, boolean defaultValue) {
+		String value = get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		String trimmed = value.trim();
+		if ("true".equalsIgnoreCase(trimmed)) {
+			return true;
+		}
+		if ("false".equalsIgnoreCase(trimmed)) {
+			return false;
+		}
+		try {
+			return Double.parseDouble(trimmed) != 0;
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Get value only if it was supplied as a system property
+	 */
+	public String getSystemOverride(String key) {
+		int slot = indexOf(key);
+		return slot >= 0 && layers[slot] == Layer.SYSTEM_PROPERTIES ? values[slot] : null;
+	}
+
+	/**
+	 * Get the layer that supplied the effective value of a key
+	 */
+	public Layer getSource(String key) {
+		int slot = indexOf(key);
+		return slot >= 0 ? layers[slot] : null;
+	}
+
+	/**
+	 * Get a JSON document by name (web, run or application)
+	 */
+	public JsonNode getDocument(String name) {
+		JsonNode document = documents.get(name);
+		return document != null ? document : MissingNode.getInstance();
+	}
+
+	/**
+	 * Get structured JSON node by dotted path. Paths without a document prefix
+	 * are resolved against web, run and application in that order.
+	 */
+	public JsonNode getNode(String path) {
+		String[] pathParts = path.split("\\.");
+		JsonNode currentNode = documents.get(pathParts[0]);
+
+		if (currentNode == null) {
+			// No document prefix, so the first segment is a top-level field
+			currentNode = MissingNode.getInstance();
+			for (JsonNode document : documents.values()) {
+				currentNode = document.path(pathParts[0]);
+				if (!currentNode.isMissingNode()) {
+					break;
+				}
+			}
+		}
+
+		for (int i = 1; i < pathParts.length; i++) {
+			currentNode = currentNode.path(pathParts[i]);
+		}
+		return currentNode;
+	}
+
+	/**
+	 * Get statistics for monitoring
+	 */
+	public Map<String, Object> getStatistics() {
+		Map<String, Integer> keysByLayer = new LinkedHashMap<>();
+		for (Layer layer : Layer.values()) {
+			keysByLayer.put(layer.name(), 0);
+		}
+		for (Layer layer : layers) {
+			keysByLayer.merge(layer.name(), 1, Integer::sum);
+		}
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("totalKeys", values.length);
+		stats.put("keysByLayer", keysByLayer);
+		stats.put("documents", documents.keySet());
+		stats.put("buildTimeMicros", buildTimeMicros);
+		return stats;
+	}
+
+	// ===============================
+	// PRIVATE HELPER METHODS
+	// ===============================
+
+	/**
+	 * Build the standard recipe used by the shared instance
+	 */
+	private static LayeredConfiguration buildDefault() {
+		DefaultConfigurationLoader loader = getConfigurationLoader();
+		Map<String, JsonNode> loaded = loader.loadConfigurations(DefaultConfigurationLoader.WEB_CONFIG_PATH,
+				DefaultConfigurationLoader.RUN_CONFIG_PATH, DefaultConfigurationLoader.APPLICATION_CONFIG_PATH);
+
+		Map<String, JsonNode> documents = new LinkedHashMap<>();
+		documents.put(WEB_DOCUMENT, loaded.get(DefaultConfigurationLoader.WEB_CONFIG_PATH));
+		documents.put(RUN_DOCUMENT, loaded.get(DefaultConfigurationLoader.RUN_CONFIG_PATH));
+		documents.put(APPLICATION_DOCUMENT, loaded.get(DefaultConfigurationLoader.APPLICATION_CONFIG_PATH));
+
+		LayeredConfiguration configuration = build(createDefaults(), loadProperties(), documents, System.getenv(),
+				System.getProperties());
+		logger.info("Layered configuration built: {}", configuration.getStatistics());
+		return configuration;
+	}
+
+	/**
+	 * Framework defaults used when no other layer supplies a value
+	 */
+	private static Map<String, String> createDefaults() {
+		Map<String, String> defaults = new LinkedHashMap<>();
+		defaults.put("app.base.url", Constants.BASE_URL);
+		defaults.put("browser.default", Constants.DEFAULT_BROWSER);
+		defaults.put("timeout.implicit", String.valueOf(Constants.IMPLICIT_WAIT_TIMEOUT));
+		defaults.put("timeout.explicit", String.valueOf(Constants.EXPLICIT_WAIT_TIMEOUT));
+		defaults.put("timeout.page.load", String.valueOf(Constants.PAGE_LOAD_TIMEOUT));
+		defaults.put("testdata.valid.username", Constants.VALID_USERNAME);
+		defaults.put("testdata.valid.password", Constants.VALID_PASSWORD);
+		return defaults;
+	}
+
+	/**
+	 * Load the properties file layer, which is optional
+	 */
+	private static Properties loadProperties() {
+		Properties properties = new Properties();
+		Path propertiesFile = Paths.get(Constants.CONFIG_FILE_PATH);
+
+		if (Files.exists(propertiesFile)) {
+			try (InputStream inputStream = Files.newInputStream(propertiesFile)) {
+				properties.load(inputStream);
+				logger.info("Configuration properties loaded successfully from: {}", propertiesFile);
+			} catch (IOException e) {
+				logger.error("Failed to load configuration properties: {}", e.getMessage());
+			}
+		} else {
+			logger.info("No configuration properties file at {}, using defaults", propertiesFile);
+		}
+		return properties;
+	}
+
+	/**
+	 * Flatten JSON scalars into dotted keys prefixed with the document name
+	 */
+	private static void flatten(String prefix, JsonNode node, Map<String, String> effectiveValues,
+			Map<String, Layer> effectiveLayers) {
+		if (node == null) {
+			return;
+		}
+
+		if (node.isObject()) {
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				flatten(prefix + "." + field.getKey(), field.getValue(), effectiveValues, effectiveLayers);
+			}
+		} else if (node.isValueNode() && !node.isNull()) {
+			put(effectiveValues, effectiveLayers, prefix, node.asText(), Layer.JSON);
+		}
+	}
+
+	private static void put(Map<String, String> effectiveValues, Map<String, Layer> effectiveLayers, String key,
+			String value, Layer layer) {
+		effectiveValues.put(key, value);
+		effectiveLayers.put(key, layer);
+	}
+
+	private static String toEnvironmentName(String key) {
+		return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+	}
+}
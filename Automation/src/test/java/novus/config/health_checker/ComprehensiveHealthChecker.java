@@ -13,7 +13,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.net.ConnectException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -23,21 +27,53 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Comprehensive system health checker with configurable health checks
+ *
+ * The latest {@link HealthStatus} is cached for a configurable TTL. Once it
+ * expires the stale status is still served while a single background refresh
+ * runs; only {@link #performHealthCheck()} refreshes synchronously. A
+ * refresh only publishes its status if no refresh started later has
+ * published already, and adding or removing a check discards the cache.
+ *
+ * Checks run on a small dedicated executor rather than the common pool, and
+ * each check has its own deadline: a check that misses it is reported as
+ * DEGRADED so one slow probe cannot hold back the whole status. A check past
+ * its deadline is interrupted, or dropped if it has not started, so late
+ * checks do not pile up behind a stuck browser or host.
  */
 public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	private static final Logger logger = LoggerFactory.getLogger(ComprehensiveHealthChecker.class);
 
 	// Health check constants
 	private static final long HEALTH_CHECK_TIMEOUT_MS = 10000; // 10 seconds
+	private static final long CHECK_TIMEOUT_MS = 3000; // 3 seconds per check
 	private static final double MEMORY_WARNING_THRESHOLD = 80.0; // 80%
 	private static final double MEMORY_CRITICAL_THRESHOLD = 90.0; // 90%
 	private static final long DISK_WARNING_THRESHOLD_GB = 1; // 1 GB
 	private static final long DISK_CRITICAL_THRESHOLD_GB = 0; // 500 MB
-	private static final int NETWORK_TIMEOUT_MS = 5000; // 5 seconds
+	private static final int NETWORK_TIMEOUT_MS = 2000; // 2 seconds per TCP connect
+	private static final int DEFAULT_PROBE_PORT = 443;
+	private static final long DNS_CACHE_TTL_MS = 300000; // 5 minutes
+	private static final int CHECK_THREADS = 4;
+	private static final int CHECK_QUEUE_CAPACITY = 64;
+	public static final long DEFAULT_CACHE_TTL_MS = 30000; // 30 seconds
 
 	// Registered health checks
 	private final Map<String, HealthCheck> customHealthChecks = new ConcurrentHashMap<>();
@@ -48,6 +84,37 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	private final boolean enableMemoryChecks;
 	private final List<String> networkHosts;
 	private final List<String> criticalDirectories;
+	private final long cacheTtlMs;
+
+	// Cached status and background refresh
+	private final AtomicReference<CachedStatus> cachedStatus = new AtomicReference<>(CachedStatus.EMPTY);
+	private final Object refreshLock = new Object();
+	private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+	private volatile Thread shutdownHook;
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "HealthCheck-Refresh");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// Bounded executor for blocking check I/O, kept off the common ForkJoinPool
+	private static final AtomicInteger checkThreadCounter = new AtomicInteger();
+	private final ExecutorService checkExecutor = new ThreadPoolExecutor(CHECK_THREADS, CHECK_THREADS, 60L,
+			TimeUnit.SECONDS, new ArrayBlockingQueue<>(CHECK_QUEUE_CAPACITY), r -> {
+				Thread t = new Thread(r, "HealthCheck-" + checkThreadCounter.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			});
+
+	// Resolved network hosts, so probes do not pay for DNS on every refresh
+	private final Map<String, ResolvedHost> dnsCache = new ConcurrentHashMap<>();
+
+	// Cache statistics
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong staleServes = new AtomicLong();
+	private final AtomicLong backgroundRefreshes = new AtomicLong();
+	private final AtomicLong synchronousRefreshes = new AtomicLong();
+	private final AtomicLong degradedChecks = new AtomicLong();
 
 	public ComprehensiveHealthChecker() {
 		this(true, true, true, getDefaultNetworkHosts(), getDefaultCriticalDirectories());
@@ -55,18 +122,118 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 
 	public ComprehensiveHealthChecker(boolean enableNetworkChecks, boolean enableDiskChecks, boolean enableMemoryChecks,
 			List<String> networkHosts, List<String> criticalDirectories) {
+		this(enableNetworkChecks, enableDiskChecks, enableMemoryChecks, networkHosts, criticalDirectories,
+				Long.getLong("health.cache.ttl.ms", DEFAULT_CACHE_TTL_MS));
+	}
+
+	public ComprehensiveHealthChecker(boolean enableNetworkChecks, boolean enableDiskChecks, boolean enableMemoryChecks,
+			List<String> networkHosts, List<String> criticalDirectories, long cacheTtlMs) {
 		this.enableNetworkChecks = enableNetworkChecks;
 		this.enableDiskChecks = enableDiskChecks;
 		this.enableMemoryChecks = enableMemoryChecks;
 		this.networkHosts = new ArrayList<>(networkHosts);
 		this.criticalDirectories = new ArrayList<>(criticalDirectories);
+		this.cacheTtlMs = cacheTtlMs;
+		((ThreadPoolExecutor) checkExecutor).allowCoreThreadTimeOut(true);
 
-		logger.info("Health checker initialized - Network: {}, Disk: {}, Memory: {}", enableNetworkChecks,
-				enableDiskChecks, enableMemoryChecks);
+		logger.info("Health checker initialized - Network: {}, Disk: {}, Memory: {}, Cache TTL: {}ms",
+				enableNetworkChecks, enableDiskChecks, enableMemoryChecks, cacheTtlMs);
 	}
 
+	/**
+	 * Run all health checks now and update the cached status
+	 */
 	@Override
 	public HealthStatus performHealthCheck() {
+		synchronousRefreshes.incrementAndGet();
+		return refreshHealthStatus();
+	}
+
+	/**
+	 * Get the cached health status. An expired status is returned as is while
+	 * a background refresh runs; checks only block when nothing is cached yet.
+	 */
+	public HealthStatus getHealthStatus() {
+		HealthStatus status = cachedStatus.get().status;
+		if (status == null) {
+			synchronized (refreshLock) {
+				status = cachedStatus.get().status;
+				if (status == null) {
+					return refreshHealthStatus();
+				}
+			}
+		}
+
+		if (status.getAgeMs() < cacheTtlMs) {
+			cacheHits.incrementAndGet();
+		} else {
+			staleServes.incrementAndGet();
+			scheduleBackgroundRefresh();
+		}
+		return status;
+	}
+
+	/**
+	 * Get age of the cached health status, or -1 if no check has run yet
+	 */
+	public long getHealthStatusAgeMs() {
+		HealthStatus status = cachedStatus.get().status;
+		return status != null ? status.getAgeMs() : -1;
+	}
+
+	/**
+	 * Refresh the cached status asynchronously unless a refresh is running
+	 */
+	private void scheduleBackgroundRefresh() {
+		if (!refreshInProgress.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					backgroundRefreshes.incrementAndGet();
+					refreshHealthStatus();
+				} catch (Exception e) {
+					logger.error("Background health check refresh failed, keeping previous status", e);
+				} finally {
+					refreshInProgress.set(false);
+				}
+			});
+		} catch (Exception e) {
+			refreshInProgress.set(false);
+			logger.warn("Unable to schedule background health check refresh: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Run all health checks and publish the result to the cache unless a
+	 * refresh started later, or an invalidation, got there first
+	 */
+	private HealthStatus refreshHealthStatus() {
+		long startedNanos = System.nanoTime();
+		HealthStatus status = runHealthChecks();
+		CachedStatus published = new CachedStatus(status, startedNanos);
+		CachedStatus current;
+		do {
+			current = cachedStatus.get();
+			if (current.startedNanos - startedNanos > 0) {
+				logger.debug("Discarding health status superseded by a newer refresh");
+				return status;
+			}
+		} while (!cachedStatus.compareAndSet(current, published));
+		return status;
+	}
+
+	/**
+	 * Drop the cached status and any refresh running now, so the next
+	 * lookup reflects the current set of checks
+	 */
+	private void invalidateHealthStatus() {
+		cachedStatus.set(new CachedStatus(null, System.nanoTime()));
+	}
+
+	private HealthStatus runHealthChecks() {
 		long startTime = System.currentTimeMillis();
 		List<HealthCheckResult> results = new ArrayList<>();
 
@@ -76,24 +243,24 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 		List<CompletableFuture<HealthCheckResult>> futures = new ArrayList<>();
 
 		if (enableMemoryChecks) {
-			futures.add(CompletableFuture.supplyAsync(this::checkMemoryUsage));
+			futures.add(submitCheck("memory", this::checkMemoryUsage));
 		}
 
 		if (enableDiskChecks) {
-			futures.add(CompletableFuture.supplyAsync(this::checkDiskSpace));
+			futures.add(submitCheck("disk", this::checkDiskSpace));
 		}
 
 		if (enableNetworkChecks) {
-			futures.add(CompletableFuture.supplyAsync(this::checkNetworkConnectivity));
+			futures.add(withDeadline("network", checkNetworkConnectivity()));
 		}
 
 		// Add system-specific checks
-		futures.add(CompletableFuture.supplyAsync(this::checkJvmHealth));
-		futures.add(CompletableFuture.supplyAsync(this::checkFileSystemPermissions));
+		futures.add(submitCheck("jvm", this::checkJvmHealth));
+		futures.add(submitCheck("filesystem", this::checkFileSystemPermissions));
 
 		// Run custom health checks
 		customHealthChecks.forEach((name, healthCheck) -> {
-			futures.add(CompletableFuture.supplyAsync(() -> {
+			futures.add(submitCheck(name, () -> {
 				try {
 					return healthCheck.check();
 				} catch (Exception e) {
@@ -103,9 +270,9 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 			}));
 		});
 
-		// Wait for all checks to complete with timeout
+		// Every future completes by its own deadline; the overall timeout is a safety net
 		try {
-			CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+			CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
 
 			allFutures.get(HEALTH_CHECK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
 
@@ -129,23 +296,84 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 
 		HealthStatus status = new HealthStatus(overallHealthy, results, totalTime);
 
-		logger.info("Health check completed in {}ms - Status: {}", totalTime, overallHealthy ? "HEALTHY" : "UNHEALTHY");
+		logger.info("Health check completed in {}ms - Status: {}", totalTime,
+				!overallHealthy ? "UNHEALTHY" : status.isDegraded() ? "DEGRADED" : "HEALTHY");
 
 		if (!overallHealthy) {
 			logger.warn("Health issues detected: {}", status.getIssues());
 		}
+		if (status.isDegraded()) {
+			logger.warn("Health checks degraded: {}", status.getDegradedChecks());
+		}
 
 		return status;
 	}
 
+	/**
+	 * Run a blocking check on the health check executor with its own deadline
+	 */
+	private CompletableFuture<HealthCheckResult> submitCheck(String name, Supplier<HealthCheckResult> check) {
+		try {
+			return withDeadline(name, supplyInterruptibly(check));
+		} catch (RejectedExecutionException e) {
+			degradedChecks.incrementAndGet();
+			return CompletableFuture.completedFuture(
+					HealthCheckResult.degraded(name, "Check skipped: health check executor saturated", 0));
+		}
+	}
+
+	/**
+	 * Run a blocking task on the health check executor; a deadline or cancel
+	 * completing the returned future first interrupts the task, or removes it
+	 * from the queue if it has not started
+	 * @throws RejectedExecutionException if the executor is saturated
+	 */
+	private <T> CompletableFuture<T> supplyInterruptibly(Supplier<T> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Future<?> running = checkExecutor.submit(() -> {
+			try {
+				result.complete(task.get());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		result.whenComplete((value, error) -> {
+			if (error instanceof TimeoutException || error instanceof CancellationException) {
+				running.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Report a check as DEGRADED if it does not finish within its deadline
+	 */
+	private CompletableFuture<HealthCheckResult> withDeadline(String name,
+			CompletableFuture<HealthCheckResult> future) {
+		long startTime = System.currentTimeMillis();
+		return future.orTimeout(CHECK_TIMEOUT_MS, TimeUnit.MILLISECONDS).exceptionally(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null
+					? e.getCause()
+					: e;
+			if (cause instanceof TimeoutException) {
+				degradedChecks.incrementAndGet();
+				return HealthCheckResult.degraded(name,
+						String.format("Check did not complete within %dms", CHECK_TIMEOUT_MS),
+						System.currentTimeMillis() - startTime);
+			}
+			logger.error("Health check '{}' failed", name, cause);
+			return HealthCheckResult.unhealthy(name, "Check execution failed: " + cause.getMessage());
+		});
+	}
+
 	@Override
 	public boolean isSystemHealthy() {
-		return performHealthCheck().isHealthy();
+		return getHealthStatus().isHealthy();
 	}
 
 	@Override
 	public List<String> getHealthIssues() {
-		return performHealthCheck().getIssues();
+		return getHealthStatus().getIssues();
 	}
 
 	@Override
@@ -158,6 +386,7 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 		}
 
 		customHealthChecks.put(name, check);
+		invalidateHealthStatus();
 		logger.info("Registered custom health check: {}", name);
 	}
 
@@ -274,31 +503,34 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	}
 
 	/**
-	 * Check network connectivity
+	 * Check network connectivity with parallel TCP connect probes
 	 */
-	private HealthCheckResult checkNetworkConnectivity() {
+	private CompletableFuture<HealthCheckResult> checkNetworkConnectivity() {
 		long startTime = System.currentTimeMillis();
-		Map<String, Object> details = new HashMap<>();
-		List<String> unreachableHosts = new ArrayList<>();
+		Map<String, CompletableFuture<Map<String, Object>>> probes = new HashMap<>();
 
-		try {
-			for (String host : networkHosts) {
-				try {
-					long hostStartTime = System.currentTimeMillis();
-					boolean reachable = InetAddress.getByName(host).isReachable(NETWORK_TIMEOUT_MS);
-					long responseTime = System.currentTimeMillis() - hostStartTime;
+		for (String host : networkHosts) {
+			CompletableFuture<Map<String, Object>> probe;
+			try {
+				probe = supplyInterruptibly(() -> probeHost(host));
+			} catch (RejectedExecutionException e) {
+				probe = CompletableFuture.completedFuture(Map.of("reachable", false, "error", "executor saturated"));
+			}
+			probes.put(host, probe);
+		}
 
-					details.put(host + "_reachable", reachable);
-					details.put(host + "_responseTimeMs", responseTime);
+		CompletableFuture<Void> allProbes = CompletableFuture.allOf(probes.values().toArray(new CompletableFuture<?>[0]));
+		CompletableFuture<HealthCheckResult> check = allProbes.thenApply(ignored -> {
+			Map<String, Object> details = new HashMap<>();
+			List<String> unreachableHosts = new ArrayList<>();
 
-					if (!reachable) {
-						unreachableHosts.add(host);
-					}
-				} catch (Exception e) {
+			probes.forEach((host, probe) -> {
+				Map<String, Object> probeResult = probe.join();
+				probeResult.forEach((key, value) -> details.put(host + "_" + key, value));
+				if (!Boolean.TRUE.equals(probeResult.get("reachable"))) {
 					unreachableHosts.add(host);
-					details.put(host + "_error", e.getMessage());
 				}
-			}
+			});
 
 			long executionTime = System.currentTimeMillis() - startTime;
 
@@ -311,11 +543,96 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 			return new HealthCheckResult(true, "network",
 					String.format("Network connectivity verified for %d hosts", networkHosts.size()), executionTime,
 					details);
+		});
+		// The deadline completes the check itself; stop the probes still running
+		check.whenComplete((result, error) -> {
+			if (error != null) {
+				probes.values().forEach(probe -> probe.cancel(true));
+			}
+		});
+		return check;
+	}
+
+	/**
+	 * Probe a single host with a TCP connect. Hosts are given as host,
+	 * host:port or [IPv6 literal]:port, on port 443 by default; only a
+	 * completed connect counts as reachable.
+	 */
+	private Map<String, Object> probeHost(String hostSpec) {
+		Map<String, Object> result = new HashMap<>();
+		long hostStartTime = System.currentTimeMillis();
+		String host = hostSpec;
+
+		try (Socket socket = new Socket()) {
+			int port = DEFAULT_PROBE_PORT;
+			if (hostSpec.startsWith("[")) {
+				int end = hostSpec.indexOf(']');
+				host = hostSpec.substring(1, end);
+				if (hostSpec.length() > end + 1) {
+					port = Integer.parseInt(hostSpec.substring(end + 2));
+				}
+			} else if (hostSpec.indexOf(':') == hostSpec.lastIndexOf(':') && hostSpec.indexOf(':') > 0) {
+				// One colon separates the port; more make a bare IPv6 literal
+				host = hostSpec.substring(0, hostSpec.indexOf(':'));
+				port = Integer.parseInt(hostSpec.substring(hostSpec.indexOf(':') + 1));
+			}
 
+			socket.connect(new InetSocketAddress(resolveHost(host), port), NETWORK_TIMEOUT_MS);
+			result.put("reachable", true);
+		} catch (ConnectException e) {
+			// Refused and "network is unreachable" alike: nothing answered on the port
+			result.put("reachable", false);
+			result.put("error", String.valueOf(e.getMessage()));
+		} catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+			result.put("reachable", false);
+			result.put("error", "Invalid host specification: " + hostSpec);
 		} catch (Exception e) {
-			logger.error("Error checking network connectivity", e);
-			return new HealthCheckResult(false, "network", "Network check failed: " + e.getMessage(),
-					System.currentTimeMillis() - startTime, details);
+			result.put("reachable", false);
+			result.put("error", String.valueOf(e.getMessage()));
+			// Resolve again next time in case the address changed
+			dnsCache.remove(host);
+		}
+
+		result.put("responseTimeMs", System.currentTimeMillis() - hostStartTime);
+		return result;
+	}
+
+	/**
+	 * Resolve host through the DNS cache
+	 */
+	private InetAddress resolveHost(String host) throws UnknownHostException {
+		ResolvedHost cached = dnsCache.get(host);
+		if (cached != null && System.currentTimeMillis() - cached.resolvedAt < DNS_CACHE_TTL_MS) {
+			return cached.address;
+		}
+
+		InetAddress address = InetAddress.getByName(host);
+		dnsCache.put(host, new ResolvedHost(address, System.currentTimeMillis()));
+		return address;
+	}
+
+	/**
+	 * Published status with the time its refresh started, newest wins
+	 */
+	private static final class CachedStatus {
+		private static final CachedStatus EMPTY = new CachedStatus(null, System.nanoTime());
+
+		private final HealthStatus status;
+		private final long startedNanos;
+
+		private CachedStatus(HealthStatus status, long startedNanos) {
+			this.status = status;
+			this.startedNanos = startedNanos;
+		}
+	}
+
+	private static final class ResolvedHost {
+		private final InetAddress address;
+		private final long resolvedAt;
+
+		private ResolvedHost(InetAddress address, long resolvedAt) {
+			this.address = address;
+			this.resolvedAt = resolvedAt;
 		}
 	}
 
@@ -459,10 +776,11 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	}
 
 	/**
-	 * Get default network hosts to check
+	 * Get default network hosts to check; loopback is left out since it
+	 * says nothing about the network
 	 */
 	private static List<String> getDefaultNetworkHosts() {
-		return List.of("google.com", "github.com", "localhost");
+		return List.of("google.com", "github.com");
 	}
 
 	/**
@@ -483,6 +801,15 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 		stats.put("networkHosts", networkHosts.size());
 		stats.put("criticalDirectories", criticalDirectories.size());
 		stats.put("healthCheckTimeoutMs", HEALTH_CHECK_TIMEOUT_MS);
+		stats.put("cacheTtlMs", cacheTtlMs);
+		stats.put("cachedStatusAgeMs", getHealthStatusAgeMs());
+		stats.put("cacheHits", cacheHits.get());
+		stats.put("staleServes", staleServes.get());
+		stats.put("backgroundRefreshes", backgroundRefreshes.get());
+		stats.put("synchronousRefreshes", synchronousRefreshes.get());
+		stats.put("checkTimeoutMs", CHECK_TIMEOUT_MS);
+		stats.put("degradedChecks", degradedChecks.get());
+		stats.put("cachedDnsEntries", dnsCache.size());
 
 		return stats;
 	}
@@ -493,6 +820,7 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	public boolean removeHealthCheck(String name) {
 		boolean removed = customHealthChecks.remove(name) != null;
 		if (removed) {
+			invalidateHealthStatus();
 			logger.info("Removed custom health check: {}", name);
 		}
 		return removed;
@@ -504,4 +832,33 @@ public class ComprehensiveHealthChecker implements SystemHealthChecker {
 	public List<String> getRegisteredHealthCheckNames() {
 		return new ArrayList<>(customHealthChecks.keySet());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Shut down the checker's executors when the JVM exits
+	 */
+	public synchronized void registerShutdownHook() {
+		if (shutdownHook == null) {
+			shutdownHook = new Thread(this::shutdown, "HealthCheck-ShutdownHook");
+			Runtime.getRuntime().addShutdownHook(shutdownHook);
+			logger.debug("Health checker shutdown hook registered");
+		}
+	}
+
+	/**
+	 * Stop the refresh and check executors; running checks are interrupted
+	 */
+	public synchronized void shutdown() {
+		refreshExecutor.shutdownNow();
+		checkExecutor.shutdownNow();
+		Thread hook = shutdownHook;
+		if (hook != null && Thread.currentThread() != hook) {
+			try {
+				Runtime.getRuntime().removeShutdownHook(hook);
+			} catch (IllegalStateException e) {
+				// JVM already shutting down
+			}
+		}
+		shutdownHook = null;
+		logger.debug("Health checker executors shut down");
+	}
+}
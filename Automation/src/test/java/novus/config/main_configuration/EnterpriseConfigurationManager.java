@@ -20,7 +20,7 @@ import novus.config.config_interfaces.ResourceManager;
 import novus.config.config_interfaces.CustomExceptions.ConfigurationException;
 import novus.config.config_interfaces.CustomExceptions.DriverCreationException;
 import novus.config.config_loader.ConfigurationPropertiesProvider;
-import novus.config.config_loader.DefaultConfigurationLoader;
+import novus.config.config_loader.LayeredConfiguration;
 import novus.config.health_checker.ComprehensiveHealthChecker;
 import novus.config.models.DriverConfiguration;
 import novus.config.models.HealthStatus;
@@ -28,6 +28,7 @@ import novus.config.models.PerformanceConfiguration;
 import novus.config.models.ProxyConfiguration;
 import novus.config.models.SecurityConfiguration;
 import novus.config.models.TimeoutConfiguration;
+import novus.config.resource_manager.BrowserResourceMonitor;
 import novus.config.resource_manager.EnterpriseResourceManager;
 import novus.config.webdriver_factory.EnhancedWebDriverFactory;
 
@@ -74,11 +75,6 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 	private final BrowserConfigHelper browserConfigHelper;
 	private final ConfigurationPropertiesProvider configProvider;
 
-	// Configuration holders
-	private volatile JsonNode webConfig;
-	private volatile JsonNode runConfig;
-	private volatile JsonNode applicationConfig;
-
 	// Runtime state
 	private final long initializationStartTime;
 	private volatile boolean isHealthy = true;
@@ -95,7 +91,7 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 
 		try {
 			// Initialize core components
-			this.configLoader = new DefaultConfigurationLoader();
+			this.configLoader = LayeredConfiguration.getConfigurationLoader();
 			this.resourceManager = new EnterpriseResourceManager();
 			this.resourceManager.registerShutdownHook();
 
@@ -103,11 +99,14 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 			loadConfigurations();
 
 			// Initialize components with configurations
-			this.configProvider = new ConfigurationPropertiesProvider(webConfig, runConfig, applicationConfig);
+			this.configProvider = new ConfigurationPropertiesProvider();
 //			this.propertiesProvider = this.configProvider;
 			this.webDriverFactory = new EnhancedWebDriverFactory(getRemoteWebDriverUrl());
 //			this.databaseManager = new EnhancedDatabaseManager(applicationConfig.path("database"));
-			this.healthChecker = new ComprehensiveHealthChecker();
+			ComprehensiveHealthChecker comprehensiveHealthChecker = new ComprehensiveHealthChecker();
+			comprehensiveHealthChecker.registerShutdownHook();
+			this.healthChecker = comprehensiveHealthChecker;
+			this.healthChecker.registerHealthCheck("browser-resources", BrowserResourceMonitor.getInstance());
 
 			// Perform initial health check
 			performInitialHealthCheck();
@@ -162,6 +161,11 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 	    long startTime = System.currentTimeMillis();
 
 	    try {
+	        // Acquiring a driver is a safe point to replace over-budget browsers no test is using
+	        if (resourceManager instanceof EnterpriseResourceManager) {
+	            ((EnterpriseResourceManager) resourceManager).releaseOverBudgetDrivers();
+	        }
+
 	        DriverConfiguration config = buildDriverConfiguration(customCapabilities);
 	        WebDriver driver = webDriverFactory.createDriver(config);
 
@@ -169,7 +173,10 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 	        String resourceKey = "webdriver-" + Thread.currentThread().threadId() + "-" + System.currentTimeMillis();
 	        
 	        // Handle WebDriver registration with proper AutoCloseable handling
-	        if (driver instanceof AutoCloseable) {
+	        if (resourceManager instanceof EnterpriseResourceManager) {
+	            // Also tracks the browser process tree for resource accounting
+	            ((EnterpriseResourceManager) resourceManager).registerWebDriver(resourceKey, driver);
+	        } else if (driver instanceof AutoCloseable) {
 	            resourceManager.registerResource(resourceKey, (AutoCloseable) driver);
 	        } else {
 	            // Create wrapper for cases where WebDriver doesn't properly implement AutoCloseable
@@ -231,8 +238,7 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 	 * Check if system is ready for test execution
 	 */
 	public boolean isReadyForExecution() {
-		return isHealthy && webConfig != null && runConfig != null && applicationConfig != null
-				&& healthChecker.isSystemHealthy();
+		return isHealthy && documentsLoaded(LayeredConfiguration.getInstance()) && healthChecker.isSystemHealthy();
 	}
 
 	/**
@@ -415,6 +421,7 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 		logger.info("Reloading configurations...");
 
 		try {
+			LayeredConfiguration.reload();
 			loadConfigurations();
 			performInitialHealthCheck();
 			logger.info("Configuration reload completed successfully");
@@ -491,6 +498,9 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 			quitAllDrivers();
 //			closeAllDatabaseConnections();
 			resourceManager.releaseAllResources();
+			if (healthChecker instanceof ComprehensiveHealthChecker) {
+				((ComprehensiveHealthChecker) healthChecker).shutdown();
+			}
 
 			this.isHealthy = false;
 			logger.info("Enterprise Configuration Manager shutdown completed");
@@ -505,15 +515,17 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 	// ===============================
 
 	/**
-	 * Load all configuration files
+	 * Check that the shared layered configuration holds all configuration
+	 * files. Documents are not kept here, lookups read the shared instance so
+	 * reloads are seen at once.
 	 */
 	private void loadConfigurations() throws ConfigurationException {
 		try {
 			logger.debug("Loading configuration files...");
 
-			webConfig = configLoader.loadConfiguration(DefaultConfigurationLoader.WEB_CONFIG_PATH);
-			runConfig = configLoader.loadConfiguration(DefaultConfigurationLoader.RUN_CONFIG_PATH);
-			applicationConfig = configLoader.loadConfiguration(DefaultConfigurationLoader.APPLICATION_CONFIG_PATH);
+			if (!documentsLoaded(LayeredConfiguration.getInstance())) {
+				throw new ConfigurationException("Web, run or application configuration is missing");
+			}
 
 			logger.info("All configurations loaded successfully");
 
@@ -523,6 +535,12 @@ public class EnterpriseConfigurationManager implements ConfigurationProperties {
 		}
 	}
 
+	private static boolean documentsLoaded(LayeredConfiguration configuration) {
+		return !configuration.getDocument(LayeredConfiguration.WEB_DOCUMENT).isMissingNode()
+				&& !configuration.getDocument(LayeredConfiguration.RUN_DOCUMENT).isMissingNode()
+				&& !configuration.getDocument(LayeredConfiguration.APPLICATION_DOCUMENT).isMissingNode();
+	}
+
 	/**
 	 * Build driver configuration from current settings
 	 */
@@ -8,7 +8,16 @@ import java.util.Map;
  * Health check result model
  */
 public final class HealthCheckResult {
-	private final boolean healthy;
+
+	/**
+	 * Outcome of a single check; DEGRADED checks did not finish in time and do
+	 * not fail the overall status
+	 */
+	public enum Status {
+		HEALTHY, DEGRADED, UNHEALTHY
+	}
+
+	private final Status status;
 	private final String name;
 	private final String message;
 	private final long executionTimeMs;
@@ -16,7 +25,12 @@ public final class HealthCheckResult {
 
 	public HealthCheckResult(boolean healthy, String name, String message, long executionTimeMs,
 			Map<String, Object> details) {
-		this.healthy = healthy;
+		this(healthy ? Status.HEALTHY : Status.UNHEALTHY, name, message, executionTimeMs, details);
+	}
+
+	public HealthCheckResult(Status status, String name, String message, long executionTimeMs,
+			Map<String, Object> details) {
+		this.status = status;
 		this.name = name;
 		this.message = message;
 		this.executionTimeMs = executionTimeMs;
@@ -31,9 +45,21 @@ public final class HealthCheckResult {
 		return new HealthCheckResult(false, name, message, 0, new HashMap<>());
 	}
 
+	public static HealthCheckResult degraded(String name, String message, long executionTimeMs) {
+		return new HealthCheckResult(Status.DEGRADED, name, message, executionTimeMs, new HashMap<>());
+	}
+
 	// Getters
 	public boolean isHealthy() {
-		return healthy;
+		return status != Status.UNHEALTHY;
+	}
+
+	public boolean isDegraded() {
+		return status == Status.DEGRADED;
+	}
+
+	public Status getStatus() {
+		return status;
 	}
 
 	public String getName() {
@@ -11,11 +11,18 @@ public final class HealthStatus {
 	private final boolean healthy;
 	private final List<HealthCheckResult> results;
 	private final long totalExecutionTimeMs;
+	private final long completedAtMs;
 
 	public HealthStatus(boolean healthy, List<HealthCheckResult> results, long totalExecutionTimeMs) {
+		this(healthy, results, totalExecutionTimeMs, System.currentTimeMillis());
+	}
+
+	public HealthStatus(boolean healthy, List<HealthCheckResult> results, long totalExecutionTimeMs,
+			long completedAtMs) {
 		this.healthy = healthy;
 		this.results = Collections.unmodifiableList(results);
 		this.totalExecutionTimeMs = totalExecutionTimeMs;
+		this.completedAtMs = completedAtMs;
 	}
 
 	// Getters
@@ -31,6 +38,28 @@ public final class HealthStatus {
 		return totalExecutionTimeMs;
 	}
 
+	public long getCompletedAtMs() {
+		return completedAtMs;
+	}
+
+	/**
+	 * Get time elapsed since this status was produced
+	 */
+	public long getAgeMs() {
+		return System.currentTimeMillis() - completedAtMs;
+	}
+
+	public boolean isDegraded() {
+		return results.stream().anyMatch(HealthCheckResult::isDegraded);
+	}
+
+	public List<String> getDegradedChecks() {
+		return results.stream()
+			.filter(HealthCheckResult::isDegraded)
+			.map(result -> result.getName() + ": " + result.getMessage())
+			.collect(Collectors.toList());
+	}
+
 	public List<String> getIssues() {
 	    return results.stream()
 	        .filter(result -> !result.isHealthy())
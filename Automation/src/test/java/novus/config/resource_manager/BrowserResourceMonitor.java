@@ -0,0 +1,435 @@
+package novus.config.resource_manager;
+
+import novus.config.config_interfaces.HealthCheck;
+import novus.config.models.HealthCheckResult;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Per-browser process resource accounting on Linux
+ *
+ * Each tracked local driver session is mapped to its driver service process
+ * (chromedriver, geckodriver, msedgedriver) by the port the service listens
+ * on; the browser processes are that service's descendants. The whole tree is
+ * sampled from /proc for resident memory (VmRSS), CPU time and open file
+ * descriptors; CPU ticks are converted with the host's CLK_TCK.
+ * Sessions whose tree exceeds the RSS ceiling are handed to their recycle
+ * action, which runs on the sampler thread while the session may still be
+ * in use and so should only flag it. Remote sessions and non-Linux hosts are not tracked.
+ */
+public class BrowserResourceMonitor implements HealthCheck, AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(BrowserResourceMonitor.class);
+
+	public static final long DEFAULT_SAMPLING_INTERVAL_MS = 2000;
+	public static final long DEFAULT_RSS_CEILING_MB = 2048;
+	private static final long DEFAULT_CLOCK_TICKS_PER_SECOND = 100; // Linux USER_HZ on common builds
+	private static final Path PROC = Paths.get("/proc");
+
+	// Shared instance
+	private static volatile BrowserResourceMonitor instance;
+	private static final Object INITIALIZATION_LOCK = new Object();
+
+	private final long samplingIntervalMs;
+	private final long rssCeilingBytes;
+	private final boolean procAvailable;
+
+	private final Map<String, SessionUsage> sessions = new ConcurrentHashMap<>();
+	private final AtomicLong recycledSessions = new AtomicLong();
+
+	private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "BrowserResourceMonitor");
+		t.setDaemon(true);
+		return t;
+	});
+
+	public BrowserResourceMonitor() {
+		this(Long.getLong("browser.monitor.interval.ms", DEFAULT_SAMPLING_INTERVAL_MS),
+				Long.getLong("browser.rss.ceiling.mb", DEFAULT_RSS_CEILING_MB));
+	}
+
+	public BrowserResourceMonitor(long samplingIntervalMs, long rssCeilingMb) {
+		this.samplingIntervalMs = samplingIntervalMs;
+		this.rssCeilingBytes = rssCeilingMb * 1024 * 1024;
+		this.procAvailable = Files.isDirectory(PROC.resolve("self"));
+
+		if (procAvailable) {
+			sampler.scheduleWithFixedDelay(this::sampleSessions, samplingIntervalMs, samplingIntervalMs,
+					TimeUnit.MILLISECONDS);
+			logger.info("Browser resource monitor started - Interval: {}ms, RSS ceiling: {}MB", samplingIntervalMs,
+					rssCeilingMb);
+		} else {
+			logger.info("Browser resource monitor disabled - /proc not available on this host");
+		}
+	}
+
+	/**
+	 * Get the shared monitor
+	 */
+	public static BrowserResourceMonitor getInstance() {
+		if (instance == null) {
+			synchronized (INITIALIZATION_LOCK) {
+				if (instance == null) {
+					instance = new BrowserResourceMonitor();
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Start tracking the process tree behind a driver session
+	 *
+	 * @param key           resource key of the session
+	 * @param driver        driver to track
+	 * @param recycleAction invoked once on the sampler thread if the session
+	 *                      exceeds the RSS ceiling, may be null to only flag
+	 *                      the session
+	 * @return true if a local process tree was found for the driver
+	 */
+	public boolean track(String key, WebDriver driver, Runnable recycleAction) {
+		if (!procAvailable) {
+			return false;
+		}
+
+		Optional<Long> servicePid = findDriverServicePid(driver);
+		if (servicePid.isEmpty()) {
+			logger.debug("No local driver process found for session {}, not tracking", key);
+			return false;
+		}
+
+		SessionUsage usage = new SessionUsage(key, servicePid.get(), recycleAction);
+		sessions.put(key, usage);
+		sample(usage);
+		logger.debug("Tracking browser resources for session {} (driver pid {})", key, servicePid.get());
+		return true;
+	}
+
+	/**
+	 * Stop tracking a session and return its final usage summary
+	 */
+	public Map<String, Object> untrack(String key) {
+		SessionUsage usage = sessions.remove(key);
+		if (usage == null) {
+			return Map.of();
+		}
+		sample(usage);
+		return usage.toMap(rssCeilingBytes);
+	}
+
+	/**
+	 * Get current usage summary for a tracked session
+	 */
+	public Map<String, Object> getUsage(String key) {
+		SessionUsage usage = sessions.get(key);
+		return usage != null ? usage.toMap(rssCeilingBytes) : Map.of();
+	}
+
+	/**
+	 * Check whether a tracked session was above the RSS ceiling at its last sample
+	 */
+	public boolean isOverCeiling(String key) {
+		SessionUsage usage = sessions.get(key);
+		return usage != null && usage.currentRss > rssCeilingBytes;
+	}
+
+	/**
+	 * Report tracked sessions above the RSS ceiling as unhealthy
+	 */
+	@Override
+	public HealthCheckResult check() {
+		long startTime = System.currentTimeMillis();
+		Map<String, Object> details = new HashMap<>();
+		List<String> overCeiling = new java.util.ArrayList<>();
+
+		sessions.forEach((key, usage) -> {
+			details.put(key + "_rssMB", usage.currentRss / (1024 * 1024));
+			if (usage.currentRss > rssCeilingBytes) {
+				overCeiling.add(key);
+			}
+		});
+		details.put("trackedSessions", sessions.size());
+		details.put("rssCeilingMB", rssCeilingBytes / (1024 * 1024));
+
+		long executionTime = System.currentTimeMillis() - startTime;
+		if (!overCeiling.isEmpty()) {
+			return new HealthCheckResult(false, "browser-resources",
+					"Browser sessions above RSS ceiling: " + String.join(", ", overCeiling), executionTime, details);
+		}
+		return new HealthCheckResult(true, "browser-resources",
+				String.format("%d browser sessions within RSS ceiling", sessions.size()), executionTime, details);
+	}
+
+	/**
+	 * Get monitor statistics
+	 */
+	public Map<String, Object> getMonitorStatistics() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", procAvailable);
+		stats.put("trackedSessions", sessions.size());
+		stats.put("recycledSessions", recycledSessions.get());
+		stats.put("samplingIntervalMs", samplingIntervalMs);
+		stats.put("rssCeilingMB", rssCeilingBytes / (1024 * 1024));
+		return stats;
+	}
+
+	@Override
+	public void close() {
+		sampler.shutdownNow();
+		sessions.clear();
+	}
+
+	// ===============================
+	// PRIVATE HELPER METHODS
+	// ===============================
+
+	private void sampleSessions() {
+		try {
+			sessions.values().forEach(usage -> {
+				sample(usage);
+				if (usage.currentRss > rssCeilingBytes && !usage.recycleRequested) {
+					requestRecycle(usage);
+				}
+			});
+		} catch (Exception e) {
+			logger.error("Error sampling browser resources", e);
+		}
+	}
+
+	private void requestRecycle(SessionUsage usage) {
+		usage.recycleRequested = true;
+		recycledSessions.incrementAndGet();
+		logger.warn("Browser session {} uses {}MB RSS, above ceiling of {}MB - flagged for recycling", usage.key,
+				usage.currentRss / (1024 * 1024), rssCeilingBytes / (1024 * 1024));
+
+		if (usage.recycleAction != null) {
+			try {
+				usage.recycleAction.run();
+			} catch (Exception e) {
+				logger.error("Recycle action failed for session {}: {}", usage.key, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Sample RSS, CPU time and open descriptors of the session's process tree
+	 */
+	private void sample(SessionUsage usage) {
+		Optional<ProcessHandle> root = ProcessHandle.of(usage.rootPid);
+		if (root.isEmpty()) {
+			usage.currentRss = 0;
+			return;
+		}
+
+		long rss = 0;
+		int fds = 0;
+		int processes = 0;
+		try (Stream<ProcessHandle> tree = Stream.concat(Stream.of(root.get()), root.get().descendants())) {
+			for (ProcessHandle process : (Iterable<ProcessHandle>) tree::iterator) {
+				long pid = process.pid();
+				long processRss = readRssBytes(pid);
+				if (processRss < 0) {
+					continue; // exited between listing and reading
+				}
+				rss += processRss;
+				fds += countOpenFiles(pid);
+				processes++;
+
+				long cpuTicks = readCpuTicks(pid);
+				if (cpuTicks >= 0) {
+					usage.cpuTicksByPid.merge(pid, cpuTicks, Math::max);
+				}
+			}
+		}
+
+		usage.record(rss, fds, processes);
+	}
+
+	/**
+	 * Resident set size from the VmRSS line of /proc/[pid]/status, which the
+	 * kernel reports in kB whatever the page size; 0 for processes without
+	 * memory (zombies) and -1 if unavailable
+	 */
+	private static long readRssBytes(long pid) {
+		String status = readProcFile(pid, "status");
+		if (status == null) {
+			return -1;
+		}
+		for (String line : status.split("\n")) {
+			if (line.startsWith("VmRSS:")) {
+				String[] fields = line.substring("VmRSS:".length()).trim().split("\\s+");
+				return Long.parseLong(fields[0]) * 1024;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Clock ticks per second of /proc CPU times from getconf CLK_TCK, or the
+	 * common default of 100 if getconf is unavailable
+	 */
+	private static long readClockTicksPerSecond() {
+		try {
+			Process getconf = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+			String output = new String(getconf.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).trim();
+			if (getconf.waitFor(5, TimeUnit.SECONDS) && getconf.exitValue() == 0) {
+				return Long.parseLong(output);
+			}
+		} catch (IOException | NumberFormatException e) {
+			logger.debug("Could not read CLK_TCK: {}", e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		logger.debug("Assuming {} clock ticks per second", DEFAULT_CLOCK_TICKS_PER_SECOND);
+		return DEFAULT_CLOCK_TICKS_PER_SECOND;
+	}
+
+	/**
+	 * User plus system CPU ticks from /proc/[pid]/stat, or -1 if unavailable
+	 */
+	private static long readCpuTicks(long pid) {
+		String stat = readProcFile(pid, "stat");
+		if (stat == null) {
+			return -1;
+		}
+		// Fields after the command name, which may itself contain spaces
+		String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+		// utime and stime are fields 14 and 15 of the full line
+		return fields.length > 12 ? Long.parseLong(fields[11]) + Long.parseLong(fields[12]) : -1;
+	}
+
+	private static int countOpenFiles(long pid) {
+		try (Stream<Path> fds = Files.list(PROC.resolve(String.valueOf(pid)).resolve("fd"))) {
+			return (int) fds.count();
+		} catch (IOException | SecurityException e) {
+			return 0;
+		}
+	}
+
+	private static String readProcFile(long pid, String name) {
+		try {
+			return new String(Files.readAllBytes(PROC.resolve(String.valueOf(pid)).resolve(name)),
+					StandardCharsets.US_ASCII);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Find the pid of the local driver service behind a session by matching
+	 * the service port against the command lines of this JVM's children
+	 */
+	private static Optional<Long> findDriverServicePid(WebDriver driver) {
+		WebDriver unwrapped = driver;
+		while (unwrapped instanceof WrapsDriver) {
+			unwrapped = ((WrapsDriver) unwrapped).getWrappedDriver();
+		}
+		if (!(unwrapped instanceof RemoteWebDriver)) {
+			return Optional.empty();
+		}
+
+		CommandExecutor executor = ((RemoteWebDriver) unwrapped).getCommandExecutor();
+		if (!(executor instanceof DriverCommandExecutor)) {
+			return Optional.empty(); // remote grid session
+		}
+
+		String port = String.valueOf(((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort());
+		return ProcessHandle.current().children().filter(child -> {
+			String[] arguments = child.info().arguments().orElse(new String[0]);
+			for (int i = 0; i < arguments.length; i++) {
+				if (arguments[i].equals("--port=" + port)
+						|| (arguments[i].equals("--port") && i + 1 < arguments.length
+								&& arguments[i + 1].equals(port))) {
+					return true;
+				}
+			}
+			return false;
+		}).map(ProcessHandle::pid).findFirst();
+	}
+
+	/**
+	 * Host clock tick rate, read on first use so non-Linux hosts never run getconf
+	 */
+	private static final class ClockTicks {
+		private static final long PER_SECOND = readClockTicksPerSecond();
+	}
+
+	/**
+	 * Accumulated usage of one session's process tree
+	 */
+	private static final class SessionUsage {
+		private final String key;
+		private final long rootPid;
+		private final Runnable recycleAction;
+		private final long startTime = System.currentTimeMillis();
+		private final Map<Long, Long> cpuTicksByPid = new ConcurrentHashMap<>();
+
+		private volatile long currentRss;
+		private volatile boolean recycleRequested;
+		private long peakRss;
+		private long totalRss;
+		private int peakFds;
+		private long totalFds;
+		private int peakProcesses;
+		private int samples;
+
+		private SessionUsage(String key, long rootPid, Runnable recycleAction) {
+			this.key = key;
+			this.rootPid = rootPid;
+			this.recycleAction = recycleAction;
+		}
+
+		private synchronized void record(long rss, int fds, int processes) {
+			currentRss = rss;
+			peakRss = Math.max(peakRss, rss);
+			totalRss += rss;
+			peakFds = Math.max(peakFds, fds);
+			totalFds += fds;
+			peakProcesses = Math.max(peakProcesses, processes);
+			samples++;
+		}
+
+		private synchronized Map<String, Object> toMap(long rssCeilingBytes) {
+			long cpuTicks = cpuTicksByPid.values().stream().mapToLong(Long::longValue).sum();
+			double cpuSeconds = (double) cpuTicks / ClockTicks.PER_SECOND;
+			double wallSeconds = Math.max(0.001, (System.currentTimeMillis() - startTime) / 1000.0);
+
+			Map<String, Object> usage = new LinkedHashMap<>();
+			usage.put("driverPid", rootPid);
+			usage.put("samples", samples);
+			usage.put("peakRssMB", peakRss / (1024 * 1024));
+			usage.put("averageRssMB", samples > 0 ? totalRss / samples / (1024 * 1024) : 0);
+			usage.put("cpuSeconds", String.format("%.2f", cpuSeconds));
+			usage.put("averageCpuPercent", String.format("%.1f", cpuSeconds / wallSeconds * 100));
+			usage.put("peakOpenFiles", peakFds);
+			usage.put("averageOpenFiles", samples > 0 ? totalFds / samples : 0);
+			usage.put("peakProcesses", peakProcesses);
+			usage.put("rssCeilingExceeded", peakRss > rssCeilingBytes);
+			usage.put("recycled", recycleRequested);
+			return usage;
+		}
+	}
+}
@@ -11,9 +11,11 @@ import org.slf4j.LoggerFactory;
 import novus.config.config_interfaces.ResourceManager;
 
 import java.io.FileInputStream;
+import java.lang.ref.WeakReference;
 import java.net.Socket;
 import java.sql.Connection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -42,6 +44,11 @@ public class EnterpriseResourceManager implements ResourceManager {
 	private static final long MAX_RESOURCE_AGE_MS = 1800000; // 30 minutes
 	private volatile boolean shutdownHookRegistered = false;
 
+	// Browser process accounting; WebDrivers mapped to the thread that registered them
+	private final BrowserResourceMonitor browserMonitor = BrowserResourceMonitor.getInstance();
+	private final Map<String, WeakReference<Thread>> driverOwners = new ConcurrentHashMap<>();
+	private final Set<String> overBudgetDrivers = ConcurrentHashMap.newKeySet();
+
 	public EnterpriseResourceManager() {
 		startMonitoring();
 		logger.info("Enterprise Resource Manager initialized");
@@ -99,12 +106,73 @@ public class EnterpriseResourceManager implements ResourceManager {
 	        };
 	        registerResource(key, wrapper);
 	    }
+
+	    // Sessions above the RSS ceiling may still be running a test, so they are only marked here
+	    driverOwners.put(key, new WeakReference<>(Thread.currentThread()));
+	    browserMonitor.track(key, driver, () -> markOverBudget(key));
+	}
+
+	/**
+	 * Check if a WebDriver resource went over the browser RSS ceiling and
+	 * waits to be replaced
+	 */
+	public boolean isOverBudget(String key) {
+		return overBudgetDrivers.contains(key);
+	}
+
+	/**
+	 * Sweep every registered WebDriver and release those over the browser RSS
+	 * ceiling that no test can be using: drivers registered by the current
+	 * thread, which is between tests when it calls this, and drivers whose
+	 * thread has ended. Over-budget drivers of other running threads stay
+	 * marked until their own thread sweeps
+	 * @return number of drivers released
+	 */
+	public int releaseOverBudgetDrivers() {
+		Thread current = Thread.currentThread();
+		int released = 0;
+		for (Map.Entry<String, WeakReference<Thread>> entry : driverOwners.entrySet()) {
+			String key = entry.getKey();
+			// The sampler may not have flagged a driver that went over since its last run
+			if (browserMonitor.isOverCeiling(key)) {
+				markOverBudget(key);
+			}
+			if (!overBudgetDrivers.contains(key)) {
+				continue;
+			}
+			Thread owner = entry.getValue().get();
+			if (owner == current || owner == null || !owner.isAlive()) {
+				logger.info("Replacing over-budget WebDriver: {}", key);
+				releaseResource(key);
+				released++;
+			}
+		}
+		return released;
+	}
+
+	private void markOverBudget(String key) {
+		if (resources.containsKey(key) && overBudgetDrivers.add(key)) {
+			logger.warn("WebDriver {} is over the browser RSS ceiling, it will be replaced at its next safe point", key);
+		}
+	}
+
+	/**
+	 * Get browser process usage recorded for a WebDriver resource
+	 */
+	public Map<String, Object> getBrowserUsage(String key) {
+		return browserMonitor.getUsage(key);
 	}
 
 	@Override
 	public void releaseResource(String key) {
 		AutoCloseable resource = resources.remove(key);
+		overBudgetDrivers.remove(key);
+		driverOwners.remove(key);
 		if (resource != null) {
+			Map<String, Object> browserUsage = browserMonitor.untrack(key);
+			if (!browserUsage.isEmpty()) {
+				logger.debug("Browser usage for {}: {}", key, browserUsage);
+			}
 			closeResourceSafely(key, resource);
 			resourceCreationTime.remove(key);
 			resourceTypes.remove(key);
@@ -123,6 +191,8 @@ public class EnterpriseResourceManager implements ResourceManager {
 		resources.clear();
 		resourceCreationTime.clear();
 		resourceTypes.clear();
+		overBudgetDrivers.clear();
+		driverOwners.clear();
 
 		// Shutdown monitor
 		monitor.shutdown();
@@ -276,6 +346,8 @@ public class EnterpriseResourceManager implements ResourceManager {
 		stats.put("monitoringIntervalMs", MONITORING_INTERVAL_MS);
 		stats.put("maxResourceAgeMs", MAX_RESOURCE_AGE_MS);
 		stats.put("shutdownHookRegistered", shutdownHookRegistered);
+		stats.put("overBudgetDrivers", overBudgetDrivers.size());
+		stats.put("browserResources", browserMonitor.getMonitorStatistics());
 
 		return stats;
 	}
@@ -0,0 +1,454 @@
+package novus.config.telemetry;
+
+import novus.config.config_loader.LayeredConfiguration;
+import pom.support.ImplicitWaitScope;
+import pom.wait.WaitEngine;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-command WebDriver latency, attributed to the calling page method
+ *
+ * Decorating a driver routes every command it and its elements issue through
+ * this listener. Each command's latency goes into a lock-free histogram with
+ * power-of-two microsecond buckets, tagged by the running test, the call site
+ * and the locator: the one searched for, or the one the element was found
+ * with. The call site is the first stack frame outside Selenium, the JDK, the
+ * support and wait packages and registered wait helpers, so commands issued
+ * through Base_Page1 are charged to the page method that called it. Each
+ * command is also bracketed in the {@link TimeBudget} of the running test,
+ * with searches that found nothing counted as implicit waiting when the
+ * driver has a non-zero implicit wait in force.
+ *
+ * <pre>
+ * WebDriver driver = CommandProfiler.decorate(new ChromeDriver());
+ * </pre>
+ */
+public class CommandProfiler implements WebDriverListener {
+	private static final Logger logger = LoggerFactory.getLogger(CommandProfiler.class);
+
+	public static final int DEFAULT_TOP_CALL_SITES = 10;
+
+	// Bucket i holds latencies below 2^i microseconds; the last one is open-ended
+	private static final int BUCKETS = 32;
+	private static final int MAX_TRACKED_ELEMENTS = 4096;
+	private static final String NO_LOCATOR = "-";
+	private static final String NO_TEST = "(no test)";
+
+	private static final String[] SKIPPED_PACKAGES = { "java.", "jdk.", "sun.", "org.openqa.selenium.",
+			"net.bytebuddy.", "novus.config.telemetry.", "pom.support.", "pom.wait." };
+	// Accessors answered by the client without a round trip
+	private static final Set<String> LOCAL_METHODS = Set.of("navigate", "manage", "switchTo", "timeouts", "window",
+			"logs", "getWrappedDriver", "getWrappedElement");
+
+	private static final Map<CallKey, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+	private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+	private static final ThreadLocal<StartTimes> START_TIMES = ThreadLocal.withInitial(StartTimes::new);
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+	// Locator each element handle was found with, for tagging element commands
+	private final Map<WebElement, String> elementLocators = new ConcurrentHashMap<>();
+
+	/**
+	 * Wrap a driver so every command it issues is profiled
+	 */
+	public static WebDriver decorate(WebDriver driver) {
+		return new EventFiringDecorator<>(new CommandProfiler()).decorate(driver);
+	}
+
+	/**
+	 * Check web.json profiling.commands; profiling is on unless disabled there
+	 */
+	public static boolean isEnabled() {
+		return LayeredConfiguration.getInstance().getBoolean("web.profiling.commands", true);
+	}
+
+	/**
+	 * Tag commands issued on the current thread with a test name until cleared
+	 */
+	public static void setCurrentTest(String testName) {
+		CURRENT_TEST.set(testName);
+	}
+
+	public static void clearCurrentTest() {
+		CURRENT_TEST.remove();
+	}
+
+	// ===============================
+	// LISTENER
+	// ===============================
+
+	@Override
+	public void beforeAnyCall(Object target, Method method, Object[] args) {
+		if (isProfiled(method)) {
+			TimeBudget.enter(isNavigation(target, method) ? TimeBudget.Phase.NAVIGATION : TimeBudget.Phase.COMMAND,
+					commandName(target, method));
+			START_TIMES.get().push(System.nanoTime());
+		}
+	}
+
+	@Override
+	public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+		if (isProfiled(method)) {
+			record(target, method, args, false);
+			// An empty search ran out the implicit wait, if there was one
+			boolean emptySearch = result instanceof List && ((List<?>) result).isEmpty()
+					&& method.getName().equals("findElements");
+			TimeBudget.exit(emptySearch && waitsImplicitly(target) ? TimeBudget.Phase.IMPLICIT_WAIT : null);
+		}
+	}
+
+	@Override
+	public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+		if (isProfiled(method)) {
+			record(target, method, args, true);
+			boolean notFound = e.getCause() instanceof NoSuchElementException;
+			TimeBudget.exit(notFound && waitsImplicitly(target) ? TimeBudget.Phase.IMPLICIT_WAIT : null);
+		}
+	}
+
+	@Override
+	public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+		track(result, locator);
+	}
+
+	@Override
+	public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+		for (WebElement element : result) {
+			track(element, locator);
+		}
+	}
+
+	@Override
+	public void afterFindElement(WebElement element, By locator, WebElement result) {
+		track(result, locator);
+	}
+
+	@Override
+	public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+		for (WebElement found : result) {
+			track(found, locator);
+		}
+	}
+
+	// ===============================
+	// STATISTICS
+	// ===============================
+
+	/**
+	 * Get command totals across all drivers, with latency per command
+	 */
+	public static Map<String, Object> getCommandStatistics() {
+		Map<String, Summary> commands = new HashMap<>();
+		Summary total = new Summary();
+		HISTOGRAMS.forEach((key, histogram) -> {
+			commands.computeIfAbsent(key.command, command -> new Summary()).add(histogram);
+			total.add(histogram);
+		});
+		List<Map.Entry<String, Summary>> ordered = new ArrayList<>(commands.entrySet());
+		ordered.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+
+		Map<String, Object> perCommand = new LinkedHashMap<>();
+		for (Map.Entry<String, Summary> command : ordered) {
+			perCommand.put(command.getKey(), command.getValue().toMap());
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("commands", total.calls);
+		stats.put("errors", total.errors);
+		stats.put("totalCommandMs", TimeUnit.NANOSECONDS.toMillis(total.totalNanos));
+		stats.put("perCommand", perCommand);
+		return stats;
+	}
+
+	/**
+	 * Get the call sites that spent the most time in WebDriver commands,
+	 * one entry per call site, command and locator across all tests
+	 */
+	public static List<Map<String, Object>> getSlowestCallSites(int limit) {
+		Map<CallKey, Summary> sites = new HashMap<>();
+		HISTOGRAMS.forEach((key, histogram) -> {
+			Summary summary = sites.computeIfAbsent(key.withoutTest(), site -> new Summary());
+			summary.add(histogram);
+			summary.tests.add(key.test);
+		});
+		List<Map.Entry<CallKey, Summary>> ordered = new ArrayList<>(sites.entrySet());
+		ordered.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+
+		List<Map<String, Object>> slowest = new ArrayList<>();
+		for (Map.Entry<CallKey, Summary> site : ordered.subList(0, Math.min(limit, ordered.size()))) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("callSite", site.getKey().callSite);
+			entry.put("command", site.getKey().command);
+			entry.put("locator", site.getKey().locator);
+			entry.putAll(site.getValue().toMap());
+			entry.put("tests", site.getValue().tests.size());
+			slowest.add(entry);
+		}
+		return slowest;
+	}
+
+	/**
+	 * Get the slowest call sites, as many as web.json profiling.topCallSites asks for
+	 */
+	public static List<Map<String, Object>> getSlowestCallSites() {
+		return getSlowestCallSites(LayeredConfiguration.getInstance().getInt("web.profiling.topCallSites",
+				DEFAULT_TOP_CALL_SITES));
+	}
+
+	public static void resetStatistics() {
+		HISTOGRAMS.clear();
+	}
+
+	// ===============================
+	// PRIVATE HELPER METHODS
+	// ===============================
+
+	private static boolean isProfiled(Method method) {
+		return method.getDeclaringClass() != Object.class && !LOCAL_METHODS.contains(method.getName());
+	}
+
+	private void record(Object target, Method method, Object[] args, boolean failed) {
+		StartTimes starts = START_TIMES.get();
+		if (starts.isEmpty()) {
+			return;
+		}
+		long elapsedNanos = System.nanoTime() - starts.pop();
+		String test = Objects.requireNonNullElse(CURRENT_TEST.get(), NO_TEST);
+		CallKey key = new CallKey(test, resolveCallSite(), commandName(target, method), locatorOf(target, args));
+		HISTOGRAMS.computeIfAbsent(key, k -> new LatencyHistogram()).record(elapsedNanos, failed);
+	}
+
+	private String locatorOf(Object target, Object[] args) {
+		if (args != null && args.length > 0 && args[0] instanceof By) {
+			return args[0].toString();
+		}
+		if (target instanceof WebElement) {
+			return elementLocators.getOrDefault(target, NO_LOCATOR);
+		}
+		return NO_LOCATOR;
+	}
+
+	private void track(WebElement element, By locator) {
+		if (element == null) {
+			return;
+		}
+		// Handles outlive their page; start over rather than grow without bound
+		if (elementLocators.size() >= MAX_TRACKED_ELEMENTS) {
+			logger.debug("Element locator map full, clearing {} entries", elementLocators.size());
+			elementLocators.clear();
+		}
+		// Results arrive decorated, while element commands report the original as their target
+		WebElement original = element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+		elementLocators.put(original, locator.toString());
+	}
+
+	// Searches return at once when the implicit wait is off, as it is inside presence checks and explicit waits
+	private static boolean waitsImplicitly(Object target) {
+		WebDriver driver = target instanceof WebDriver ? (WebDriver) target
+				: target instanceof WrapsDriver ? ((WrapsDriver) target).getWrappedDriver() : null;
+		return driver != null && !ImplicitWaitScope.getImplicitWait(driver).isZero();
+	}
+
+	private static boolean isNavigation(Object target, Method method) {
+		return target instanceof WebDriver.Navigation || (target instanceof WebDriver && method.getName().equals("get"));
+	}
+
+	// Driver and element commands by name, the rest (navigation, frames, windows) by interface
+	private static String commandName(Object target, Method method) {
+		if (target instanceof WebDriver || target instanceof WebElement) {
+			return method.getName();
+		}
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+	}
+
+	/**
+	 * Find the first frame outside Selenium, the JDK, the support and wait
+	 * packages and registered wait helpers
+	 */
+	private static String resolveCallSite() {
+		return STACK_WALKER.walk(frames -> frames
+				.filter(frame -> !isInfrastructureFrame(frame.getDeclaringClass()))
+				.findFirst()
+				.map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName()
+						+ ":" + frame.getLineNumber())
+				.orElse("unknown"));
+	}
+
+	private static boolean isInfrastructureFrame(Class<?> frameClass) {
+		String name = frameClass.getName();
+		for (String skipped : SKIPPED_PACKAGES) {
+			if (name.startsWith(skipped)) {
+				return true;
+			}
+		}
+		return WaitEngine.isWaitFrame(frameClass);
+	}
+
+	/**
+	 * Start times of the commands in progress on one thread, innermost last
+	 */
+	private static final class StartTimes {
+		private long[] nanos = new long[8];
+		private int depth;
+
+		private void push(long startNanos) {
+			if (depth == nanos.length) {
+				nanos = Arrays.copyOf(nanos, depth * 2);
+			}
+			nanos[depth++] = startNanos;
+		}
+
+		private long pop() {
+			return nanos[--depth];
+		}
+
+		private boolean isEmpty() {
+			return depth == 0;
+		}
+	}
+
+	/**
+	 * Histogram tag: test, call site, command and locator
+	 */
+	private static final class CallKey {
+		private final String test;
+		private final String callSite;
+		private final String command;
+		private final String locator;
+		private final int hash;
+
+		private CallKey(String test, String callSite, String command, String locator) {
+			this.test = test;
+			this.callSite = callSite;
+			this.command = command;
+			this.locator = locator;
+			this.hash = Objects.hash(test, callSite, command, locator);
+		}
+
+		private CallKey withoutTest() {
+			return new CallKey(null, callSite, command, locator);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CallKey)) {
+				return false;
+			}
+			CallKey key = (CallKey) other;
+			return hash == key.hash && Objects.equals(test, key.test) && callSite.equals(key.callSite)
+					&& command.equals(key.command) && locator.equals(key.locator);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Latency distribution of one tag, updated without locks
+	 */
+	private static final class LatencyHistogram {
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		private void record(long elapsedNanos, boolean failed) {
+			long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+			int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+			buckets.incrementAndGet(bucket);
+			calls.increment();
+			totalNanos.add(elapsedNanos);
+			maxNanos.accumulate(elapsedNanos);
+			if (failed) {
+				errors.increment();
+			}
+		}
+	}
+
+	/**
+	 * Several histograms merged for reporting
+	 */
+	private static final class Summary {
+		private final long[] buckets = new long[BUCKETS];
+		private final Set<String> tests = new HashSet<>();
+		private long calls;
+		private long errors;
+		private long totalNanos;
+		private long maxNanos;
+
+		private void add(LatencyHistogram histogram) {
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] += histogram.buckets.get(i);
+			}
+			calls += histogram.calls.sum();
+			errors += histogram.errors.sum();
+			totalNanos += histogram.totalNanos.sum();
+			maxNanos = Math.max(maxNanos, histogram.maxNanos.get());
+		}
+
+		// Upper bound of the bucket holding the percentile, capped at the slowest call seen
+		private double percentileMs(double percentile) {
+			long total = 0;
+			for (long count : buckets) {
+				total += count;
+			}
+			long rank = (long) Math.ceil(total * percentile);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min((1L << i) / 1000.0, maxNanos / 1_000_000.0);
+				}
+			}
+			return maxNanos / 1_000_000.0;
+		}
+
+		private Map<String, Object> toMap() {
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("calls", calls);
+			stats.put("errors", errors);
+			stats.put("totalMs", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+			stats.put("meanMs", calls > 0 ? round(totalNanos / 1_000_000.0 / calls) : 0.0);
+			stats.put("p50Ms", round(percentileMs(0.50)));
+			stats.put("p95Ms", round(percentileMs(0.95)));
+			stats.put("maxMs", round(maxNanos / 1_000_000.0));
+			return stats;
+		}
+
+		private static double round(double millis) {
+			return Math.round(millis * 100) / 100.0;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package novus.config.telemetry;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import pom.support.ImplicitWaitScope;
+
+/**
+ * Latency histograms of {@link CommandProfiler} against a fake driver whose
+ * commands take a known time
+ */
+public class CommandProfilerTest {
+
+	private static final long SLOW_MS = 50;
+	// Well below SLOW_MS, with room for a busy machine
+	private static final double FAST_LIMIT_MS = 25;
+	private static final long SEARCH_MS = 20;
+
+	private final AtomicInteger slowCalls = new AtomicInteger();
+	private WebDriver driver;
+
+	@BeforeMethod
+	public void createDriver() {
+		driver = CommandProfiler.decorate(fakeDriver());
+		// Warm up the decorator, so class loading is not measured
+		for (int i = 0; i < 5; i++) {
+			driver.getTitle();
+		}
+		CommandProfiler.resetStatistics();
+		CommandProfiler.setCurrentTest("profilerTest");
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void resetProfiler() {
+		CommandProfiler.clearCurrentTest();
+		CommandProfiler.resetStatistics();
+		TimeBudget.finishTest();
+		TimeBudget.resetStatistics();
+	}
+
+	@Test
+	public void rareSlowCallShowsInMaxButNotInPercentiles() {
+		slowCalls.set(1);
+		for (int i = 0; i < 20; i++) {
+			driver.getPageSource();
+		}
+
+		Map<String, Object> pageSource = command("getPageSource");
+		assertEquals(pageSource.get("calls"), 20L);
+		assertTrue(millis(pageSource, "p50Ms") < FAST_LIMIT_MS, pageSource.toString());
+		// The 95th percentile of 20 calls is the 19th fastest
+		assertTrue(millis(pageSource, "p95Ms") < FAST_LIMIT_MS, pageSource.toString());
+		assertTrue(millis(pageSource, "maxMs") >= SLOW_MS, pageSource.toString());
+	}
+
+	@Test
+	public void percentileIsCappedAtSlowestCall() {
+		// The median of 20 calls is the 10th fastest
+		slowCalls.set(11);
+		for (int i = 0; i < 20; i++) {
+			driver.getPageSource();
+		}
+
+		Map<String, Object> pageSource = command("getPageSource");
+		assertTrue(millis(pageSource, "p50Ms") >= SLOW_MS, pageSource.toString());
+		assertTrue(millis(pageSource, "p95Ms") >= SLOW_MS, pageSource.toString());
+		// Bucket bounds are powers of two; the reported value never exceeds the slowest call
+		assertEquals(millis(pageSource, "p95Ms"), millis(pageSource, "maxMs"));
+	}
+
+	@Test
+	public void failedCommandsAreCountedAsErrors() {
+		assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+		driver.getTitle();
+
+		Map<String, Object> stats = CommandProfiler.getCommandStatistics();
+		assertEquals(stats.get("commands"), 2L);
+		assertEquals(stats.get("errors"), 1L);
+		assertEquals(command("findElement").get("errors"), 1L);
+	}
+
+	@Test
+	public void commandsAreTaggedWithTheirLocator() {
+		assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+		driver.getTitle();
+
+		// Call sites in this package are skipped, so both land on the test runner
+		List<Map<String, Object>> sites = CommandProfiler.getSlowestCallSites(5);
+		assertEquals(sites.size(), 2);
+		Map<String, Object> search = sites.stream().filter(site -> "findElement".equals(site.get("command")))
+				.findFirst().orElseThrow();
+		assertEquals(search.get("locator"), "By.id: missing");
+		assertEquals(search.get("tests"), 1);
+		assertEquals(sites.get(0).get("tests"), 1);
+	}
+
+	@Test
+	public void emptySearchIsImplicitWaitingOnlyWithAnImplicitWait() {
+		TimeBudget.startTest("Suite", "demo.SearchTest", "testSearch");
+		driver.findElements(By.id("missing"));
+		ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(10));
+		ImplicitWaitScope.findElementsNow(driver, By.id("missing"));
+		driver.findElements(By.id("missing"));
+		TimeBudget.finishTest();
+
+		// One search waited implicitly; the other two returned at once
+		Map<String, Object> budget = TimeBudget.getBudgetStatistics();
+		assertTrue(phaseMillis(budget, "implicit wait") >= SEARCH_MS, budget.toString());
+		assertTrue(phaseMillis(budget, "commands") >= 2 * SEARCH_MS, budget.toString());
+	}
+
+	private static Map<String, Object> command(String name) {
+		@SuppressWarnings("unchecked")
+		Map<String, Map<String, Object>> perCommand = (Map<String, Map<String, Object>>) CommandProfiler
+				.getCommandStatistics().get("perCommand");
+		return perCommand.get(name);
+	}
+
+	private static double millis(Map<String, Object> stats, String key) {
+		return ((Number) stats.get(key)).doubleValue();
+	}
+
+	// Budget phases are reported as "<ms> ms (<percent>%)"
+	private static long phaseMillis(Map<String, Object> budget, String phase) {
+		String value = String.valueOf(budget.get(phase));
+		return Long.parseLong(value.substring(0, value.indexOf(' ')));
+	}
+
+	private WebDriver fakeDriver() {
+		ClassLoader loader = getClass().getClassLoader();
+		WebDriver.Timeouts timeouts = (WebDriver.Timeouts) Proxy.newProxyInstance(loader,
+				new Class<?>[] { WebDriver.Timeouts.class }, (proxy, method, args) -> proxy);
+		WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(loader,
+				new Class<?>[] { WebDriver.Options.class }, (proxy, method, args) -> timeouts);
+		return (WebDriver) Proxy.newProxyInstance(loader,
+				new Class<?>[] { WebDriver.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "manage":
+							return options;
+						case "findElements":
+							Thread.sleep(SEARCH_MS);
+							return List.of();
+						case "getPageSource":
+							if (slowCalls.getAndDecrement() > 0) {
+								Thread.sleep(SLOW_MS);
+							}
+							return "<html></html>";
+						case "getTitle":
+							return "title";
+						case "findElement":
+							throw new NoSuchElementException("Cannot locate " + args[0]);
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == args[0];
+						case "toString":
+							return "fake driver";
+						default:
+							return null;
+					}
+				});
+	}
+}
@@ -0,0 +1,288 @@
+package novus.config.telemetry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on how many tests may hold a browser at once
+ *
+ * The limit starts at the configured thread count and is re-evaluated from
+ * recent telemetry. It drops by one when host memory or CPU is above its
+ * threshold and rises by one only after several consecutive evaluations below
+ * the threshold minus a hysteresis band, so it does not flap around the
+ * threshold. Every change is kept for the suite report.
+ */
+public class ParallelismGovernor implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(ParallelismGovernor.class);
+
+	public static final long DEFAULT_EVALUATION_INTERVAL_MS = 5000;
+	public static final double DEFAULT_HYSTERESIS_PERCENT = 10.0;
+	public static final long DEFAULT_MAX_WAIT_MS = 600000; // 10 minutes
+	private static final int RECOVERY_EVALUATIONS = 3;
+	private static final int EVALUATION_SAMPLES = 5;
+
+	private final int maxLimit;
+	private final double memoryThreshold;
+	private final double cpuThreshold;
+	private final double hysteresis;
+	private final long maxWaitMs;
+	private final TelemetrySampler telemetry;
+
+	// Permit accounting
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition permitReleased = lock.newCondition();
+	private final Set<Long> holders = ConcurrentHashMap.newKeySet();
+	private volatile int limit;
+	private volatile boolean closed;
+	private int consecutiveHealthyEvaluations;
+
+	// Reporting
+	private final Queue<Adjustment> adjustments = new ConcurrentLinkedQueue<>();
+	private final AtomicLong totalWaitMs = new AtomicLong();
+	private final AtomicLong waitingAcquisitions = new AtomicLong();
+	private final AtomicLong overLimitAcquisitions = new AtomicLong();
+	private volatile int minObservedLimit;
+
+	private final ScheduledExecutorService evaluator = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "ParallelismGovernor");
+		t.setDaemon(true);
+		return t;
+	});
+
+	public ParallelismGovernor(int maxLimit, double memoryThreshold, double cpuThreshold, TelemetrySampler telemetry) {
+		this(maxLimit, memoryThreshold, cpuThreshold,
+				Double.parseDouble(System.getProperty("governor.hysteresis", String.valueOf(DEFAULT_HYSTERESIS_PERCENT))),
+				Long.getLong("governor.interval.ms", DEFAULT_EVALUATION_INTERVAL_MS),
+				Long.getLong("governor.max.wait.ms", DEFAULT_MAX_WAIT_MS), telemetry);
+	}
+
+	public ParallelismGovernor(int maxLimit, double memoryThreshold, double cpuThreshold, double hysteresis,
+			long evaluationIntervalMs, long maxWaitMs, TelemetrySampler telemetry) {
+		this.maxLimit = Math.max(1, maxLimit);
+		this.memoryThreshold = memoryThreshold;
+		this.cpuThreshold = cpuThreshold;
+		this.hysteresis = hysteresis;
+		this.maxWaitMs = maxWaitMs;
+		this.telemetry = telemetry;
+		this.limit = this.maxLimit;
+		this.minObservedLimit = this.maxLimit;
+
+		evaluator.scheduleWithFixedDelay(this::evaluate, evaluationIntervalMs, evaluationIntervalMs,
+				TimeUnit.MILLISECONDS);
+		logger.info("Parallelism governor started - Max: {}, Memory threshold: {}%, CPU threshold: {}%, Hysteresis: {}",
+				this.maxLimit, memoryThreshold, cpuThreshold, hysteresis);
+	}
+
+	/**
+	 * Wait for a browser slot for the given thread. If no slot frees up within
+	 * the maximum wait the thread proceeds anyway, so tests are never failed by
+	 * the governor itself.
+	 */
+	public void acquire(long threadId) {
+		if (holders.contains(threadId)) {
+			return;
+		}
+
+		long startTime = System.currentTimeMillis();
+		lock.lock();
+		try {
+			long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+			boolean waited = false;
+			while (!closed && holders.size() >= limit) {
+				if (remainingNanos <= 0) {
+					overLimitAcquisitions.incrementAndGet();
+					logger.warn("Thread {} waited {}ms for a browser slot, proceeding over limit {}", threadId,
+							maxWaitMs, limit);
+					break;
+				}
+				waited = true;
+				remainingNanos = permitReleased.awaitNanos(remainingNanos);
+			}
+			holders.add(threadId);
+
+			if (waited) {
+				long waitMs = System.currentTimeMillis() - startTime;
+				waitingAcquisitions.incrementAndGet();
+				totalWaitMs.addAndGet(waitMs);
+				logger.info("Thread {} acquired browser slot after {}ms (limit {})", threadId, waitMs, limit);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			holders.add(threadId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Release the slot held by the given thread; safe to call more than once
+	 */
+	public void release(long threadId) {
+		if (!holders.remove(threadId)) {
+			return;
+		}
+		lock.lock();
+		try {
+			permitReleased.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Get current concurrency limit
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Get adjustments made so far, oldest first
+	 */
+	public List<String> getAdjustmentLog() {
+		List<String> log = new ArrayList<>();
+		adjustments.forEach(adjustment -> log.add(adjustment.toString()));
+		return log;
+	}
+
+	/**
+	 * Get governor statistics for reporting
+	 */
+	public Map<String, Object> getGovernorStatistics() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("maxLimit", maxLimit);
+		stats.put("currentLimit", limit);
+		stats.put("minLimitReached", minObservedLimit);
+		stats.put("memoryThresholdPercent", memoryThreshold);
+		stats.put("cpuThresholdPercent", cpuThreshold);
+		stats.put("hysteresisPercent", hysteresis);
+		stats.put("adjustments", adjustments.size());
+		stats.put("waitingAcquisitions", waitingAcquisitions.get());
+		stats.put("totalWaitMs", totalWaitMs.get());
+		stats.put("overLimitAcquisitions", overLimitAcquisitions.get());
+		return stats;
+	}
+
+	@Override
+	public void close() {
+		evaluator.shutdownNow();
+		lock.lock();
+		try {
+			closed = true;
+			permitReleased.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// ===============================
+	// PRIVATE HELPER METHODS
+	// ===============================
+
+	/**
+	 * Compare recent host pressure with the thresholds and adjust the limit
+	 */
+	private void evaluate() {
+		try {
+			double[] totals = new double[4]; // memory sum, memory count, cpu sum, cpu count
+			telemetry.forEachRecentSample(EVALUATION_SAMPLES, (timestampMs, heapUsed, heapCommitted, gcPause,
+					threads, processCpu, systemCpu, hostMemory, load) -> {
+				if (!Double.isNaN(hostMemory)) {
+					totals[0] += hostMemory;
+					totals[1]++;
+				}
+				double cpu = !Double.isNaN(systemCpu) ? systemCpu : processCpu;
+				if (!Double.isNaN(cpu)) {
+					totals[2] += cpu * 100;
+					totals[3]++;
+				}
+			});
+
+			if (totals[1] == 0 && totals[3] == 0) {
+				return;
+			}
+			double memory = totals[1] > 0 ? totals[0] / totals[1] : 0;
+			double cpu = totals[3] > 0 ? totals[2] / totals[3] : 0;
+
+			if (memory > memoryThreshold || cpu > cpuThreshold) {
+				consecutiveHealthyEvaluations = 0;
+				if (limit > 1) {
+					adjust(limit - 1, memory, cpu, memory > memoryThreshold ? "memory pressure" : "CPU pressure");
+				}
+			} else if (memory < memoryThreshold - hysteresis && cpu < cpuThreshold - hysteresis) {
+				if (limit < maxLimit && ++consecutiveHealthyEvaluations >= RECOVERY_EVALUATIONS) {
+					consecutiveHealthyEvaluations = 0;
+					adjust(limit + 1, memory, cpu, "recovered");
+				}
+			} else {
+				// Inside the hysteresis band: hold the current limit
+				consecutiveHealthyEvaluations = 0;
+			}
+
+		} catch (RuntimeException e) {
+			logger.warn("Parallelism evaluation failed: {}", e.getMessage());
+		}
+	}
+
+	private void adjust(int newLimit, double memory, double cpu, String reason) {
+		lock.lock();
+		try {
+			int previousLimit = limit;
+			limit = newLimit;
+			minObservedLimit = Math.min(minObservedLimit, newLimit);
+			if (newLimit > previousLimit) {
+				permitReleased.signalAll();
+			}
+
+			Adjustment adjustment = new Adjustment(Instant.now(), previousLimit, newLimit, memory, cpu, reason);
+			adjustments.add(adjustment);
+			logger.info("Parallelism limit adjusted: {}", adjustment);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Single change of the concurrency limit
+	 */
+	private static final class Adjustment {
+		private final Instant time;
+		private final int fromLimit;
+		private final int toLimit;
+		private final double memoryPercent;
+		private final double cpuPercent;
+		private final String reason;
+
+		private Adjustment(Instant time, int fromLimit, int toLimit, double memoryPercent, double cpuPercent,
+				String reason) {
+			this.time = time;
+			this.fromLimit = fromLimit;
+			this.toLimit = toLimit;
+			this.memoryPercent = memoryPercent;
+			this.cpuPercent = cpuPercent;
+			this.reason = reason;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %d -> %d (%s, memory %.1f%%, CPU %.1f%%)", time, fromLimit, toLimit, reason,
+					memoryPercent, cpuPercent);
+		}
+	}
+}
@@ -0,0 +1,596 @@
+package novus.config.telemetry;
+
+import novus.config.config_interfaces.TelemetrySampleVisitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Continuous JVM and host telemetry sampler
+ *
+ * A single daemon thread samples heap, GC time, thread count, CPU, host memory
+ * and load average at a fixed rate (1 Hz by default) into fixed-size primitive
+ * ring buffers. All buffers and MX beans are set up front, so taking a sample
+ * allocates nothing. Test start/end marks are kept alongside so every sample
+ * can be matched to the tests running at that moment.
+ *
+ * Host CPU and memory are read from /proc/stat and /proc/meminfo through files
+ * kept open for the sampler's lifetime, because the container-aware
+ * OperatingSystemMXBean getters re-read cgroup files and allocate on every call.
+ * These series are NaN where /proc is not available.
+ */
+public class TelemetrySampler implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(TelemetrySampler.class);
+
+	public static final long DEFAULT_INTERVAL_MS = 1000;
+	public static final int DEFAULT_CAPACITY = 3600; // one hour at 1 Hz
+
+	// Shared instance
+	private static volatile TelemetrySampler instance;
+	private static final Object INITIALIZATION_LOCK = new Object();
+
+	private final long intervalMs;
+	private final int capacity;
+
+	// Ring buffers, indexed by sample number modulo capacity
+	private final long[] timestamps;
+	private final long[] heapUsed;
+	private final long[] heapCommitted;
+	private final long[] gcPauseMs;
+	private final int[] threadCounts;
+	private final double[] processCpuLoad;
+	private final double[] systemCpuLoad;
+	private final double[] hostMemoryUsedPercent;
+	private final double[] loadAverage;
+
+	// Total samples written; published after each sample by the single writer
+	private volatile long written;
+
+	// MX beans resolved once
+	private final GarbageCollectorMXBean[] gcBeans;
+	private final ThreadMXBean threadBean;
+	private final OperatingSystemMXBean osBean;
+	private final com.sun.management.OperatingSystemMXBean platformOsBean;
+	private final int processors;
+
+	// Previous counters for per-interval deltas
+	private long lastGcTimeMs;
+	private long lastCpuTimeNs = -1;
+	private long lastSampleNanos;
+	private long lastHostBusyTicks = -1;
+	private long lastHostTotalTicks;
+
+	// Host statistics files, opened on start and re-read in place
+	private static final byte[] MEM_TOTAL_KEY = "MemTotal:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MEM_AVAILABLE_KEY = "MemAvailable:".getBytes(StandardCharsets.US_ASCII);
+	private final byte[] procBuffer = new byte[8192];
+	private final long[] cpuTicks = new long[8];
+	private RandomAccessFile procStat;
+	private RandomAccessFile procMeminfo;
+
+	// Test windows for correlating samples with running tests; closed ones in order of ending
+	private final Map<Long, TestWindow> openTestWindows = new ConcurrentHashMap<>();
+	private final Queue<TestWindow> closedTestWindows = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong failedSamples = new AtomicLong();
+	private Thread samplerThread;
+	private volatile boolean running;
+
+	public TelemetrySampler() {
+		this(Long.getLong("telemetry.interval.ms", DEFAULT_INTERVAL_MS),
+				Integer.getInteger("telemetry.capacity", DEFAULT_CAPACITY));
+	}
+
+	public TelemetrySampler(long intervalMs, int capacity) {
+		if (intervalMs <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("Telemetry interval and capacity must be positive");
+		}
+		this.intervalMs = intervalMs;
+		this.capacity = capacity;
+
+		this.timestamps = new long[capacity];
+		this.heapUsed = new long[capacity];
+		this.heapCommitted = new long[capacity];
+		this.gcPauseMs = new long[capacity];
+		this.threadCounts = new int[capacity];
+		this.processCpuLoad = new double[capacity];
+		this.systemCpuLoad = new double[capacity];
+		this.hostMemoryUsedPercent = new double[capacity];
+		this.loadAverage = new double[capacity];
+
+		this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+		this.threadBean = ManagementFactory.getThreadMXBean();
+		this.osBean = ManagementFactory.getOperatingSystemMXBean();
+		this.platformOsBean = osBean instanceof com.sun.management.OperatingSystemMXBean
+				? (com.sun.management.OperatingSystemMXBean) osBean
+				: null;
+		this.processors = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Get the shared sampler used by the test suite
+	 */
+	public static TelemetrySampler getInstance() {
+		if (instance == null) {
+			synchronized (INITIALIZATION_LOCK) {
+				if (instance == null) {
+					instance = new TelemetrySampler();
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Start sampling; calling it again while running has no effect
+	 */
+	public synchronized void start() {
+		if (samplerThread != null) {
+			return;
+		}
+
+		lastGcTimeMs = totalGcTimeMs();
+		lastCpuTimeNs = platformOsBean != null ? platformOsBean.getProcessCpuTime() : -1;
+		lastSampleNanos = System.nanoTime();
+		procStat = openProcFile("/proc/stat");
+		procMeminfo = openProcFile("/proc/meminfo");
+		lastHostBusyTicks = -1;
+
+		// A parked thread rather than a scheduled executor, whose queue waits allocate
+		running = true;
+		samplerThread = new Thread(this::runSampler, "TelemetrySampler");
+		samplerThread.setDaemon(true);
+		samplerThread.start();
+		logger.info("Telemetry sampler started - Interval: {}ms, Capacity: {} samples", intervalMs, capacity);
+	}
+
+	/**
+	 * Check whether the sampler is running
+	 */
+	public synchronized boolean isRunning() {
+		return samplerThread != null;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (samplerThread != null) {
+			running = false;
+			samplerThread.interrupt();
+			try {
+				samplerThread.join(intervalMs + 1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			samplerThread = null;
+			closeProcFile(procStat);
+			closeProcFile(procMeminfo);
+			logger.info("Telemetry sampler stopped after {} samples", written);
+		}
+	}
+
+	// ===============================
+	// TEST CORRELATION
+	// ===============================
+
+	/**
+	 * Mark the start of a test on the given thread
+	 */
+	public void markTestStarted(long threadId, String testName) {
+		TestWindow previous = openTestWindows.put(threadId,
+				new TestWindow(testName, System.currentTimeMillis()));
+		if (previous != null) {
+			close(previous);
+		}
+	}
+
+	/**
+	 * Mark the end of the test running on the given thread
+	 */
+	public void markTestFinished(long threadId) {
+		TestWindow window = openTestWindows.remove(threadId);
+		if (window != null) {
+			close(window);
+		}
+	}
+
+	/**
+	 * Keep a finished window and drop those that ended before the oldest
+	 * sample the ring buffers can still hold
+	 */
+	private void close(TestWindow window) {
+		long now = System.currentTimeMillis();
+		window.endMs = now;
+		closedTestWindows.add(window);
+
+		long horizon = now - intervalMs * capacity;
+		TestWindow oldest;
+		while ((oldest = closedTestWindows.peek()) != null && oldest.endMs < horizon) {
+			closedTestWindows.remove(oldest);
+		}
+	}
+
+	/**
+	 * Get names of tests that were running at the given time
+	 */
+	public List<String> getActiveTestsAt(long timestampMs) {
+		List<String> activeTests = new ArrayList<>();
+		for (TestWindow window : closedTestWindows) {
+			if (window.covers(timestampMs)) {
+				activeTests.add(window.testName);
+			}
+		}
+		for (TestWindow window : openTestWindows.values()) {
+			if (window.covers(timestampMs)) {
+				activeTests.add(window.testName);
+			}
+		}
+		return activeTests;
+	}
+
+	// ===============================
+	// READ ACCESS
+	// ===============================
+
+	/**
+	 * Get number of samples currently retained
+	 */
+	public int getSampleCount() {
+		return (int) Math.min(written, capacity);
+	}
+
+	/**
+	 * Visit retained samples from oldest to newest
+	 */
+	public void forEachSample(TelemetrySampleVisitor visitor) {
+		long end = written;
+		for (long sample = Math.max(0, end - capacity); sample < end; sample++) {
+			visitSlot((int) (sample % capacity), visitor);
+		}
+	}
+
+	/**
+	 * Visit up to the given number of most recent samples, oldest first
+	 */
+	public void forEachRecentSample(int count, TelemetrySampleVisitor visitor) {
+		long end = written;
+		for (long sample = Math.max(0, end - Math.min(count, capacity)); sample < end; sample++) {
+			visitSlot((int) (sample % capacity), visitor);
+		}
+	}
+
+	/**
+	 * Visit the most recent sample; returns false if nothing was sampled yet
+	 */
+	public boolean visitLatest(TelemetrySampleVisitor visitor) {
+		long end = written;
+		if (end == 0) {
+			return false;
+		}
+		visitSlot((int) ((end - 1) % capacity), visitor);
+		return true;
+	}
+
+	/**
+	 * Write retained samples as CSV, including the tests active at each sample
+	 */
+	public int exportCsv(Path file) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		int[] rows = new int[1];
+
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("timestamp,heapUsedMB,heapCommittedMB,gcPauseMs,threads,processCpuPercent,"
+					+ "systemCpuPercent,hostMemoryUsedPercent,loadAverage,activeTests\n");
+
+			IOException[] failure = new IOException[1];
+			forEachSample((timestampMs, used, committed, gcPause, threads, processCpu, systemCpu, hostMemory,
+					load) -> {
+				if (failure[0] != null) {
+					return;
+				}
+				try {
+					writer.write(String.format("%s,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.2f,\"%s\"%n",
+							Instant.ofEpochMilli(timestampMs), used / (1024 * 1024), committed / (1024 * 1024),
+							gcPause, threads, processCpu * 100, systemCpu * 100, hostMemory, load,
+							String.join(";", getActiveTestsAt(timestampMs))));
+					rows[0]++;
+				} catch (IOException e) {
+					failure[0] = e;
+				}
+			});
+
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+
+		logger.info("Exported {} telemetry samples to {}", rows[0], file);
+		return rows[0];
+	}
+
+	/**
+	 * Get telemetry statistics for reporting
+	 */
+	public Map<String, Object> getTelemetryStatistics() {
+		long[] peakHeap = { -1, 0 };
+		long[] totalGcPause = { 0 };
+		int[] peakThreads = { 0 };
+		double[] peakProcessCpu = { 0 };
+		double[] peakHostMemory = { 0 };
+
+		forEachSample((timestampMs, used, committed, gcPause, threads, processCpu, systemCpu, hostMemory, load) -> {
+			if (used > peakHeap[0]) {
+				peakHeap[0] = used;
+				peakHeap[1] = timestampMs;
+			}
+			totalGcPause[0] += gcPause;
+			peakThreads[0] = Math.max(peakThreads[0], threads);
+			if (processCpu > peakProcessCpu[0]) {
+				peakProcessCpu[0] = processCpu;
+			}
+			if (hostMemory > peakHostMemory[0]) {
+				peakHostMemory[0] = hostMemory;
+			}
+		});
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("samples", getSampleCount());
+		stats.put("totalSamplesTaken", written);
+		stats.put("capacity", capacity);
+		stats.put("intervalMs", intervalMs);
+		stats.put("failedSamples", failedSamples.get());
+		if (peakHeap[0] >= 0) {
+			stats.put("peakHeapUsedMB", peakHeap[0] / (1024 * 1024));
+			stats.put("peakHeapTime", Instant.ofEpochMilli(peakHeap[1]));
+			stats.put("peakHeapActiveTests", getActiveTestsAt(peakHeap[1]));
+			stats.put("totalGcPauseMs", totalGcPause[0]);
+			stats.put("peakThreadCount", peakThreads[0]);
+			stats.put("peakProcessCpuPercent", String.format("%.1f", peakProcessCpu[0] * 100));
+			stats.put("peakHostMemoryUsedPercent", String.format("%.1f", peakHostMemory[0]));
+		}
+		return stats;
+	}
+
+	// ===============================
+	// PRIVATE HELPER METHODS
+	// ===============================
+
+	/**
+	 * Sampling loop at a fixed rate; missed ticks are skipped, not replayed
+	 */
+	private void runSampler() {
+		long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+		long nextSample = System.nanoTime() + intervalNanos;
+
+		while (running) {
+			long waitNanos = nextSample - System.nanoTime();
+			if (waitNanos > 0) {
+				LockSupport.parkNanos(this, waitNanos);
+				continue;
+			}
+
+			sample();
+			nextSample += intervalNanos;
+			long now = System.nanoTime();
+			if (nextSample < now) {
+				nextSample = now + intervalNanos;
+			}
+		}
+	}
+
+	/**
+	 * Take one sample; runs on the sampler thread only
+	 */
+	private void sample() {
+		try {
+			long now = System.currentTimeMillis();
+			long nanos = System.nanoTime();
+
+			Runtime runtime = Runtime.getRuntime();
+			long committed = runtime.totalMemory();
+			long used = committed - runtime.freeMemory();
+
+			long gcTime = totalGcTimeMs();
+			int threads = threadBean.getThreadCount();
+
+			double processCpu = Double.NaN;
+			if (platformOsBean != null) {
+				long cpuTime = platformOsBean.getProcessCpuTime();
+				long elapsed = nanos - lastSampleNanos;
+				if (lastCpuTimeNs >= 0 && cpuTime >= 0 && elapsed > 0) {
+					processCpu = (double) (cpuTime - lastCpuTimeNs) / ((double) elapsed * processors);
+				}
+				lastCpuTimeNs = cpuTime;
+			}
+			double systemCpu = sampleHostCpuLoad();
+			double hostMemory = sampleHostMemoryUsedPercent();
+
+			int slot = (int) (written % capacity);
+			timestamps[slot] = now;
+			heapUsed[slot] = used;
+			heapCommitted[slot] = committed;
+			gcPauseMs[slot] = gcTime - lastGcTimeMs;
+			threadCounts[slot] = threads;
+			processCpuLoad[slot] = processCpu;
+			systemCpuLoad[slot] = systemCpu;
+			hostMemoryUsedPercent[slot] = hostMemory;
+			loadAverage[slot] = osBean.getSystemLoadAverage();
+
+			lastGcTimeMs = gcTime;
+			lastSampleNanos = nanos;
+			written = written + 1;
+
+		} catch (RuntimeException e) {
+			// Keep the schedule alive; a failed sample is simply skipped
+			if (failedSamples.incrementAndGet() == 1) {
+				logger.warn("Telemetry sample failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Host CPU busy fraction since the previous sample, from /proc/stat
+	 */
+	private double sampleHostCpuLoad() {
+		int length = readProcFile(procStat);
+		if (length <= 0) {
+			return Double.NaN;
+		}
+
+		// First line: "cpu  user nice system idle iowait irq softirq steal ..."
+		int position = 3;
+		long total = 0;
+		for (int i = 0; i < cpuTicks.length; i++) {
+			while (position < length && procBuffer[position] == ' ') {
+				position++;
+			}
+			long value = 0;
+			while (position < length && procBuffer[position] >= '0' && procBuffer[position] <= '9') {
+				value = value * 10 + (procBuffer[position++] - '0');
+			}
+			cpuTicks[i] = value;
+			total += value;
+		}
+		long busy = total - cpuTicks[3] - cpuTicks[4];
+
+		double load = Double.NaN;
+		if (lastHostBusyTicks >= 0 && total > lastHostTotalTicks) {
+			load = (double) (busy - lastHostBusyTicks) / (total - lastHostTotalTicks);
+		}
+		lastHostBusyTicks = busy;
+		lastHostTotalTicks = total;
+		return load;
+	}
+
+	/**
+	 * Host memory in use (total minus available), from /proc/meminfo
+	 */
+	private double sampleHostMemoryUsedPercent() {
+		int length = readProcFile(procMeminfo);
+		long total = findProcValue(length, MEM_TOTAL_KEY);
+		long available = findProcValue(length, MEM_AVAILABLE_KEY);
+		if (total <= 0 || available < 0) {
+			return Double.NaN;
+		}
+		return (double) (total - available) / total * 100;
+	}
+
+	/**
+	 * Re-read a /proc file into the shared buffer; returns bytes read or -1
+	 */
+	private int readProcFile(RandomAccessFile file) {
+		if (file == null) {
+			return -1;
+		}
+		try {
+			file.seek(0);
+			int length = 0;
+			int read;
+			while (length < procBuffer.length
+					&& (read = file.read(procBuffer, length, procBuffer.length - length)) > 0) {
+				length += read;
+			}
+			return length;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Find the numeric value following a key in the buffer, or -1
+	 */
+	private long findProcValue(int length, byte[] key) {
+		outer: for (int start = 0; start + key.length <= length; start++) {
+			for (int i = 0; i < key.length; i++) {
+				if (procBuffer[start + i] != key[i]) {
+					continue outer;
+				}
+			}
+			int position = start + key.length;
+			while (position < length && procBuffer[position] == ' ') {
+				position++;
+			}
+			long value = 0;
+			while (position < length && procBuffer[position] >= '0' && procBuffer[position] <= '9') {
+				value = value * 10 + (procBuffer[position++] - '0');
+			}
+			return value;
+		}
+		return -1;
+	}
+
+	private static RandomAccessFile openProcFile(String path) {
+		try {
+			return new RandomAccessFile(path, "r");
+		} catch (IOException e) {
+			logger.debug("Host statistics file not available: {}", path);
+			return null;
+		}
+	}
+
+	private static void closeProcFile(RandomAccessFile file) {
+		if (file != null) {
+			try {
+				file.close();
+			} catch (IOException e) {
+				logger.debug("Error closing host statistics file: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void visitSlot(int slot, TelemetrySampleVisitor visitor) {
+		visitor.visit(timestamps[slot], heapUsed[slot], heapCommitted[slot], gcPauseMs[slot], threadCounts[slot],
+				processCpuLoad[slot], systemCpuLoad[slot], hostMemoryUsedPercent[slot], loadAverage[slot]);
+	}
+
+	private long totalGcTimeMs() {
+		long total = 0;
+		for (GarbageCollectorMXBean gcBean : gcBeans) {
+			long collectionTime = gcBean.getCollectionTime();
+			if (collectionTime > 0) {
+				total += collectionTime;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Time span during which a test was running on a thread
+	 */
+	private static final class TestWindow {
+		private final String testName;
+		private final long startMs;
+		private volatile long endMs = -1;
+
+		private TestWindow(String testName, long startMs) {
+			this.testName = testName;
+			this.startMs = startMs;
+		}
+
+		private boolean covers(long timestampMs) {
+			long end = endMs;
+			return timestampMs >= startMs && (end < 0 || timestampMs <= end);
+		}
+	}
+}
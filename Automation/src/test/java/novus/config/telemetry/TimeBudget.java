@@ -0,0 +1,343 @@
+package novus.config.telemetry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Splits each test's wall time into where it went
+ *
+ * Framework hooks bracket their work with {@link #enter} and {@link #exit} on
+ * the test's thread; time with nothing open is the test's own code. Each
+ * moment is charged once, to a phase chosen from the open brackets: the
+ * outermost one, so commands polled by a wait count as waiting, except that
+ * setup and teardown give way to the phases nested in them other than plain
+ * commands, so a screenshot taken in teardown counts as artifacts. Every
+ * test is rolled up into its class and the suite when it finishes, and the
+ * bracket stacks are kept as flame-graph collapsed stacks.
+ *
+ * Nothing is recorded on threads without a running test.
+ */
+public final class TimeBudget {
+	private static final Logger logger = LoggerFactory.getLogger(TimeBudget.class);
+
+	public enum Phase {
+		SETUP("setup", true),
+		DRIVER_CREATION("driver creation", false),
+		NAVIGATION("navigation", false),
+		EXPLICIT_WAIT("explicit wait", false),
+		IMPLICIT_WAIT("implicit wait", false),
+		COMMAND("commands", false),
+		SLEEP("sleep", false),
+		ARTIFACTS("artifacts", false),
+		TEARDOWN("teardown", true),
+		TEST_CODE("test code", false);
+
+		private final String label;
+		private final boolean envelope;
+
+		Phase(String label, boolean envelope) {
+			this.label = label;
+			this.envelope = envelope;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		// Envelopes hand their time to nested phases, apart from plain commands
+		private Phase within(Phase nested) {
+			return envelope && nested != COMMAND && nested != IMPLICIT_WAIT ? nested : this;
+		}
+	}
+
+	private static final int PHASES = Phase.values().length;
+
+	private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+
+	// Roll-ups of finished tests
+	private static final Totals SUITE = new Totals();
+	private static final Map<String, Totals> CLASSES = new ConcurrentHashMap<>();
+	private static final Map<String, LongAdder> COLLAPSED = new ConcurrentHashMap<>();
+
+	private TimeBudget() {
+	}
+
+	// ===============================
+	// HOOKS
+	// ===============================
+
+	/**
+	 * Start charging time on the current thread to a test; an unfinished
+	 * test on the thread is finished first
+	 */
+	public static void startTest(String suiteName, String className, String testName) {
+		if (RECORDER.get() != null) {
+			finishTest();
+		}
+		RECORDER.set(new Recorder(suiteName, className, testName));
+	}
+
+	/**
+	 * Stop charging time to the current thread's test and roll it up
+	 */
+	public static void finishTest() {
+		Recorder recorder = RECORDER.get();
+		if (recorder == null) {
+			return;
+		}
+		RECORDER.remove();
+		recorder.close(System.nanoTime());
+	}
+
+	/**
+	 * Open a bracket of a phase, shown in collapsed stacks under the phase name
+	 */
+	public static void enter(Phase phase) {
+		enter(phase, phase.label);
+	}
+
+	/**
+	 * Open a bracket of a phase, shown in collapsed stacks as the given frame
+	 */
+	public static void enter(Phase phase, String frame) {
+		Recorder recorder = RECORDER.get();
+		if (recorder != null) {
+			recorder.enter(phase, frame, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Close the innermost bracket
+	 */
+	public static void exit() {
+		exit(null);
+	}
+
+	/**
+	 * Close the innermost bracket as another phase, for work whose phase
+	 * is only known once it is done; null keeps the phase it was opened with
+	 */
+	public static void exit(Phase actual) {
+		Recorder recorder = RECORDER.get();
+		if (recorder != null) {
+			recorder.exit(actual, System.nanoTime());
+		}
+	}
+
+	// ===============================
+	// STATISTICS
+	// ===============================
+
+	/**
+	 * Get the suite's time per phase across all finished tests, in ms and as
+	 * a percentage of test wall time
+	 */
+	public static Map<String, Object> getBudgetStatistics() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("tests", SUITE.tests.sum());
+		stats.put("testWallMs", TimeUnit.NANOSECONDS.toMillis(SUITE.total()));
+		stats.putAll(SUITE.toMap());
+		return stats;
+	}
+
+	/**
+	 * Get the time per phase of every test class, slowest class first
+	 */
+	public static Map<String, Object> getClassBreakdown() {
+		List<Map.Entry<String, Totals>> classes = new ArrayList<>(CLASSES.entrySet());
+		classes.sort((a, b) -> Long.compare(b.getValue().total(), a.getValue().total()));
+
+		Map<String, Object> breakdown = new LinkedHashMap<>();
+		for (Map.Entry<String, Totals> testClass : classes) {
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("tests", testClass.getValue().tests.sum());
+			stats.put("wallMs", TimeUnit.NANOSECONDS.toMillis(testClass.getValue().total()));
+			stats.putAll(testClass.getValue().toMap());
+			breakdown.put(testClass.getKey(), stats);
+		}
+		return breakdown;
+	}
+
+	/**
+	 * Write the collapsed stacks of all finished tests, one
+	 * "suite;class;test;frame... microseconds" line per stack, as read by
+	 * flamegraph.pl, speedscope and similar viewers
+	 * @return number of stacks written
+	 */
+	public static int exportCollapsedStacks(Path file) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Map<String, Long> stacks = new TreeMap<>();
+		COLLAPSED.forEach((stack, nanos) -> stacks.put(stack, TimeUnit.NANOSECONDS.toMicros(nanos.sum())));
+
+		int written = 0;
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (Map.Entry<String, Long> stack : stacks.entrySet()) {
+				if (stack.getValue() > 0) {
+					writer.write(stack.getKey() + " " + stack.getValue() + "\n");
+					written++;
+				}
+			}
+		}
+		logger.info("Exported {} collapsed stacks to {}", written, file);
+		return written;
+	}
+
+	public static void resetStatistics() {
+		SUITE.reset();
+		CLASSES.clear();
+		COLLAPSED.clear();
+	}
+
+	// Frames are separated by ';' and the count by the last space
+	private static String frameName(String name) {
+		return name == null || name.isEmpty() ? "unknown" : name.replace(';', ':').replace('\n', ' ');
+	}
+
+	/**
+	 * Open brackets and charged time of the test running on one thread
+	 */
+	private static final class Recorder {
+		private final String className;
+		private final String root;
+		private final long[] phaseNanos = new long[PHASES];
+		private final Map<String, Long> stacks = new HashMap<>();
+		private Phase[] phases = new Phase[8];
+		private String[] frames = new String[8];
+		private int depth;
+		private long markNanos = System.nanoTime();
+
+		private Recorder(String suiteName, String className, String testName) {
+			this.className = className;
+			this.root = frameName(suiteName) + ";" + frameName(className) + ";" + frameName(testName);
+		}
+
+		private void enter(Phase phase, String frame, long now) {
+			charge(now);
+			if (depth == phases.length) {
+				phases = Arrays.copyOf(phases, depth * 2);
+				frames = Arrays.copyOf(frames, depth * 2);
+			}
+			phases[depth] = phase;
+			frames[depth] = frameName(frame);
+			depth++;
+		}
+
+		private void exit(Phase actual, long now) {
+			if (depth == 0) {
+				return;
+			}
+			if (actual != null) {
+				phases[depth - 1] = actual;
+			}
+			charge(now);
+			depth--;
+			phases[depth] = null;
+			frames[depth] = null;
+		}
+
+		private void charge(long now) {
+			long elapsed = now - markNanos;
+			markNanos = now;
+			if (elapsed <= 0) {
+				return;
+			}
+			phaseNanos[phase().ordinal()] += elapsed;
+			stacks.merge(stack(), elapsed, Long::sum);
+		}
+
+		private Phase phase() {
+			if (depth == 0) {
+				return Phase.TEST_CODE;
+			}
+			Phase phase = phases[0];
+			for (int i = 1; i < depth; i++) {
+				phase = phase.within(phases[i]);
+			}
+			return phase;
+		}
+
+		private String stack() {
+			if (depth == 0) {
+				return root + ";" + Phase.TEST_CODE.label;
+			}
+			StringBuilder stack = new StringBuilder(root);
+			for (int i = 0; i < depth; i++) {
+				stack.append(';').append(frames[i]);
+			}
+			return stack.toString();
+		}
+
+		private void close(long now) {
+			if (depth > 0) {
+				logger.debug("Finishing test {} with {} open brackets", root, depth);
+			}
+			charge(now);
+			SUITE.add(phaseNanos);
+			CLASSES.computeIfAbsent(className, name -> new Totals()).add(phaseNanos);
+			stacks.forEach((stack, nanos) -> COLLAPSED.computeIfAbsent(stack, key -> new LongAdder()).add(nanos));
+		}
+	}
+
+	/**
+	 * Time per phase summed over finished tests
+	 */
+	private static final class Totals {
+		private final LongAdder tests = new LongAdder();
+		private final LongAdder[] phaseNanos = new LongAdder[PHASES];
+
+		private Totals() {
+			for (int i = 0; i < PHASES; i++) {
+				phaseNanos[i] = new LongAdder();
+			}
+		}
+
+		private void add(long[] nanos) {
+			tests.increment();
+			for (int i = 0; i < PHASES; i++) {
+				phaseNanos[i].add(nanos[i]);
+			}
+		}
+
+		private long total() {
+			long total = 0;
+			for (LongAdder nanos : phaseNanos) {
+				total += nanos.sum();
+			}
+			return total;
+		}
+
+		private Map<String, Object> toMap() {
+			long total = total();
+			Map<String, Object> stats = new LinkedHashMap<>();
+			for (Phase phase : Phase.values()) {
+				long nanos = phaseNanos[phase.ordinal()].sum();
+				double percent = total > 0 ? Math.round(nanos * 1000.0 / total) / 10.0 : 0.0;
+				stats.put(phase.label, TimeUnit.NANOSECONDS.toMillis(nanos) + " ms (" + percent + "%)");
+			}
+			return stats;
+		}
+
+		private void reset() {
+			tests.reset();
+			for (LongAdder nanos : phaseNanos) {
+				nanos.reset();
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package novus.config.telemetry;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Phase accounting of {@link TimeBudget}: every moment is charged once, to
+ * the phase chosen from the open brackets
+ */
+public class TimeBudgetTest {
+
+	private static final long STEP_MS = 20;
+
+	@BeforeMethod
+	public void resetBudget() {
+		TimeBudget.finishTest();
+		TimeBudget.resetStatistics();
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void finishBudget() {
+		TimeBudget.finishTest();
+		TimeBudget.resetStatistics();
+	}
+
+	@Test
+	public void commandsPolledByAWaitCountAsWaiting() throws InterruptedException {
+		TimeBudget.startTest("Suite", "demo.LoginTest", "testLogin");
+		TimeBudget.enter(TimeBudget.Phase.EXPLICIT_WAIT);
+		TimeBudget.enter(TimeBudget.Phase.COMMAND);
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit();
+		TimeBudget.exit();
+		TimeBudget.finishTest();
+
+		Map<String, Object> stats = TimeBudget.getBudgetStatistics();
+		assertTrue(millis(stats, "explicit wait") >= STEP_MS, stats.toString());
+		assertEquals(millis(stats, "commands"), 0);
+	}
+
+	@Test
+	public void setupGivesWayToNestedPhasesOtherThanCommands() throws InterruptedException {
+		TimeBudget.startTest("Suite", "demo.LoginTest", "testLogin");
+		TimeBudget.enter(TimeBudget.Phase.SETUP);
+		TimeBudget.enter(TimeBudget.Phase.DRIVER_CREATION);
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit();
+		TimeBudget.enter(TimeBudget.Phase.COMMAND);
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit();
+		TimeBudget.exit();
+		TimeBudget.finishTest();
+
+		Map<String, Object> stats = TimeBudget.getBudgetStatistics();
+		assertTrue(millis(stats, "driver creation") >= STEP_MS, stats.toString());
+		assertTrue(millis(stats, "setup") >= STEP_MS, stats.toString());
+		assertEquals(millis(stats, "commands"), 0);
+	}
+
+	@Test
+	public void bracketCanBeChargedAsAnotherPhaseOnExit() throws InterruptedException {
+		TimeBudget.startTest("Suite", "demo.LoginTest", "testLogin");
+		TimeBudget.enter(TimeBudget.Phase.COMMAND);
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit(TimeBudget.Phase.IMPLICIT_WAIT);
+		TimeBudget.finishTest();
+
+		Map<String, Object> stats = TimeBudget.getBudgetStatistics();
+		assertTrue(millis(stats, "implicit wait") >= STEP_MS, stats.toString());
+		assertEquals(millis(stats, "commands"), 0);
+	}
+
+	@Test
+	public void testsRollUpIntoClassesAndCollapsedStacks() throws Exception {
+		TimeBudget.startTest("Suite", "demo.LoginTest", "testLogin");
+		TimeBudget.enter(TimeBudget.Phase.TEARDOWN);
+		TimeBudget.enter(TimeBudget.Phase.ARTIFACTS, "failure;artifacts");
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit();
+		TimeBudget.exit();
+		// Starting the next test finishes the unfinished one
+		TimeBudget.startTest("Suite", "demo.LoginTest", "testLogout");
+		TimeBudget.finishTest();
+
+		assertEquals(TimeBudget.getBudgetStatistics().get("tests"), 2L);
+		Map<String, Object> breakdown = TimeBudget.getClassBreakdown();
+		assertEquals(((Map<?, ?>) breakdown.get("demo.LoginTest")).get("tests"), 2L);
+
+		Path file = Files.createTempFile("time-budget", ".collapsed");
+		try {
+			TimeBudget.exportCollapsedStacks(file);
+			List<String> stacks = Files.readAllLines(file);
+			assertTrue(stacks.stream().anyMatch(
+					line -> line.startsWith("Suite;demo.LoginTest;testLogin;teardown;failure:artifacts ")),
+					stacks.toString());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void nothingIsRecordedWithoutARunningTest() throws InterruptedException {
+		TimeBudget.enter(TimeBudget.Phase.COMMAND);
+		Thread.sleep(STEP_MS);
+		TimeBudget.exit();
+
+		assertEquals(TimeBudget.getBudgetStatistics().get("tests"), 0L);
+		assertEquals(millis(TimeBudget.getBudgetStatistics(), "commands"), 0);
+	}
+
+	// Phases are reported as "<ms> ms (<percent>%)"
+	private static long millis(Map<String, Object> stats, String phase) {
+		String value = String.valueOf(stats.get(phase));
+		return Long.parseLong(value.substring(0, value.indexOf(' ')));
+	}
+}
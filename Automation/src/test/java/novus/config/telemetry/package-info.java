@@ -0,0 +1 @@
+package novus.config.telemetry;
\ No newline at end of file
@@ -6,6 +6,8 @@ import novus.config.config_interfaces.CustomExceptions.*;
 import novus.config.models.DriverConfiguration;
 import novus.config.browser_option.BrowserConfigHelper;
 import novus.config.config_loader.ConfigurationPropertiesProvider;
+import novus.config.telemetry.CommandProfiler;
+import pom.support.ImplicitWaitScope;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -61,6 +63,11 @@ public class EnhancedWebDriverFactory implements WebDriverFactory {
 
 			configureDriver(driver, config);
 
+			// Per-command latency for the suite report
+			if (CommandProfiler.isEnabled()) {
+				driver = CommandProfiler.decorate(driver);
+			}
+
 			long creationTime = System.currentTimeMillis() - startTime;
 			logger.info("Driver created successfully in {}ms for thread: {}", creationTime,
 					Thread.currentThread().threadId());
@@ -84,8 +91,8 @@ public class EnhancedWebDriverFactory implements WebDriverFactory {
 
 		// Configure timeouts
 		var timeouts = config.getTimeouts();
-		driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(timeouts.getImplicitTimeout()))
-				.pageLoadTimeout(Duration.ofSeconds(timeouts.getPageLoadTimeout()))
+		ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(timeouts.getImplicitTimeout()));
+		driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(timeouts.getPageLoadTimeout()))
 				.scriptTimeout(Duration.ofSeconds(timeouts.getScriptTimeout()));
 
 		// Maximize window if not headless and not mobile
@@ -1,6 +1,19 @@
 package pom.pages;
 
 import config_reader.configLoader;
+import novus.config.resource_manager.BrowserResourceMonitor;
+import novus.config.telemetry.CommandProfiler;
+import novus.config.telemetry.ParallelismGovernor;
+import novus.config.telemetry.TelemetrySampler;
+import novus.config.telemetry.TimeBudget;
+import pom.pages1.Base_Page1;
+import pom.support.ElementCache;
+import pom.support.FrameContext;
+import pom.support.InteractionBatch;
+import pom.support.NavigationTracker;
+import pom.support.PageRegistry;
+import pom.wait.Sleeps;
+import pom.wait.WaitEngine;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +86,7 @@ public abstract class BaseTestSuite {
     private static final AtomicInteger testCounter = new AtomicInteger(0);
     private static final AtomicInteger failedTestCounter = new AtomicInteger(0);
     private static final AtomicInteger passedTestCounter = new AtomicInteger(0);
+    private static ParallelismGovernor parallelismGovernor;
     
     // Test execution metrics
     private static Instant suiteStartTime;
@@ -85,6 +99,11 @@ public abstract class BaseTestSuite {
     private static final String VIDEO_DIR = "test-output/videos";
     private static final String TEST_DATA_DIR = "test-output/test-data";
     
+    static {
+        // Attribute waits and sleeps in suite helpers to the calling test
+        WaitEngine.registerWaitHelper(BaseTestSuite.class);
+    }
+    
     /**
      * Suite-level setup executed once before all tests
      * Initializes global resources and configurations
@@ -179,9 +198,26 @@ public abstract class BaseTestSuite {
             testStartTimes.put(threadId, Instant.now());
             testNames.put(threadId, fullTestName);
             testArtifacts.put(threadId, new ArrayList<>());
+            TelemetrySampler.getInstance().markTestStarted(threadId, fullTestName);
+            CommandProfiler.setCurrentTest(fullTestName);
+            TimeBudget.startTest(result.getTestContext().getSuite().getName(), className, testName);
+            TimeBudget.enter(TimeBudget.Phase.SETUP);
+            
+            // Wait for a browser slot under current host pressure
+            TimeBudget.enter(TimeBudget.Phase.SETUP, "browser slot");
+            try {
+                parallelismGovernor.acquire(threadId);
+            } finally {
+                TimeBudget.exit();
+            }
             
             // Initialize WebDriver for this test
-            initializeWebDriverForTest(threadId);
+            TimeBudget.enter(TimeBudget.Phase.DRIVER_CREATION);
+            try {
+                initializeWebDriverForTest(threadId);
+            } finally {
+                TimeBudget.exit();
+            }
             
             // Setup database connection if required
 //            initializeDatabaseConnectionForTest(threadId);
@@ -204,6 +240,8 @@ public abstract class BaseTestSuite {
             logger.error("Test method setup failed for: {}", fullTestName, e);
             handleSetupFailure(threadId, fullTestName, e);
             throw new RuntimeException("Test setup failed for: " + fullTestName, e);
+        } finally {
+            TimeBudget.exit();
         }
     }
     
@@ -217,6 +255,7 @@ public abstract class BaseTestSuite {
         String threadName = Thread.currentThread().getName();
         String testName = testNames.get(threadId);
         
+        TimeBudget.enter(TimeBudget.Phase.TEARDOWN);
         try {
             logger.info("Starting teardown for test: {} on thread: {}", testName, threadId);
             
@@ -228,15 +267,23 @@ public abstract class BaseTestSuite {
             // Handle test result
             handleTestResult(result, testName, testDuration, threadId);
             
-            // Capture performance metrics
-            capturePerformanceMetrics(threadId, testName);
-            
-            // Capture browser logs
-            captureBrowserLogs(threadId, testName);
+            TimeBudget.enter(TimeBudget.Phase.ARTIFACTS, "browser logs");
+            try {
+                // Capture performance metrics
+                capturePerformanceMetrics(threadId, testName);
+                
+                // Capture browser logs
+                captureBrowserLogs(threadId, testName);
+            } finally {
+                TimeBudget.exit();
+            }
             
             // Cleanup database connections
             cleanupDatabaseConnection(threadId);
             
+            // Attach browser process usage to the test result
+            captureBrowserResourceUsage(result, threadId, testName);
+            
             // Cleanup WebDriver
             cleanupWebDriver(threadId);
             
@@ -248,6 +295,8 @@ public abstract class BaseTestSuite {
             
             // Cleanup thread-local data
             cleanupThreadLocalData(threadId);
+            TelemetrySampler.getInstance().markTestFinished(threadId);
+            CommandProfiler.clearCurrentTest();
             
             logger.info("Test teardown completed for: {} (Duration: {}ms)", 
                        testName, testDuration.toMillis());
@@ -256,6 +305,12 @@ public abstract class BaseTestSuite {
             logger.error("Test teardown failed for: {}", testName, e);
             // Don't throw exception in teardown to avoid masking test failures
         } finally {
+            // Free the browser slot even when cleanup failed, or later tests wait for it forever
+            parallelismGovernor.release(threadId);
+            
+            // Roll the test's time budget up into its class and the suite
+            TimeBudget.finishTest();
+            
             // Always cleanup MDC
             MDC.clear();
         }
@@ -477,6 +532,9 @@ public abstract class BaseTestSuite {
     }
     
     private void initializePerformanceMonitoring() {
+        TelemetrySampler.getInstance().start();
+        parallelismGovernor = new ParallelismGovernor(configManager.getThreadCount(),
+                configManager.getMemoryThreshold(), configManager.getCpuThreshold(), TelemetrySampler.getInstance());
         logger.info("Performance monitoring initialized");
         suiteMetrics.put("performanceMetrics", new ConcurrentHashMap<String, Object>());
     }
@@ -513,6 +571,9 @@ public abstract class BaseTestSuite {
             WebDriver driver = configManager.createDriver();
             threadLocalDrivers.put(threadId, driver);
             
+            // Per-test drivers end with the test, so the RSS ceiling is reported rather than recycled
+            BrowserResourceMonitor.getInstance().track(browserResourceKey(threadId), driver, null);
+            
             logger.info("WebDriver initialized successfully for thread: {}", threadId);
             
         } catch (DriverCreationException e) {
@@ -585,11 +646,16 @@ public abstract class BaseTestSuite {
     
     private void handleTestFailure(ITestResult result, String testName, long threadId) {
         try {
-            // Take screenshot on failure
-            takeScreenshotOnFailure(testName, threadId);
-            
-            // Capture page source
-            capturePageSource(testName, threadId);
+            TimeBudget.enter(TimeBudget.Phase.ARTIFACTS, "failure artifacts");
+            try {
+                // Take screenshot on failure
+                takeScreenshotOnFailure(testName, threadId);
+                
+                // Capture page source
+                capturePageSource(testName, threadId);
+            } finally {
+                TimeBudget.exit();
+            }
             
             // Log failure details
             Throwable throwable = result.getThrowable();
@@ -752,10 +818,26 @@ public abstract class BaseTestSuite {
         }
     }
     
+    private void captureBrowserResourceUsage(ITestResult result, long threadId, String testName) {
+        Map<String, Object> usage = BrowserResourceMonitor.getInstance().untrack(browserResourceKey(threadId));
+        if (!usage.isEmpty()) {
+            result.setAttribute("browserResources", usage);
+            logger.info("Browser resources for {}: {}", testName, usage);
+        }
+    }
+    
+    private static String browserResourceKey(long threadId) {
+        return "test-" + threadId;
+    }
+    
     private void cleanupWebDriver(long threadId) {
         WebDriver driver = threadLocalDrivers.remove(threadId);
         if (driver != null) {
             try {
+                WaitEngine.release(driver);
+                NavigationTracker.release(driver);
+                FrameContext.release(driver);
+                PageRegistry.release(driver);
                 driver.quit();
                 logger.debug("WebDriver quit for thread: {}", threadId);
             } catch (Exception e) {
@@ -794,7 +876,9 @@ public abstract class BaseTestSuite {
         logger.error("Setup failure for test: {} on thread: {}", testName, threadId, e);
         
         // Cleanup any partially initialized resources
+        BrowserResourceMonitor.getInstance().untrack(browserResourceKey(threadId));
         cleanupWebDriver(threadId);
+        parallelismGovernor.release(threadId);
         cleanupDatabaseConnection(threadId);
         cleanupThreadLocalData(threadId);
     }
@@ -990,6 +1074,99 @@ public abstract class BaseTestSuite {
             perfReport.append("Used Memory: ").append(usedMemory).append(" MB\n");
             perfReport.append("Free Memory: ").append(freeMemory).append(" MB\n");
             
+            // Add telemetry time series collected during the run
+            TelemetrySampler telemetry = TelemetrySampler.getInstance();
+            telemetry.close();
+            File telemetryFile = new File(REPORTS_DIR, "telemetry-timeseries.csv");
+            telemetry.exportCsv(telemetryFile.toPath());
+            
+            perfReport.append("\nTELEMETRY:\n");
+            telemetry.getTelemetryStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            perfReport.append("Time Series: ").append(telemetryFile.getPath()).append("\n");
+            
+            // Add parallelism adjustments made under host pressure
+            perfReport.append("\nPARALLELISM GOVERNOR:\n");
+            parallelismGovernor.close();
+            parallelismGovernor.getGovernorStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            parallelismGovernor.getAdjustmentLog().forEach(adjustment -> 
+                perfReport.append("  ").append(adjustment).append("\n"));
+            
+            // Add browser process accounting
+            perfReport.append("\nBROWSER RESOURCES:\n");
+            BrowserResourceMonitor.getInstance().getMonitorStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            
+            // Add explicit wait time per call site
+            perfReport.append("\nWAITS:\n");
+            WaitEngine.getWaitStatistics().forEach((key, value) -> {
+                if (value instanceof Map) {
+                    ((Map<?, ?>) value).forEach((site, siteStats) -> 
+                        perfReport.append("  ").append(site).append(": ").append(siteStats).append("\n"));
+                } else {
+                    perfReport.append(key).append(": ").append(value).append("\n");
+                }
+            });
+            
+            // Add remaining fixed sleeps by cost
+            perfReport.append("\nSLEEPS:\n");
+            Sleeps.getSleepStatistics().forEach((key, value) -> {
+                if (value instanceof Map) {
+                    ((Map<?, ?>) value).forEach((site, siteStats) -> 
+                        perfReport.append("  ").append(site).append(": ").append(siteStats).append("\n"));
+                } else {
+                    perfReport.append(key).append(": ").append(value).append("\n");
+                }
+            });
+            
+            // Add element handle reuse
+            perfReport.append("\nELEMENT CACHE:\n");
+            ElementCache.getCacheStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            
+            // Add frame switch commands saved by tracking the current frame
+            perfReport.append("\nFRAME SWITCHES:\n");
+            FrameContext.getSwitchStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            
+            // Add page objects reused and validations skipped between navigations
+            perfReport.append("\nPAGE OBJECTS:\n");
+            PageRegistry.getRegistryStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            Base_Page1.getValidationStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            
+            // Add gestures sent together in one actions request
+            perfReport.append("\nINTERACTIONS:\n");
+            InteractionBatch.getBatchStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            
+            // Add WebDriver command latency and the call sites spending the most on it
+            perfReport.append("\nWEBDRIVER COMMANDS:\n");
+            CommandProfiler.getCommandStatistics().forEach((key, value) -> {
+                if (value instanceof Map) {
+                    ((Map<?, ?>) value).forEach((command, commandStats) -> 
+                        perfReport.append("  ").append(command).append(": ").append(commandStats).append("\n"));
+                } else {
+                    perfReport.append(key).append(": ").append(value).append("\n");
+                }
+            });
+            perfReport.append("Slowest call sites:\n");
+            CommandProfiler.getSlowestCallSites().forEach(site -> 
+                perfReport.append("  ").append(site).append("\n"));
+            
+            // Add where test wall time went, per suite and per class
+            File stacksFile = new File(REPORTS_DIR, "time-budget.collapsed");
+            TimeBudget.exportCollapsedStacks(stacksFile.toPath());
+            
+            perfReport.append("\nTIME BUDGET:\n");
+            TimeBudget.getBudgetStatistics().forEach((key, value) -> 
+                perfReport.append(key).append(": ").append(value).append("\n"));
+            TimeBudget.getClassBreakdown().forEach((testClass, classStats) -> 
+                perfReport.append("  ").append(testClass).append(": ").append(classStats).append("\n"));
+            perfReport.append("Collapsed Stacks: ").append(stacksFile.getPath()).append("\n");
+            
             File perfFile = new File(REPORTS_DIR, "performance-report.txt");
             FileUtils.writeStringToFile(perfFile, perfReport.toString(), "UTF-8");
             
@@ -1350,18 +1527,27 @@ public abstract class BaseTestSuite {
     
     /**
      * Wait for specified duration with proper logging
+     * Prefer {@link #waitForPageReady()}; fixed waits are listed in the performance report
      * @param seconds Duration in seconds
      */
     protected void waitFor(int seconds) {
         try {
             logger.debug("Waiting for {} seconds...", seconds);
-            Thread.sleep(seconds * 1000L);
+            Sleeps.sleep(seconds * 1000L);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.warn("Wait interrupted", e);
         }
     }
     
+    /**
+     * Wait until the current page has settled (readyState complete, DOM and network quiet)
+     * @return false if the page was still busy at the web.json timeouts.pageReadiness.maxSeconds deadline
+     */
+    protected boolean waitForPageReady() {
+        return WaitEngine.forDriver(getDriver()).awaitPageReady();
+    }
+    
     /**
      * Log test step for better reporting
      * @param stepDescription Description of the test step
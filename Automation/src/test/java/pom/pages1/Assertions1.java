@@ -1,41 +1,76 @@
 package pom.pages1;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Objects;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import pom.support.PageProbe;
+import pom.wait.WaitEngine;
+
 public class Assertions1 {
 
     // Constants
     private static final int DEFAULT_TIMEOUT = 10;
     
-    // Logger (you might want to add proper logging)
-    private static void logAssertion(String message) {
-        System.out.println("[ASSERTION] " + message);
+    static {
+        WaitEngine.registerWaitHelper(Assertions1.class);
     }
+    
+    // Passed checks log at trace, so the passing path formats nothing unless asked to
+    private static final Logger logger = LoggerFactory.getLogger(Assertions1.class);
 
     /**
-     * Verify element is present and displayed on page
+     * Verify element is present and displayed on page, giving a still loading
+     * element the short explicit timeout to appear
      */
     public static void verify_element_on_page(WebDriver driver, By selector, String elementDescription, String pageName) {
         try {
-            WebElement element = driver.findElement(selector);
-            Assert.assertTrue(element.isDisplayed(),
-                    String.format("Element '%s' should be visible on the '%s' page, but it is not.", 
-                            elementDescription, pageName));
-            logAssertion(String.format("✓ Element '%s' is present on '%s' page", elementDescription, pageName));
-        } catch (NoSuchElementException e) {
+            WaitEngine.forDriver(driver).awaitPresent(selector, WaitEngine.Timeout.SHORT.getSeconds());
+        } catch (TimeoutException e) {
+            // Reported as not found below
+        }
+        PageProbe.Result state = PageProbe.on(driver).displayed(selector).run();
+        if (!state.isPresent(selector)) {
             String errorMessage = String.format("Element '%s' should be on the '%s' page, but it was not found.", 
                     elementDescription, pageName);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
+            Assert.fail(errorMessage);
+        }
+        if (!state.isDisplayed(selector)) {
+            Assert.fail(String.format("Element '%s' should be visible on the '%s' page, but it is not.", 
+                    elementDescription, pageName));
+        }
+        logger.trace("✓ Element '{}' is present on '{}' page", elementDescription, pageName);
+    }
+
+    /**
+     * Verify several elements are present and displayed, reading all of them in
+     * one round trip and reporting every missing element together
+     * @param elements Locators mapped to their descriptions
+     */
+    public static void verify_elements_on_page(WebDriver driver, Map<By, String> elements, String pageName) {
+        PageProbe.Result state = PageProbe.on(driver).displayed(elements.keySet().toArray(new By[0])).run();
+        List<String> missing = new ArrayList<>();
+        elements.forEach((selector, elementDescription) -> {
+            if (state.isDisplayed(selector)) {
+                logger.trace("✓ Element '{}' is present on '{}' page", elementDescription, pageName);
+            } else {
+                missing.add(elementDescription);
+            }
+        });
+        if (!missing.isEmpty()) {
+            String errorMessage = String.format("Elements %s should be visible on the '%s' page, but they are not.", 
+                    missing, pageName);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
         }
     }
@@ -44,19 +79,14 @@ public class Assertions1 {
      * Verify element is not present on page
      */
     public static void verify_element_not_on_page(WebDriver driver, By selector, String elementDescription, String pageName) {
-        try {
-            WebElement element = driver.findElement(selector);
-            if (element.isDisplayed()) {
-                String errorMessage = String.format("Element '%s' should not be visible on the '%s' page, but it is.", 
-                        elementDescription, pageName);
-                logAssertion("✗ " + errorMessage);
-                Assert.fail(errorMessage);
-            }
-        } catch (NoSuchElementException e) {
-            // Element not found - this is expected
-            logAssertion(String.format("✓ Element '%s' is not present on '%s' page", elementDescription, pageName));
-            Assert.assertTrue(true);
+        PageProbe.Result state = PageProbe.on(driver).displayed(selector).run();
+        if (state.isDisplayed(selector)) {
+            String errorMessage = String.format("Element '%s' should not be visible on the '%s' page, but it is.", 
+                    elementDescription, pageName);
+            logger.error("✗ {}", errorMessage);
+            Assert.fail(errorMessage);
         }
+        logger.trace("✓ Element '{}' is not present on '{}' page", elementDescription, pageName);
     }
 
     /**
@@ -64,15 +94,16 @@ public class Assertions1 {
      */
     public static void verify_element_appears_within_timeout(WebDriver driver, By selector, String elementDescription,
             String pageName, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(selector));
-            logAssertion(String.format("✓ Element '%s' appeared within %d seconds on '%s' page", 
-                    elementDescription, timeoutSeconds, pageName));
+            WaitEngine.forDriver(driver).awaitPresent(selector, timeoutSeconds);
+            if (logger.isTraceEnabled()) {
+                logger.trace("✓ Element '{}' appeared within {} seconds on '{}' page",
+                        elementDescription, timeoutSeconds, pageName);
+            }
         } catch (TimeoutException e) {
             String errorMessage = String.format("Element '%s' should appear within %d seconds on the '%s' page, but it did not.", 
                     elementDescription, timeoutSeconds, pageName);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
         }
     }
@@ -82,15 +113,16 @@ public class Assertions1 {
      */
     public static void verify_element_disappears_within_timeout(WebDriver driver, By selector, String elementDescription,
             String pageName, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(selector));
-            logAssertion(String.format("✓ Element '%s' disappeared within %d seconds on '%s' page", 
-                    elementDescription, timeoutSeconds, pageName));
+            WaitEngine.forDriver(driver).awaitInvisible(selector, timeoutSeconds);
+            if (logger.isTraceEnabled()) {
+                logger.trace("✓ Element '{}' disappeared within {} seconds on '{}' page",
+                        elementDescription, timeoutSeconds, pageName);
+            }
         } catch (TimeoutException e) {
             String errorMessage = String.format("Element '%s' should disappear within %d seconds on the '%s' page, but it did not.", 
                     elementDescription, timeoutSeconds, pageName);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
         }
     }
@@ -114,30 +146,33 @@ public class Assertions1 {
                 break;
             default:
                 String errorMessage = String.format("Invalid expected selection status: '%s'. Expected values: 'selected', 'not selected', 'checked', 'unchecked', 'true', 'false'", expectedStatus);
-                logAssertion("✗ " + errorMessage);
+                logger.error("✗ {}", errorMessage);
                 Assert.fail(errorMessage);
                 return;
         }
         
-        Assert.assertEquals(actualStatus, expectedBooleanStatus, 
-                String.format("Element '%s' selection status should be [%s] but was [%s]", 
-                        elementDescription, expectedStatus, actualStatus ? "selected" : "not selected"));
+        if (actualStatus != expectedBooleanStatus) {
+            Assert.assertEquals(actualStatus, expectedBooleanStatus, 
+                    String.format("Element '%s' selection status should be [%s] but was [%s]", 
+                            elementDescription, expectedStatus, actualStatus ? "selected" : "not selected"));
+        }
         
-        logAssertion(String.format("✓ Element '%s' selection status is correctly [%s]", 
-                elementDescription, expectedStatus));
+        logger.trace("✓ Element '{}' selection status is correctly [{}]", elementDescription, expectedStatus);
     }
 
     /**
      * Verify checkbox status with better error messages
      */
     public static void verify_checkbox_status(boolean actualStatus, boolean expectedStatus, String checkboxName) {
-        Assert.assertEquals(actualStatus, expectedStatus, 
-                String.format("Checkbox '%s' should be [%s] but is [%s].",
-                        checkboxName, expectedStatus ? "checked" : "unchecked", 
-                        actualStatus ? "checked" : "unchecked"));
+        if (actualStatus != expectedStatus) {
+            Assert.assertEquals(actualStatus, expectedStatus, 
+                    String.format("Checkbox '%s' should be [%s] but is [%s].",
+                            checkboxName, expectedStatus ? "checked" : "unchecked", 
+                            actualStatus ? "checked" : "unchecked"));
+        }
         
-        logAssertion(String.format("✓ Checkbox '%s' status is correctly [%s]", 
-                checkboxName, expectedStatus ? "checked" : "unchecked"));
+        logger.trace("✓ Checkbox '{}' status is correctly [{}]",
+                checkboxName, expectedStatus ? "checked" : "unchecked");
     }
 
     /**
@@ -148,12 +183,12 @@ public class Assertions1 {
         List<WebElement> childElements = parentSection.findElements(By.xpath(".//*"));
         boolean isElementInSection = childElements.contains(childElement);
         
-        Assert.assertTrue(isElementInSection,
-                String.format("Element '%s' should be in the '%s' section, but it is not.", 
-                        elementDescription, sectionName));
+        if (!isElementInSection) {
+            Assert.fail(String.format("Element '%s' should be in the '%s' section, but it is not.", 
+                    elementDescription, sectionName));
+        }
         
-        logAssertion(String.format("✓ Element '%s' is correctly located in '%s' section", 
-                elementDescription, sectionName));
+        logger.trace("✓ Element '{}' is correctly located in '{}' section", elementDescription, sectionName);
     }
 
     /**
@@ -164,12 +199,12 @@ public class Assertions1 {
         List<WebElement> childElements = parentSection.findElements(By.xpath(".//*"));
         boolean isElementInSection = childElements.contains(childElement);
         
-        Assert.assertFalse(isElementInSection,
-                String.format("Element '%s' should not be in the '%s' section, but it is.", 
-                        elementDescription, sectionName));
+        if (isElementInSection) {
+            Assert.fail(String.format("Element '%s' should not be in the '%s' section, but it is.", 
+                    elementDescription, sectionName));
+        }
         
-        logAssertion(String.format("✓ Element '%s' is correctly not in '%s' section", 
-                elementDescription, sectionName));
+        logger.trace("✓ Element '{}' is correctly not in '{}' section", elementDescription, sectionName);
     }
 
     /**
@@ -177,15 +212,17 @@ public class Assertions1 {
      */
     public static void verify_object_equals(Object expected, Object actual, String attributeDescription) {
         if (expected == null && actual == null) {
-            logAssertion(String.format("✓ %s: Both expected and actual are null", attributeDescription));
+            logger.trace("✓ {}: Both expected and actual are null", attributeDescription);
             return;
         }
         
-        Assert.assertEquals(actual, expected,
-                String.format("%s should be [%s], but was [%s]", 
-                        attributeDescription, expected, actual));
+        if (!Objects.equals(actual, expected)) {
+            Assert.assertEquals(actual, expected,
+                    String.format("%s should be [%s], but was [%s]", 
+                            attributeDescription, expected, actual));
+        }
         
-        logAssertion(String.format("✓ %s is correctly [%s]", attributeDescription, expected));
+        logger.trace("✓ {} is correctly [{}]", attributeDescription, expected);
     }
 
     /**
@@ -195,17 +232,18 @@ public class Assertions1 {
         if (actualString == null) {
             String errorMessage = String.format("%s is null, cannot check if it contains [%s]", 
                     attributeDescription, expectedSubstring);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
             return;
         }
         
         boolean contains = actualString.toLowerCase().contains(expectedSubstring.toLowerCase());
-        Assert.assertTrue(contains,
-                String.format("%s [%s] should contain [%s], but it does not", 
-                        attributeDescription, actualString, expectedSubstring));
+        if (!contains) {
+            Assert.fail(String.format("%s [%s] should contain [%s], but it does not", 
+                    attributeDescription, actualString, expectedSubstring));
+        }
         
-        logAssertion(String.format("✓ %s correctly contains [%s]", attributeDescription, expectedSubstring));
+        logger.trace("✓ {} correctly contains [{}]", attributeDescription, expectedSubstring);
     }
 
     /**
@@ -213,18 +251,17 @@ public class Assertions1 {
      */
     public static void verify_object_not_contains(String unexpectedSubstring, String actualString, String attributeDescription) {
         if (actualString == null) {
-            logAssertion(String.format("✓ %s is null, so it does not contain [%s]", 
-                    attributeDescription, unexpectedSubstring));
+            logger.trace("✓ {} is null, so it does not contain [{}]", attributeDescription, unexpectedSubstring);
             return;
         }
         
         boolean contains = actualString.toLowerCase().contains(unexpectedSubstring.toLowerCase());
-        Assert.assertFalse(contains,
-                String.format("%s [%s] should not contain [%s], but it does", 
-                        attributeDescription, actualString, unexpectedSubstring));
+        if (contains) {
+            Assert.fail(String.format("%s [%s] should not contain [%s], but it does", 
+                    attributeDescription, actualString, unexpectedSubstring));
+        }
         
-        logAssertion(String.format("✓ %s correctly does not contain [%s]", 
-                attributeDescription, unexpectedSubstring));
+        logger.trace("✓ {} correctly does not contain [{}]", attributeDescription, unexpectedSubstring);
     }
 
     /**
@@ -234,16 +271,17 @@ public class Assertions1 {
         if (list == null) {
             String errorMessage = String.format("%s is null, cannot check if it includes [%s]", 
                     listDescription, expectedObject);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
             return;
         }
         
-        Assert.assertTrue(list.contains(expectedObject),
-                String.format("%s should include [%s] but does not. List contents: %s", 
-                        listDescription, expectedObject, list));
+        if (!list.contains(expectedObject)) {
+            Assert.fail(String.format("%s should include [%s] but does not. List contents: %s", 
+                    listDescription, expectedObject, list));
+        }
         
-        logAssertion(String.format("✓ %s correctly includes [%s]", listDescription, expectedObject));
+        logger.trace("✓ {} correctly includes [{}]", listDescription, expectedObject);
     }
 
     /**
@@ -251,32 +289,36 @@ public class Assertions1 {
      */
     public static void verify_list_not_includes(List<?> list, Object unexpectedObject, String listDescription) {
         if (list == null) {
-            logAssertion(String.format("✓ %s is null, so it does not include [%s]", 
-                    listDescription, unexpectedObject));
+            logger.trace("✓ {} is null, so it does not include [{}]", listDescription, unexpectedObject);
             return;
         }
         
-        Assert.assertFalse(list.contains(unexpectedObject),
-                String.format("%s should not include [%s] but does. List contents: %s", 
-                        listDescription, unexpectedObject, list));
+        if (list.contains(unexpectedObject)) {
+            Assert.fail(String.format("%s should not include [%s] but does. List contents: %s", 
+                    listDescription, unexpectedObject, list));
+        }
         
-        logAssertion(String.format("✓ %s correctly does not include [%s]", listDescription, unexpectedObject));
+        logger.trace("✓ {} correctly does not include [{}]", listDescription, unexpectedObject);
     }
 
     /**
      * Verify boolean is true
      */
     public static void verify_is_true(boolean actual, String attributeDescription) {
-        Assert.assertTrue(actual, String.format("%s should be true, but was [%s]", attributeDescription, actual));
-        logAssertion(String.format("✓ %s is correctly true", attributeDescription));
+        if (!actual) {
+            Assert.fail(String.format("%s should be true, but was [%s]", attributeDescription, actual));
+        }
+        logger.trace("✓ {} is correctly true", attributeDescription);
     }
 
     /**
      * Verify boolean is false
      */
     public static void verify_is_false(boolean actual, String attributeDescription) {
-        Assert.assertFalse(actual, String.format("%s should be false, but was [%s]", attributeDescription, actual));
-        logAssertion(String.format("✓ %s is correctly false", attributeDescription));
+        if (actual) {
+            Assert.fail(String.format("%s should be false, but was [%s]", attributeDescription, actual));
+        }
+        logger.trace("✓ {} is correctly false", attributeDescription);
     }
 
     /**
@@ -286,17 +328,20 @@ public class Assertions1 {
         if (actual == null || expected == null) {
             String errorMessage = String.format("Cannot compare null values. %s: actual=[%s], expected=[%s]", 
                     attributeDescription, actual, expected);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
             return;
         }
         
-        Assert.assertTrue(actual.doubleValue() > expected.doubleValue(),
-                String.format("%s [%s] should be greater than [%s], but it is not", 
-                        attributeDescription, actual, expected));
+        if (!(actual.doubleValue() > expected.doubleValue())) {
+            Assert.fail(String.format("%s [%s] should be greater than [%s], but it is not", 
+                    attributeDescription, actual, expected));
+        }
         
-        logAssertion(String.format("✓ %s [%s] is correctly greater than [%s]", 
-                attributeDescription, actual, expected));
+        if (logger.isTraceEnabled()) {
+            logger.trace("✓ {} [{}] is correctly greater than [{}]",
+                    attributeDescription, actual, expected);
+        }
     }
 
     /**
@@ -306,28 +351,33 @@ public class Assertions1 {
         if (actual == null || expected == null) {
             String errorMessage = String.format("Cannot compare null values. %s: actual=[%s], expected=[%s]", 
                     attributeDescription, actual, expected);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
             return;
         }
         
-        Assert.assertTrue(actual.doubleValue() < expected.doubleValue(),
-                String.format("%s [%s] should be less than [%s], but it is not", 
-                        attributeDescription, actual, expected));
+        if (!(actual.doubleValue() < expected.doubleValue())) {
+            Assert.fail(String.format("%s [%s] should be less than [%s], but it is not", 
+                    attributeDescription, actual, expected));
+        }
         
-        logAssertion(String.format("✓ %s [%s] is correctly less than [%s]", 
-                attributeDescription, actual, expected));
+        if (logger.isTraceEnabled()) {
+            logger.trace("✓ {} [{}] is correctly less than [{}]",
+                    attributeDescription, actual, expected);
+        }
     }
 
     /**
      * Verify arrays/lists match exactly
      */
     public static void verify_lists_match(List<?> expectedList, List<?> actualList, String attributeDescription) {
-        Assert.assertEquals(actualList, expectedList,
-                String.format("%s should match [%s] but was [%s]", 
-                        attributeDescription, expectedList, actualList));
+        if (!Objects.equals(actualList, expectedList)) {
+            Assert.assertEquals(actualList, expectedList,
+                    String.format("%s should match [%s] but was [%s]", 
+                            attributeDescription, expectedList, actualList));
+        }
         
-        logAssertion(String.format("✓ %s correctly matches expected list", attributeDescription));
+        logger.trace("✓ {} correctly matches expected list", attributeDescription);
     }
 
     /**
@@ -337,17 +387,20 @@ public class Assertions1 {
         if (actualValue == null) {
             String errorMessage = String.format("%s is null, cannot match against regex pattern [%s]", 
                     attributeDescription, regexPattern);
-            logAssertion("✗ " + errorMessage);
+            logger.error("✗ {}", errorMessage);
             Assert.fail(errorMessage);
             return;
         }
         
-        Assert.assertTrue(actualValue.matches(regexPattern),
-                String.format("%s [%s] should match regex pattern [%s], but it does not", 
-                        attributeDescription, actualValue, regexPattern));
+        if (!actualValue.matches(regexPattern)) {
+            Assert.fail(String.format("%s [%s] should match regex pattern [%s], but it does not", 
+                    attributeDescription, actualValue, regexPattern));
+        }
         
-        logAssertion(String.format("✓ %s [%s] correctly matches regex pattern [%s]", 
-                attributeDescription, actualValue, regexPattern));
+        if (logger.isTraceEnabled()) {
+            logger.trace("✓ {} [{}] correctly matches regex pattern [{}]",
+                    attributeDescription, actualValue, regexPattern);
+        }
     }
 
     /**
@@ -355,11 +408,12 @@ public class Assertions1 {
      */
     public static void verify_url_contains(WebDriver driver, String expectedUrlPart, String description) {
         String currentUrl = driver.getCurrentUrl();
-        Assert.assertTrue(currentUrl.contains(expectedUrlPart),
-                String.format("Current URL [%s] should contain [%s] for %s", 
-                        currentUrl, expectedUrlPart, description));
+        if (!currentUrl.contains(expectedUrlPart)) {
+            Assert.fail(String.format("Current URL [%s] should contain [%s] for %s", 
+                    currentUrl, expectedUrlPart, description));
+        }
         
-        logAssertion(String.format("✓ Current URL correctly contains [%s] for %s", expectedUrlPart, description));
+        logger.trace("✓ Current URL correctly contains [{}] for {}", expectedUrlPart, description);
     }
 
     /**
@@ -367,11 +421,13 @@ public class Assertions1 {
      */
     public static void verify_page_title(WebDriver driver, String expectedTitle, String description) {
         String actualTitle = driver.getTitle();
-        Assert.assertEquals(actualTitle, expectedTitle,
-                String.format("Page title should be [%s] for %s, but was [%s]", 
-                        expectedTitle, description, actualTitle));
+        if (!Objects.equals(actualTitle, expectedTitle)) {
+            Assert.assertEquals(actualTitle, expectedTitle,
+                    String.format("Page title should be [%s] for %s, but was [%s]", 
+                            expectedTitle, description, actualTitle));
+        }
         
-        logAssertion(String.format("✓ Page title is correctly [%s] for %s", expectedTitle, description));
+        logger.trace("✓ Page title is correctly [{}] for {}", expectedTitle, description);
     }
 
     /**
@@ -380,10 +436,10 @@ public class Assertions1 {
     public static void soft_verify_equals(Object expected, Object actual, String attributeDescription) {
         try {
             Assert.assertEquals(actual, expected);
-            logAssertion(String.format("✓ SOFT: %s is correctly [%s]", attributeDescription, expected));
+            logger.trace("✓ SOFT: {} is correctly [{}]", attributeDescription, expected);
         } catch (AssertionError e) {
-            logAssertion(String.format("✗ SOFT: %s should be [%s], but was [%s] - TEST CONTINUES", 
-                    attributeDescription, expected, actual));
+            logger.warn("✗ SOFT: {} should be [{}], but was [{}] - TEST CONTINUES",
+                    attributeDescription, expected, actual);
             // Don't throw the assertion error, just log it
         }
     }
@@ -1,75 +1,170 @@
 package pom.pages1;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import pom.support.BatchedSoftAssert;
+import pom.support.ElementCache;
+import pom.support.FormFiller;
+import pom.support.FrameContext;
+import pom.support.FramePath;
+import pom.support.ImplicitWaitScope;
+import pom.support.InteractionBatch;
+import pom.support.NavigationTracker;
+import pom.wait.WaitEngine;
+
 public class Base_Page1 {
+    // Page wait timeouts
+    protected static final int DEFAULT_TIMEOUT = 20;
+    protected static final int CLICKABLE_TIMEOUT = 10;
+    protected static final int VISIBLE_TIMEOUT = 10;
+    
+    static {
+        WaitEngine.registerWaitHelper(Base_Page1.class);
+    }
+    
+    // Page validations run and skipped across all page objects, for reporting
+    private static final AtomicLong VALIDATIONS = new AtomicLong();
+    private static final AtomicLong VALIDATIONS_SKIPPED = new AtomicLong();
+    
     protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected Actions actions;
+    protected WaitEngine waits;
+    // Owned by this page, so withMessage or ignoring do not leak into other pages
+    protected final WebDriverWait wait;
     protected JavascriptExecutor jsExecutor;
+    protected ElementCache elements;
+    protected FrameContext frames;
+    private final NavigationTracker navigation;
+    private long validatedGeneration = -1;
+    private boolean validating;
     
-    // Constructor
+    // Constructor - no round trips; the page is validated on its first interaction
     public Base_Page1(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        this.actions = new Actions(driver);
+        this.waits = WaitEngine.forDriver(driver);
+        this.wait = waits.newWait(DEFAULT_TIMEOUT);
         this.jsExecutor = (JavascriptExecutor) driver;
+        this.elements = new ElementCache(driver);
+        this.frames = FrameContext.forDriver(driver);
+        this.navigation = NavigationTracker.forDriver(driver);
+    }
+    
+    /**
+     * Check that the browser shows this page; run before the first interaction
+     * and again after each navigation
+     * @throws IllegalStateException if it does not
+     */
+    protected void validatePage() {
+    }
+    
+    /**
+     * Validate the page unless it was validated since the last navigation;
+     * helpers called from validatePage return at once
+     */
+    protected final void ensureValidated() {
+        if (validating) {
+            return;
+        }
+        // Without browser navigation events, a click that loaded another page shows in the URL
+        navigation.sync();
+        long generation = navigation.getGeneration();
+        if (generation == validatedGeneration) {
+            VALIDATIONS_SKIPPED.incrementAndGet();
+            return;
+        }
+        validating = true;
+        try {
+            validatePage();
+            VALIDATIONS.incrementAndGet();
+            validatedGeneration = generation;
+        } finally {
+            validating = false;
+        }
     }
     
-    // Custom wait methods
+    // Interaction helpers validate the page first; state checks (isElement*) answer for
+    // whatever page is showing and never validate.
+    // Custom wait methods - visibility, presence, invisibility and text waits run in the
+    // browser when web.json timeouts.waitMode is "observer". Visible and clickable waits
+    // check the cached handle of the locator first and cache the element they return.
     protected WebElement waitForElementToBeVisible(By locator, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return dynamicWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        ensureValidated();
+        WebElement cached = elements.peek(locator);
+        if (cached != null) {
+            try {
+                return waits.awaitVisible(cached, timeoutSeconds);
+            } catch (StaleElementReferenceException e) {
+                elements.invalidate(locator);
+            }
+        }
+        return elements.put(locator, waits.awaitVisible(locator, timeoutSeconds));
     }
     
     protected WebElement waitForElementToBeClickable(By locator, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return dynamicWait.until(ExpectedConditions.elementToBeClickable(locator));
+        ensureValidated();
+        WebElement cached = elements.peek(locator);
+        if (cached != null) {
+            try {
+                return waits.until(ExpectedConditions.elementToBeClickable(cached), timeoutSeconds);
+            } catch (StaleElementReferenceException e) {
+                elements.invalidate(locator);
+            }
+        }
+        return elements.put(locator, waits.until(ExpectedConditions.elementToBeClickable(locator), timeoutSeconds));
     }
     
     protected boolean waitForElementToBeInvisible(By locator, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return dynamicWait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        ensureValidated();
+        frames.prepareLookup(locator);
+        return waits.awaitInvisible(locator, timeoutSeconds);
     }
     
     protected List<WebElement> waitForElementsToBeVisible(By locator, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return dynamicWait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        ensureValidated();
+        frames.prepareLookup(locator);
+        return waits.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator), timeoutSeconds);
     }
     
     // NEW: Added missing method used in Home_Page1
     protected WebElement waitForElementToBePresent(By locator, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return dynamicWait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        ensureValidated();
+        frames.prepareLookup(locator);
+        return waits.awaitPresent(locator, timeoutSeconds);
     }
     
     // NEW: Added missing method used in Home_Page1
+    // Presence and state checks answer immediately instead of waiting out the implicit wait
     protected boolean isElementPresent(By locator) {
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        frames.prepareLookup(locator);
+        return ImplicitWaitScope.isPresentNow(driver, locator);
+    }
+    
+    protected List<WebElement> findElementsNow(By locator) {
+        frames.prepareLookup(locator);
+        return ImplicitWaitScope.findElementsNow(driver, locator);
     }
     
     // Common element interaction methods
     protected void clickElement(By locator) {
         try {
-            WebElement element = waitForElementToBeClickable(locator, 10);
-            element.click();
+            onElement(locator, this::waitForClickable, element -> {
+                element.click();
+                return null;
+            });
         } catch (TimeoutException e) {
             throw new RuntimeException("Element not clickable within timeout: " + locator.toString());
         }
@@ -77,18 +172,57 @@ public class Base_Page1 {
     
     protected void enterText(By locator, String text) {
         try {
-            WebElement element = waitForElementToBeVisible(locator, 10);
-            element.clear();
-            element.sendKeys(text);
+            onElement(locator, this::waitForVisible, element -> {
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            });
         } catch (TimeoutException e) {
             throw new RuntimeException("Element not found or not visible: " + locator.toString());
         }
     }
     
+    /**
+     * Start a bulk form fill that shares this page's element handles
+     */
+    protected FormFiller form() {
+        ensureValidated();
+        return FormFiller.on(driver, elements);
+    }
+    
+    /**
+     * Start a batch of pointer and key gestures sent in one actions request at perform()
+     */
+    protected InteractionBatch interactions() {
+        ensureValidated();
+        return InteractionBatch.on(driver, elements).waitingUpTo(VISIBLE_TIMEOUT);
+    }
+    
+    /**
+     * Start page-level checks that run in one round trip at assertAll()
+     */
+    protected BatchedSoftAssert expectations() {
+        ensureValidated();
+        return BatchedSoftAssert.on(driver);
+    }
+    
+    // Fill fields in one script call once the first field is visible; use form().type(...)
+    // for fields that need real keystrokes
+    protected void fillForm(Map<By, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            waitForElementToBeVisible(values.keySet().iterator().next(), VISIBLE_TIMEOUT);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Form not visible: " + values.keySet().iterator().next());
+        }
+        form().setAll(values).fill();
+    }
+    
     protected String getText(By locator) {
     	try {
-            WebElement element = waitForElementToBeVisible(locator, 10);
-            String text = element.getText();
+            String text = onElement(locator, this::waitForVisible, WebElement::getText);
             if (text != null && !text.trim().isEmpty()) {
                 return text.trim();
             }
@@ -100,8 +234,7 @@ public class Base_Page1 {
     
     protected String getAttribute(By locator, String attributeName) {
         try {
-            WebElement element = waitForElementToBeVisible(locator, 10);
-            return element.getAttribute(attributeName);
+            return onElement(locator, this::waitForVisible, element -> element.getAttribute(attributeName));
         } catch (TimeoutException e) {
             return "";
         }
@@ -110,8 +243,7 @@ public class Base_Page1 {
     // Element state checking methods - FIXED: Removed duplicate wait calls
     protected boolean isElementDisplayed(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isDisplayed();
+            return elements.withPresentElement(locator, WebElement::isDisplayed);
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -119,8 +251,7 @@ public class Base_Page1 {
     
     protected boolean isElementEnabled(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isEnabled();
+            return elements.withPresentElement(locator, WebElement::isEnabled);
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -128,8 +259,7 @@ public class Base_Page1 {
     
     protected boolean isElementSelected(By locator) {
         try {
-            WebElement element = driver.findElement(locator);
-            return element.isSelected();
+            return elements.withPresentElement(locator, WebElement::isSelected);
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -137,63 +267,79 @@ public class Base_Page1 {
     
     // JavaScript executor methods
     protected void clickUsingJS(By locator) {
-        WebElement element = driver.findElement(locator);
-        jsExecutor.executeScript("arguments[0].click();", element);
+        ensureValidated();
+        elements.withElement(locator, element -> jsExecutor.executeScript("arguments[0].click();", element));
     }
     
     protected void scrollToElement(By locator) {
-        WebElement element = driver.findElement(locator);
-        jsExecutor.executeScript("arguments[0].scrollIntoView(true);", element);
+        ensureValidated();
+        elements.withElement(locator, element -> jsExecutor.executeScript("arguments[0].scrollIntoView(true);", element));
     }
     
     protected void highlightElement(By locator) {
-        WebElement element = driver.findElement(locator);
-        jsExecutor.executeScript("arguments[0].style.border='3px solid red'", element);
+        ensureValidated();
+        elements.withElement(locator, element -> jsExecutor.executeScript("arguments[0].style.border='3px solid red'", element));
     }
     
     // Dropdown handling
     protected void selectDropdownByText(By locator, String text) {
-        WebElement dropdown = waitForElementToBeVisible(locator, 10);
+        WebElement dropdown = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
         Select select = new Select(dropdown);
         select.selectByVisibleText(text);
     }
     
     protected void selectDropdownByValue(By locator, String value) {
-        WebElement dropdown = waitForElementToBeVisible(locator, 10);
+        WebElement dropdown = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
         Select select = new Select(dropdown);
         select.selectByValue(value);
     }
     
     protected void selectDropdownByIndex(By locator, int index) {
-        WebElement dropdown = waitForElementToBeVisible(locator, 10);
+        WebElement dropdown = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
         Select select = new Select(dropdown);
         select.selectByIndex(index);
     }
     
-    // Mouse actions
+    // Mouse actions - single gestures wait for visibility; use interactions() to send
+    // several gestures in one request
     protected void hoverOverElement(By locator) {
-        WebElement element = waitForElementToBeVisible(locator, 10);
-        actions.moveToElement(element).perform();
+        WebElement element = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
+        interactions().moveTo(element).perform();
     }
     
     protected void rightClickElement(By locator) {
-        WebElement element = waitForElementToBeVisible(locator, 10);
-        actions.contextClick(element).perform();
+        WebElement element = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
+        interactions().contextClick(element).perform();
     }
     
     protected void doubleClickElement(By locator) {
-        WebElement element = waitForElementToBeVisible(locator, 10);
-        actions.doubleClick(element).perform();
+        WebElement element = waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
+        interactions().doubleClick(element).perform();
     }
     
-    // Frame handling
+    // Hover a menu and click an item it reveals; one request when the item is already in the page
+    protected void hoverAndClick(By hoverLocator, By clickLocator) {
+        waitForElementToBeVisible(hoverLocator, VISIBLE_TIMEOUT);
+        interactions().moveTo(hoverLocator).click(clickLocator).perform();
+    }
+    
+    protected void dragAndDrop(By sourceLocator, By targetLocator) {
+        interactions().dragAndDrop(sourceLocator, targetLocator).releaseAfter().perform();
+    }
+    
+    // Frame handling - switches go through the driver's FrameContext, which skips them when
+    // the driver is already in the frame; locators bound with FramePath.locate switch by themselves
     protected void switchToFrame(By frameLocator) {
-        WebElement frame = waitForElementToBeVisible(frameLocator, 10);
-        driver.switchTo().frame(frame);
+        WebElement frame = waitForElementToBeVisible(frameLocator, VISIBLE_TIMEOUT);
+        frames.enter(frameLocator, frame);
+    }
+    
+    protected void switchToFrame(FramePath path) {
+        frames.switchTo(path);
     }
     
     protected void switchToDefaultContent() {
-        driver.switchTo().defaultContent();
+        frames.switchTo(FramePath.top());
     }
     
     // Window handling
@@ -202,6 +348,8 @@ public class Base_Page1 {
         for (String windowHandle : driver.getWindowHandles()) {
             if (!windowHandle.equals(currentWindow)) {
                 driver.switchTo().window(windowHandle);
+                markNavigated();
+                frames.markTopLevel();
                 break;
             }
         }
@@ -211,6 +359,8 @@ public class Base_Page1 {
         String mainWindow = driver.getWindowHandles().iterator().next();
         driver.close();
         driver.switchTo().window(mainWindow);
+        markNavigated();
+        frames.markTopLevel();
     }
     
     // Alert handling
@@ -229,14 +379,20 @@ public class Base_Page1 {
     // Page utilities
     protected void refreshPage() {
         driver.navigate().refresh();
+        markNavigated();
+        frames.markTopLevel();
     }
     
     protected void navigateBack() {
         driver.navigate().back();
+        markNavigated();
+        frames.markTopLevel();
     }
     
     protected void navigateForward() {
         driver.navigate().forward();
+        markNavigated();
+        frames.markTopLevel();
     }
     
     protected String getCurrentUrl() {
@@ -249,11 +405,49 @@ public class Base_Page1 {
     
     // Custom wait method for text to be present
     protected boolean waitForTextToBePresentInElement(By locator, String text, int timeoutSeconds) {
-        WebDriverWait dynamicWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        ensureValidated();
+        frames.prepareLookup(locator);
         try {
-            return dynamicWait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            return waits.awaitText(locator, text, timeoutSeconds);
         } catch (TimeoutException e) {
             return false;
         }
     }
+    
+    /**
+     * Drop cached element handles of every page object on this driver after a
+     * navigation or context switch
+     */
+    protected void markNavigated() {
+        NavigationTracker.forDriver(driver).markNavigated();
+    }
+    
+    // Run an action on a waited-for element, waiting again once if the handle went stale
+    private <T> T onElement(By locator, Function<By, WebElement> waitFor, Function<WebElement, T> action) {
+        WebElement element = waitFor.apply(locator);
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            elements.invalidate(locator);
+            return action.apply(waitFor.apply(locator));
+        }
+    }
+    
+    private WebElement waitForClickable(By locator) {
+        return waitForElementToBeClickable(locator, CLICKABLE_TIMEOUT);
+    }
+    
+    private WebElement waitForVisible(By locator) {
+        return waitForElementToBeVisible(locator, VISIBLE_TIMEOUT);
+    }
+    
+    /**
+     * Get page validation totals across all page objects: run and skipped
+     */
+    public static Map<String, Object> getValidationStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("validations", VALIDATIONS.get());
+        stats.put("validationsSkipped", VALIDATIONS_SKIPPED.get());
+        return stats;
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pom.support.PageProbe;
 import pom.utils.Assertions;
 
 /**
@@ -25,14 +26,14 @@ public class Home_Page1 extends Base_Page1 {
 
 	public Home_Page1(WebDriver driver) {
 		super(driver);
-		validatePage();
 		logger.info("Home_Page1 initialized");
 	}
 
 	/**
 	 * Validates that we're on the correct home page
 	 */
-	private void validatePage() {
+	@Override
+	protected void validatePage() {
 		logger.info("Validating Home Page load...");
 
 		try {
@@ -41,14 +42,16 @@ public class Home_Page1 extends Base_Page1 {
 			wait.until(ExpectedConditions.or(ExpectedConditions.visibilityOfElementLocated(SUCCESS_MESSAGE),
 					ExpectedConditions.titleContains(EXPECTED_TITLE)));
 
-			logger.info("Home Page validated successfully - Title: '{}', URL: '{}'", driver.getTitle(),
-					driver.getCurrentUrl());
+			// Title, URL and message state in one round trip
+			PageProbe.Result page = PageProbe.on(driver).displayed(SUCCESS_MESSAGE).run();
+			logger.info("Home Page validated successfully - Title: '{}', URL: '{}', Success message displayed: {}",
+					page.getTitle(), page.getUrl(), page.isDisplayed(SUCCESS_MESSAGE));
 
 		} catch (TimeoutException e) {
-			logger.error("Home Page validation failed - Title: '{}', URL: '{}'", driver.getTitle(),
-					driver.getCurrentUrl());
+			PageProbe.Result page = PageProbe.on(driver).run();
+			logger.error("Home Page validation failed - Title: '{}', URL: '{}'", page.getTitle(), page.getUrl());
 			throw new IllegalStateException(String.format("This is not Login Page. Expected: %s, Actual: %s, URL: %s",
-					EXPECTED_TITLE, driver.getTitle(), driver.getCurrentUrl()));
+					EXPECTED_TITLE, page.getTitle(), page.getUrl()));
 		}
 
 	}
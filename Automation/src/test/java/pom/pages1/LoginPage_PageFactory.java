@@ -18,7 +18,6 @@ public class LoginPage_PageFactory extends Base_Page1 {
 	
 	public LoginPage_PageFactory(WebDriver driver) {
 		super(driver);
-		validatePage();
 		PageFactory.initElements(driver, this);
 		logger.info("Login_Page1 initialized");
 	}
@@ -53,7 +52,8 @@ public class LoginPage_PageFactory extends Base_Page1 {
 	/**
 	 * Validates that we're on the correct login page
 	 */
-	private void validatePage() {
+	@Override
+	protected void validatePage() {
 		logger.info("Validating Login Page load...");
 
 		try {
@@ -74,6 +74,8 @@ public class LoginPage_PageFactory extends Base_Page1 {
 	
 	
 	public void enterUserName(String username) {
+		// PageFactory fields bypass the page helpers, so validate here
+		ensureValidated();
 		USERNAME_FIELD.sendKeys(username);
 	}
 	
@@ -12,6 +12,12 @@ import org.slf4j.LoggerFactory;
 
 import pom.data.DataProviders;
 import pom.utils.Assertions;
+import pom.support.FrameContext;
+import pom.support.ImplicitWaitScope;
+import pom.support.NavigationTracker;
+import pom.support.PageRegistry;
+import pom.wait.Sleeps;
+import pom.wait.WaitEngine;
 import java.time.Duration;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -91,6 +97,10 @@ public class LoginTest {
 		// Clean up WebDriver
 		if (driver != null) {
 			try {
+				WaitEngine.release(driver);
+				NavigationTracker.release(driver);
+				FrameContext.release(driver);
+				PageRegistry.release(driver);
 				driver.quit();
 				logger.debug("WebDriver closed successfully");
 			} catch (Exception e) {
@@ -137,7 +147,7 @@ public class LoginTest {
 	private void configureDriver() {
 		driver.manage().window().maximize();
 		driver.manage().deleteAllCookies();
-		driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(DEFAULT_TIMEOUT));
+		ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
 		driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(PAGE_LOAD_TIMEOUT));
 
 		logger.debug("Driver configured - Timeout: {}s, Page Load Timeout: {}s", DEFAULT_TIMEOUT, PAGE_LOAD_TIMEOUT);
@@ -153,7 +163,7 @@ public class LoginTest {
 		logger.info("Testing successful login with username: {}", username);
 
 		// Test execution
-		Login_Page1 loginPage = new Login_Page1(driver);
+		Login_Page1 loginPage = PageRegistry.forDriver(driver).get(Login_Page1.class);
 		Home_Page1 homePage = loginPage.performValidLogin(username, password);
 
 		// Assertions
@@ -168,7 +178,7 @@ public class LoginTest {
 		logger.info("Testing failed login with username: '{}', password: '{}'", username, "***");
 
 		// Test execution
-		Login_Page1 loginPage = new Login_Page1(driver);
+		Login_Page1 loginPage = PageRegistry.forDriver(driver).get(Login_Page1.class);
 		Login_Page1 loginPageAfterFailure = loginPage.performInvalidLogin(username, password);
 
 		// Assertions
@@ -183,7 +193,7 @@ public class LoginTest {
 		logger.info("Testing login with empty/blank credentials");
 
 		// Test execution
-		Login_Page1 loginPage = new Login_Page1(driver);
+		Login_Page1 loginPage = PageRegistry.forDriver(driver).get(Login_Page1.class);
 		loginPage.performInvalidLogin(username, password);
 
 		// Verification - should either show error or remain on login page
@@ -196,10 +206,10 @@ public class LoginTest {
 	public void testLoginPageUIElements() {
 		logger.info("Testing login page UI elements presence");
 
-		Login_Page1 loginPage = new Login_Page1(driver);
+		Login_Page1 loginPage = PageRegistry.forDriver(driver).get(Login_Page1.class);
 
-		// Check if all required elements are present
-		loginPage.verifyUserNameUiDisplayed();
+		// Check if all required elements are present, in one round trip
+		loginPage.verifyLoginFormDisplayed();
 
 	}
 
@@ -208,7 +218,7 @@ public class LoginTest {
 	public void testPasswordFieldMasking() {
 		logger.info("Testing password field masking");
 
-		Login_Page1 loginPage = new Login_Page1(driver);
+		Login_Page1 loginPage = PageRegistry.forDriver(driver).get(Login_Page1.class);
 
 		// Enter password and verify it's masked
 		loginPage.enterPassword("testpassword");
@@ -219,6 +229,6 @@ public class LoginTest {
 	public void PageFactoryTest() throws Exception {
 		LoginPage_PageFactory P1 = new LoginPage_PageFactory(driver);
 		P1.enterUserName("User");
-		Thread.sleep(2000);
+		Sleeps.sleep(2000);
 	}
 }
\ No newline at end of file
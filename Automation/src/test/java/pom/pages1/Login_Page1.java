@@ -1,5 +1,8 @@
 package pom.pages1;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
@@ -27,7 +30,6 @@ public class Login_Page1 extends Base_Page1 {
 	
 	public Login_Page1(WebDriver driver) {
 		super(driver);
-		validatePage();
 		logger.info("Login_Page1 initialized");
 	}
 	
@@ -49,7 +51,8 @@ public class Login_Page1 extends Base_Page1 {
 	/**
 	 * Validates that we're on the correct login page
 	 */
-	private void validatePage() {
+	@Override
+	protected void validatePage() {
 		logger.info("Validating Login Page load...");
 
 		try {
@@ -81,7 +84,7 @@ public class Login_Page1 extends Base_Page1 {
 
 		try {
 			logger.debug("Entering username: {}", userName);
-			wait.until(ExpectedConditions.elementToBeClickable(USERNAME_FIELD));
+			waitForElementToBeClickable(USERNAME_FIELD, DEFAULT_TIMEOUT);
 			enterText(USERNAME_FIELD, userName);
 			logger.debug("Username entered successfully");
 
@@ -105,7 +108,7 @@ public class Login_Page1 extends Base_Page1 {
 
 		try {
 			logger.debug("Entering password");
-			wait.until(ExpectedConditions.elementToBeClickable(PASSWORD_FIELD));
+			waitForElementToBeClickable(PASSWORD_FIELD, DEFAULT_TIMEOUT);
 			enterText(PASSWORD_FIELD, password);
 			logger.debug("Password entered successfully");
 
@@ -116,6 +119,29 @@ public class Login_Page1 extends Base_Page1 {
 		return this;
 	}
 
+	/**
+	 * Enters username and password with one script call
+	 * 
+	 * @param userName Username to enter
+	 * @param password Password to enter
+	 * @return Current LoginPage instance for method chaining
+	 */
+	public Login_Page1 enterCredentials(String userName, String password) {
+		Map<By, String> credentials = new LinkedHashMap<>();
+		credentials.put(USERNAME_FIELD, userName);
+		credentials.put(PASSWORD_FIELD, password);
+
+		try {
+			logger.debug("Entering credentials for username: {}", userName);
+			fillForm(credentials);
+
+		} catch (Exception e) {
+			logger.error("Failed to enter credentials: {}", e.getMessage());
+			throw new RuntimeException("Failed to enter credentials: " + e.getMessage(), e);
+		}
+		return this;
+	}
+
 	/**
 	 * Clicks the submit button
 	 * 
@@ -124,8 +150,9 @@ public class Login_Page1 extends Base_Page1 {
 	public Login_Page1 clickSubmit() {
 		try {
 			logger.debug("Clicking submit button");
-			wait.until(ExpectedConditions.elementToBeClickable(SUBMIT_BUTTON));
+			waitForElementToBeClickable(SUBMIT_BUTTON, DEFAULT_TIMEOUT);
 			clickElement(SUBMIT_BUTTON);
+			markNavigated(); // Submitting loads a new document
 			logger.debug("Submit button clicked successfully");
 
 		} catch (Exception e) {
@@ -149,8 +176,7 @@ public class Login_Page1 extends Base_Page1 {
 
 		try {
 			// Perform login steps
-			enterUserName(username);
-			enterPassword(password);
+			enterCredentials(username, password);
 			clickSubmit();
 
 			// Wait for either success or failure indicators
@@ -327,11 +353,27 @@ public class Login_Page1 extends Base_Page1 {
 	}
 	
 	public void verifyUserNameUiDisplayed() {
+		ensureValidated();
 		boolean status = isElementDisplayed(USERNAME_FIELD);
 		Assertions.verify_truthy(status, "Status true");
 		
 	}
 	
+	/**
+	 * Verifies the login form in one round trip: fields and submit button
+	 * displayed and enabled, and the password masked
+	 */
+	public void verifyLoginFormDisplayed() {
+		expectations()
+				.displayed(USERNAME_FIELD, "Username field")
+				.enabled(USERNAME_FIELD, "Username field")
+				.displayed(PASSWORD_FIELD, "Password field")
+				.attributeEquals(PASSWORD_FIELD, "type", "password", "Password field")
+				.displayed(SUBMIT_BUTTON, "Submit button")
+				.titleEquals(EXPECTED_TITLE)
+				.assertAll();
+	}
+	
 	public void verifyPasswordFieldIsMask() {
 		String passwordFieldType = getAttribute(PASSWORD_FIELD, "type");
 		Assertions1.verify_object_equals(passwordFieldType, "password", "Password field should be of type 'password' to mask input");
@@ -0,0 +1,322 @@
+package pom.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Soft assertions on page state, checked together with one script call
+ *
+ * Expectations are only queued when declared; {@link #assertAll()} reads
+ * everything they need with a single {@link PageProbe} round trip and fails
+ * once, listing every expectation that did not hold. Failure messages are
+ * only built for the expectations that failed, so a passing check formats
+ * nothing. Element expectations describe the first match of a locator.
+ *
+ * <pre>
+ * BatchedSoftAssert.on(driver)
+ *         .displayed(USERNAME_FIELD, "Username field")
+ *         .attributeEquals(PASSWORD_FIELD, "type", "password", "Password field")
+ *         .titleEquals("Hands-On Selenium WebDriver with Java")
+ *         .assertAll();
+ * </pre>
+ */
+public final class BatchedSoftAssert {
+    private static final Logger logger = LoggerFactory.getLogger(BatchedSoftAssert.class);
+
+    private enum Check {
+        DISPLAYED, NOT_DISPLAYED, PRESENT, ABSENT, ENABLED, DISABLED, SELECTED, NOT_SELECTED,
+        TEXT_EQUALS, TEXT_CONTAINS, ATTRIBUTE_EQUALS, CSS_EQUALS, COUNT, TITLE_EQUALS, URL_CONTAINS, TRUE
+    }
+
+    private final WebDriver driver;
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    private BatchedSoftAssert(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Start collecting expectations on the current page of a driver
+     */
+    public static BatchedSoftAssert on(WebDriver driver) {
+        return new BatchedSoftAssert(driver);
+    }
+
+    public BatchedSoftAssert displayed(By locator, String name) {
+        return expect(Check.DISPLAYED, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert notDisplayed(By locator, String name) {
+        return expect(Check.NOT_DISPLAYED, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert present(By locator, String name) {
+        return expect(Check.PRESENT, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert absent(By locator, String name) {
+        return expect(Check.ABSENT, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert enabled(By locator, String name) {
+        return expect(Check.ENABLED, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert disabled(By locator, String name) {
+        return expect(Check.DISABLED, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert selected(By locator, String name) {
+        return expect(Check.SELECTED, locator, null, null, name);
+    }
+
+    public BatchedSoftAssert notSelected(By locator, String name) {
+        return expect(Check.NOT_SELECTED, locator, null, null, name);
+    }
+
+    /**
+     * Expect the trimmed visible text to equal a value
+     */
+    public BatchedSoftAssert textEquals(By locator, String expected, String name) {
+        return expect(Check.TEXT_EQUALS, locator, null, expected, name);
+    }
+
+    public BatchedSoftAssert textContains(By locator, String expected, String name) {
+        return expect(Check.TEXT_CONTAINS, locator, null, expected, name);
+    }
+
+    public BatchedSoftAssert attributeEquals(By locator, String attributeName, String expected, String name) {
+        return expect(Check.ATTRIBUTE_EQUALS, locator, attributeName, expected, name);
+    }
+
+    public BatchedSoftAssert cssEquals(By locator, String propertyName, String expected, String name) {
+        return expect(Check.CSS_EQUALS, locator, propertyName, expected, name);
+    }
+
+    /**
+     * Expect a number of elements to match the locator
+     */
+    public BatchedSoftAssert count(By locator, int expected, String name) {
+        return expect(Check.COUNT, locator, null, expected, name);
+    }
+
+    public BatchedSoftAssert titleEquals(String expected) {
+        return expect(Check.TITLE_EQUALS, null, null, expected, "Page title");
+    }
+
+    public BatchedSoftAssert urlContains(String expected) {
+        return expect(Check.URL_CONTAINS, null, null, expected, "Current URL");
+    }
+
+    /**
+     * Queue a condition already evaluated by the test, reported with the page expectations
+     */
+    public BatchedSoftAssert that(boolean condition, String name) {
+        return expect(Check.TRUE, null, null, condition, name);
+    }
+
+    /**
+     * Get the number of queued expectations
+     */
+    public int size() {
+        return expectations.size();
+    }
+
+    /**
+     * Check every queued expectation with one script call and clear the queue
+     * @throws AssertionError listing every expectation that did not hold
+     */
+    public void assertAll() {
+        if (expectations.isEmpty()) {
+            return;
+        }
+        PageProbe.Result state = needsPage() ? probe().run() : null;
+        List<Expectation> failed = null;
+        for (Expectation expectation : expectations) {
+            if (!expectation.holds(state)) {
+                if (failed == null) {
+                    failed = new ArrayList<>();
+                }
+                failed.add(expectation);
+            }
+        }
+        int total = expectations.size();
+        expectations.clear();
+
+        if (failed == null) {
+            logger.trace("✓ {} expectations met", total);
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+                .append(failed.size()).append(" of ").append(total).append(" expectations failed:");
+        for (Expectation expectation : failed) {
+            message.append("\n  - ").append(expectation.describe(state));
+        }
+        logger.error("✗ {}", message);
+        throw new AssertionError(message.toString());
+    }
+
+    private BatchedSoftAssert expect(Check check, By locator, String key, Object expected, String name) {
+        expectations.add(new Expectation(check, locator, key, expected, name));
+        return this;
+    }
+
+    private boolean needsPage() {
+        for (Expectation expectation : expectations) {
+            if (expectation.check != Check.TRUE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PageProbe probe() {
+        PageProbe probe = PageProbe.on(driver);
+        for (Expectation expectation : expectations) {
+            By locator = expectation.locator;
+            switch (expectation.check) {
+                case DISPLAYED:
+                case NOT_DISPLAYED:
+                case PRESENT:
+                case ABSENT:
+                case COUNT:
+                    probe.displayed(locator);
+                    break;
+                case ENABLED:
+                case DISABLED:
+                    probe.enabled(locator);
+                    break;
+                case SELECTED:
+                case NOT_SELECTED:
+                    probe.selected(locator);
+                    break;
+                case TEXT_EQUALS:
+                case TEXT_CONTAINS:
+                    probe.text(locator);
+                    break;
+                case ATTRIBUTE_EQUALS:
+                    probe.attribute(locator, expectation.key);
+                    break;
+                case CSS_EQUALS:
+                    probe.css(locator, expectation.key);
+                    break;
+                default:
+                    // Title and URL come with every probe
+                    break;
+            }
+        }
+        return probe;
+    }
+
+    // ===============================
+    // EXPECTATION
+    // ===============================
+
+    /**
+     * One queued check; holds only what is needed to evaluate and describe it
+     */
+    private static final class Expectation {
+        private final Check check;
+        private final By locator;
+        private final String key;
+        private final Object expected;
+        private final String name;
+
+        private Expectation(Check check, By locator, String key, Object expected, String name) {
+            this.check = check;
+            this.locator = locator;
+            this.key = key;
+            this.expected = expected;
+            this.name = name;
+        }
+
+        private boolean holds(PageProbe.Result state) {
+            switch (check) {
+                case DISPLAYED:
+                    return state.isDisplayed(locator);
+                case NOT_DISPLAYED:
+                    return !state.isDisplayed(locator);
+                case PRESENT:
+                    return state.isPresent(locator);
+                case ABSENT:
+                    return !state.isPresent(locator);
+                case ENABLED:
+                    return state.isPresent(locator) && state.isEnabled(locator);
+                case DISABLED:
+                    return state.isPresent(locator) && !state.isEnabled(locator);
+                case SELECTED:
+                    return state.isSelected(locator);
+                case NOT_SELECTED:
+                    return state.isPresent(locator) && !state.isSelected(locator);
+                case TEXT_EQUALS:
+                    return state.getText(locator).trim().equals(expected);
+                case TEXT_CONTAINS:
+                    return state.getText(locator).contains((String) expected);
+                case ATTRIBUTE_EQUALS:
+                    return Objects.equals(state.getAttribute(locator, key), expected);
+                case CSS_EQUALS:
+                    return state.getCssValue(locator, key).equals(expected);
+                case COUNT:
+                    return state.getCount(locator) == (Integer) expected;
+                case TITLE_EQUALS:
+                    return Objects.equals(state.getTitle(), expected);
+                case URL_CONTAINS:
+                    return state.getUrl() != null && state.getUrl().contains((String) expected);
+                default:
+                    return (Boolean) expected;
+            }
+        }
+
+        // Only called for failed expectations
+        private String describe(PageProbe.Result state) {
+            switch (check) {
+                case DISPLAYED:
+                    return String.format("%s should be displayed (%s)", name, locatorState(state));
+                case NOT_DISPLAYED:
+                    return String.format("%s should not be displayed", name);
+                case PRESENT:
+                    return String.format("%s should be present (%s)", name, locator);
+                case ABSENT:
+                    return String.format("%s should not be present, found %d", name, state.getCount(locator));
+                case ENABLED:
+                    return String.format("%s should be enabled (%s)", name, locatorState(state));
+                case DISABLED:
+                    return String.format("%s should be disabled (%s)", name, locatorState(state));
+                case SELECTED:
+                    return String.format("%s should be selected (%s)", name, locatorState(state));
+                case NOT_SELECTED:
+                    return String.format("%s should not be selected (%s)", name, locatorState(state));
+                case TEXT_EQUALS:
+                    return String.format("%s text should be '%s', but was '%s'", name, expected,
+                            state.getText(locator).trim());
+                case TEXT_CONTAINS:
+                    return String.format("%s text should contain '%s', but was '%s'", name, expected,
+                            state.getText(locator).trim());
+                case ATTRIBUTE_EQUALS:
+                    return String.format("%s attribute '%s' should be '%s', but was '%s'", name, key, expected,
+                            state.getAttribute(locator, key));
+                case CSS_EQUALS:
+                    return String.format("%s CSS property '%s' should be '%s', but was '%s'", name, key, expected,
+                            state.getCssValue(locator, key));
+                case COUNT:
+                    return String.format("%s count should be %s, but was %d", name, expected, state.getCount(locator));
+                case TITLE_EQUALS:
+                    return String.format("%s should be '%s', but was '%s'", name, expected, state.getTitle());
+                case URL_CONTAINS:
+                    return String.format("%s should contain '%s', but was '%s'", name, expected, state.getUrl());
+                default:
+                    return String.format("%s should be true", name);
+            }
+        }
+
+        private String locatorState(PageProbe.Result state) {
+            return state.isPresent(locator) ? locator.toString() : locator + " not found";
+        }
+    }
+}
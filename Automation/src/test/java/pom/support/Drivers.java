@@ -0,0 +1,33 @@
+package pom.support;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Canonical driver for per-driver state
+ *
+ * Selenium hands the innermost driver to {@link org.openqa.selenium.By}
+ * lookups, while pages hold the decorated one returned by
+ * {@link org.openqa.selenium.support.events.EventFiringDecorator}. State kept
+ * per driver is keyed by the unwrapped driver, so both reach the same record.
+ */
+public final class Drivers {
+
+    private Drivers() {
+    }
+
+    /**
+     * Get the driver behind any decorators
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver unwrapped = driver;
+        while (unwrapped instanceof WrapsDriver) {
+            WebDriver inner = ((WrapsDriver) unwrapped).getWrappedDriver();
+            if (inner == null || inner == unwrapped) {
+                break;
+            }
+            unwrapped = inner;
+        }
+        return unwrapped;
+    }
+}
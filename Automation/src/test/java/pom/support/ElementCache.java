@@ -0,0 +1,189 @@
+package pom.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Element handles of one page object, keyed by locator
+ *
+ * Handles found once are reused for later interactions instead of resolving
+ * the locator again. Entries from before the last navigation recorded by the
+ * {@link NavigationTracker} or the last frame switch recorded by the
+ * {@link FrameContext} are dropped. A handle that went stale otherwise,
+ * e.g. after a click navigated without BiDi events, is detected when it is
+ * used: {@link #withElement(By, Function)} then finds the element again and
+ * retries once.
+ */
+public class ElementCache {
+
+    // Totals across all caches, for reporting
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong STALE = new AtomicLong();
+
+    private final WebDriver driver;
+    private final NavigationTracker navigation;
+    private final FrameContext frames;
+    private final Map<By, Entry> entries = new ConcurrentHashMap<>();
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+        this.navigation = NavigationTracker.forDriver(driver);
+        this.frames = FrameContext.forDriver(driver);
+    }
+
+    /**
+     * Get the cached handle for a locator, or null if none is current; a
+     * plain locator first brings the driver back from a framed lookup
+     */
+    public WebElement peek(By locator) {
+        frames.prepareLookup(locator);
+        Entry entry = entries.get(locator);
+        if (entry != null && (entry.generation != navigation.getGeneration()
+                || entry.frameGeneration != frames.getFrameGeneration())) {
+            entries.remove(locator, entry);
+            entry = null;
+        }
+        (entry != null ? HITS : MISSES).incrementAndGet();
+        return entry != null ? entry.element : null;
+    }
+
+    /**
+     * Get the handle for a locator, finding it if none is cached
+     */
+    public WebElement find(By locator) {
+        WebElement element = peek(locator);
+        if (element == null) {
+            element = driver.findElement(locator);
+            put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Cache a handle found elsewhere, e.g. returned by a wait
+     */
+    public WebElement put(By locator, WebElement element) {
+        if (element != null) {
+            entries.put(locator, new Entry(element, navigation.getGeneration(), frames.getFrameGeneration()));
+        }
+        return element;
+    }
+
+    /**
+     * Run an action on the element, finding it again and retrying once if the
+     * cached handle turns out to be stale
+     */
+    public <T> T withElement(By locator, Function<WebElement, T> action) {
+        return withElement(locator, action, false);
+    }
+
+    /**
+     * Like {@link #withElement(By, Function)}, but lookups do not wait, so a
+     * missing element fails at once instead of after the implicit wait
+     */
+    public <T> T withPresentElement(By locator, Function<WebElement, T> action) {
+        return withElement(locator, action, true);
+    }
+
+    private <T> T withElement(By locator, Function<WebElement, T> action, boolean immediate) {
+        WebElement element = peek(locator);
+        boolean cached = element != null;
+        if (!cached) {
+            element = put(locator, lookup(locator, immediate));
+        }
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            invalidate(locator);
+            if (!cached) {
+                throw e;
+            }
+            return action.apply(put(locator, lookup(locator, immediate)));
+        }
+    }
+
+    private WebElement lookup(By locator, boolean immediate) {
+        if (!immediate) {
+            return driver.findElement(locator);
+        }
+        return ImplicitWaitScope.withoutWait(driver, () -> driver.findElement(locator));
+    }
+
+    /**
+     * Check with one script call whether a cached handle is still attached to
+     * the document
+     */
+    public boolean isConnected(By locator) {
+        WebElement element = peek(locator);
+        if (element == null) {
+            return false;
+        }
+        boolean connected;
+        try {
+            connected = Boolean.TRUE.equals(((JavascriptExecutor) driver)
+                    .executeScript("return arguments[0].isConnected;", element));
+        } catch (StaleElementReferenceException e) {
+            connected = false;
+        }
+        if (!connected) {
+            invalidate(locator);
+        }
+        return connected;
+    }
+
+    /**
+     * Drop the handle of a locator, e.g. after it was found to be stale
+     */
+    public void invalidate(By locator) {
+        if (entries.remove(locator) != null) {
+            STALE.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get lookup totals across all caches: hits, misses and stale handles
+     */
+    public static Map<String, Object> getCacheStatistics() {
+        long hits = HITS.get();
+        long misses = MISSES.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("staleHandles", STALE.get());
+        stats.put("hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        return stats;
+    }
+
+    /**
+     * Handle together with the navigation and frame generations it was found in
+     */
+    private static final class Entry {
+        private final WebElement element;
+        private final long generation;
+        private final long frameGeneration;
+
+        private Entry(WebElement element, long generation, long frameGeneration) {
+            this.element = element;
+            this.generation = generation;
+            this.frameGeneration = frameGeneration;
+        }
+    }
+}
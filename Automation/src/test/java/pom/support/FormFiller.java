@@ -0,0 +1,213 @@
+package pom.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Fills form fields in bulk
+ *
+ * Fields added with {@link #set(By, String)} are assigned by one script that
+ * sets each value through the native property setter and fires input and
+ * change events, as frameworks listening to those events expect. Fields added
+ * with {@link #type(By, String)} are cleared and typed with real keystrokes,
+ * for fields with key handlers, masks or autocompletion. File inputs are
+ * always typed. Checkboxes and radio buttons take "true" or "false"; selects
+ * take an option value or visible text.
+ *
+ * <pre>
+ * FormFiller.on(driver)
+ *         .set(By.id("my-text-id"), "text")
+ *         .set(By.name("my-select"), "Two")
+ *         .type(By.id("search"), "sel")
+ *         .fill();
+ * </pre>
+ */
+public final class FormFiller {
+
+    // Argument: list of fields {using, value, element, text}; returns a problem per field or null
+    private static final String FILL_SCRIPT = String.join("\n",
+            "var fields = arguments[0];",
+            PageProbe.CSS_SELECTOR_FUNCTION,
+            PageProbe.IS_DISPLAYED_FUNCTION,
+            "function resolve(f) {",
+            "  if (f.element) { return f.element; }",
+            "  if (f.using === 'xpath') {",
+            "    var node = document.evaluate(f.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)",
+            "        .singleNodeValue;",
+            "    return node && node.nodeType === 1 ? node : null;",
+            "  }",
+            "  return document.querySelector(cssSelector(f.using, f.value));",
+            "}",
+            "function setNative(el, property, value) {",
+            "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), property);",
+            "  if (descriptor && descriptor.set) { descriptor.set.call(el, value); } else { el[property] = value; }",
+            "}",
+            "function fire(el, type) { el.dispatchEvent(new Event(type, { bubbles: true })); }",
+            "return fields.map(function (f) {",
+            "  var el = resolve(f);",
+            "  if (!el) { return 'missing'; }",
+            "  if (el.type === 'file') { return 'keys'; }",
+            "  if (!isDisplayed(el) || el.disabled || el.readOnly) { return 'not interactable'; }",
+            "  if (el.tagName === 'SELECT') {",
+            "    var option = Array.prototype.find.call(el.options, function (o) {",
+            "      return o.value === f.text || o.text.trim() === f.text;",
+            "    });",
+            "    if (!option) { return 'no option ' + f.text; }",
+            "    setNative(el, 'value', option.value);",
+            "  } else if (el.type === 'checkbox' || el.type === 'radio') {",
+            "    setNative(el, 'checked', f.text === 'true');",
+            "  } else if ('value' in el) {",
+            "    el.focus();",
+            "    setNative(el, 'value', f.text);",
+            "  } else if (el.isContentEditable) {",
+            "    el.textContent = f.text;",
+            "  } else {",
+            "    return 'not a field';",
+            "  }",
+            "  fire(el, 'input');",
+            "  fire(el, 'change');",
+            "  return null;",
+            "});");
+
+    private final WebDriver driver;
+    private final ElementCache elements;
+    private final Map<By, String> scriptedFields = new LinkedHashMap<>();
+    private final Map<By, String> typedFields = new LinkedHashMap<>();
+
+    private FormFiller(WebDriver driver, ElementCache elements) {
+        this.driver = driver;
+        this.elements = elements;
+    }
+
+    /**
+     * Start filling a form on the current page of a driver
+     */
+    public static FormFiller on(WebDriver driver) {
+        return new FormFiller(driver, null);
+    }
+
+    /**
+     * Start filling a form, reusing and caching element handles
+     */
+    public static FormFiller on(WebDriver driver, ElementCache elements) {
+        return new FormFiller(driver, elements);
+    }
+
+    /**
+     * Assign a value by script
+     */
+    public FormFiller set(By locator, String value) {
+        scriptedFields.put(locator, value != null ? value : "");
+        return this;
+    }
+
+    /**
+     * Assign values by script, in map order
+     */
+    public FormFiller setAll(Map<By, String> values) {
+        values.forEach(this::set);
+        return this;
+    }
+
+    /**
+     * Clear and type a value with real keystrokes
+     */
+    public FormFiller type(By locator, String value) {
+        typedFields.put(locator, value != null ? value : "");
+        return this;
+    }
+
+    /**
+     * Fill all fields: scripted ones with one executeScript call, then typed ones
+     * @throws NoSuchElementException if a field does not exist
+     * @throws ElementNotInteractableException if a field is hidden, disabled or read-only
+     */
+    public void fill() {
+        if (!scriptedFields.isEmpty()) {
+            fillByScript();
+        }
+        typedFields.forEach((locator, value) -> typeInto(locator, value, true));
+    }
+
+    private void fillByScript() {
+        List<?> problems;
+        try {
+            problems = runFillScript();
+        } catch (StaleElementReferenceException e) {
+            if (elements == null) {
+                throw e;
+            }
+            scriptedFields.keySet().forEach(elements::invalidate);
+            problems = runFillScript();
+        }
+        List<By> locators = new ArrayList<>(scriptedFields.keySet());
+        for (int i = 0; i < locators.size(); i++) {
+            Object problem = problems.get(i);
+            By locator = locators.get(i);
+            if (problem == null) {
+                continue;
+            }
+            if ("keys".equals(problem)) {
+                typeInto(locator, scriptedFields.get(locator), false);
+            } else if ("missing".equals(problem)) {
+                throw new NoSuchElementException("Form field not found: " + locator);
+            } else {
+                throw new ElementNotInteractableException("Cannot fill " + locator + ": " + problem);
+            }
+        }
+    }
+
+    // Handles are only passed for cached fields and locators a page script cannot resolve
+    private List<?> runFillScript() {
+        List<By> locators = new ArrayList<>(scriptedFields.keySet());
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (By locator : locators) {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            WebElement cached = elements != null ? elements.peek(locator) : null;
+            String[] scriptLocator = PageProbe.scriptLocator(locator);
+            if (cached != null || scriptLocator == null) {
+                argument.put("element", cached != null ? cached : lookup(locator));
+            } else {
+                argument.put("using", scriptLocator[0]);
+                argument.put("value", scriptLocator[1]);
+            }
+            argument.put("text", scriptedFields.get(locator));
+            arguments.add(argument);
+        }
+
+        return (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, arguments);
+    }
+
+    private WebElement lookup(By locator) {
+        return elements != null ? elements.find(locator) : driver.findElement(locator);
+    }
+
+    // File inputs cannot be cleared; they take the path as keys
+    private void typeInto(By locator, String value, boolean clear) {
+        if (elements == null) {
+            type(driver.findElement(locator), value, clear);
+            return;
+        }
+        elements.withElement(locator, element -> {
+            type(element, value, clear);
+            return null;
+        });
+    }
+
+    private static void type(WebElement element, String value, boolean clear) {
+        if (clear) {
+            element.clear();
+        }
+        element.sendKeys(value);
+    }
+}
@@ -0,0 +1,142 @@
+package pom.support;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Round trips of {@link FormFiller} against a fake driver that records the
+ * commands it receives
+ */
+public class FormFillerTest {
+
+    private static final By FIRST_NAME = By.id("first-name");
+    private static final By LAST_NAME = By.id("last-name");
+    private static final By EMAIL = By.name("email");
+    private static final By COUNTRY = By.id("country");
+    private static final By TERMS = By.id("terms");
+
+    private final List<String> commands = new ArrayList<>();
+    // Fields the fill script sent, and the problem it reports per field
+    private List<?> scriptFields;
+    private List<Object> problems;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void createDriver() {
+        commands.clear();
+        scriptFields = null;
+        problems = null;
+        driver = fakeDriver();
+    }
+
+    @Test
+    public void scriptedFieldsAreFilledInOneRoundTrip() {
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(FIRST_NAME, "Ada");
+        values.put(LAST_NAME, "Lovelace");
+        values.put(EMAIL, "ada@example.com");
+
+        FormFiller.on(driver).setAll(values).set(COUNTRY, "de").set(TERMS, "true").fill();
+
+        assertEquals(commands, List.of("executeScript"));
+        assertEquals(scriptFields.size(), 5);
+        assertEquals(scriptFields.get(0), Map.of("using", "id", "value", "first-name", "text", "Ada"));
+        assertEquals(scriptFields.get(2), Map.of("using", "name", "value", "email", "text", "ada@example.com"));
+    }
+
+    @Test
+    public void typedFieldsAreClearedAndTypedOneByOne() {
+        FormFiller.on(driver).set(FIRST_NAME, "Ada").type(LAST_NAME, "Lovelace").type(EMAIL, "ada@example.com")
+                .fill();
+
+        assertEquals(commands, List.of("executeScript", "findElement " + LAST_NAME, "clear", "sendKeys Lovelace",
+                "findElement " + EMAIL, "clear", "sendKeys ada@example.com"));
+    }
+
+    @Test
+    public void fileInputsAreTypedWithoutClearing() {
+        problems = new ArrayList<>();
+        problems.add(null);
+        problems.add("keys");
+
+        FormFiller.on(driver).set(FIRST_NAME, "Ada").set(By.id("avatar"), "/tmp/avatar.png").fill();
+
+        assertEquals(commands, List.of("executeScript", "findElement " + By.id("avatar"), "sendKeys /tmp/avatar.png"));
+    }
+
+    @Test
+    public void missingFieldFailsLikeALookup() {
+        problems = List.of("missing");
+
+        assertThrows(NoSuchElementException.class, () -> FormFiller.on(driver).set(FIRST_NAME, "Ada").fill());
+    }
+
+    @Test
+    public void hiddenFieldIsNotInteractable() {
+        problems = List.of("not interactable");
+
+        assertThrows(ElementNotInteractableException.class,
+                () -> FormFiller.on(driver).set(FIRST_NAME, "Ada").fill());
+    }
+
+    private WebElement element() {
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { WebElement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "clear":
+                            commands.add("clear");
+                            return null;
+                        case "sendKeys":
+                            commands.add("sendKeys " + String.join("", (CharSequence[]) args[0]));
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private WebDriver fakeDriver() {
+        return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { WebDriver.class, JavascriptExecutor.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeScript":
+                            commands.add("executeScript");
+                            scriptFields = (List<?>) ((Object[]) args[1])[0];
+                            if (problems != null) {
+                                return problems;
+                            }
+                            List<Object> filled = new ArrayList<>();
+                            scriptFields.forEach(field -> filled.add(null));
+                            return filled;
+                        case "findElement":
+                            commands.add("findElement " + args[0]);
+                            return element();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
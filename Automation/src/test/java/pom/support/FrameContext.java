@@ -0,0 +1,242 @@
+package pom.support;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-driver record of the frame the driver is switched to
+ *
+ * Switching to a {@link FramePath} goes up to the frame the current and
+ * target paths share and down from there, or through the top-level document
+ * when that takes fewer commands, and issues nothing when the driver is
+ * already there. The current frame is forgotten whenever the
+ * {@link NavigationTracker} records a navigation, and the next switch starts
+ * from the top-level document. Switches made directly on the driver are not
+ * seen; call {@link #invalidate()} after them. A framed lookup that comes up
+ * empty without switching is repeated once from the top-level document in
+ * case the record was out of date.
+ *
+ * Frame switches are not navigations: they bump a separate frame generation
+ * that element caches check, so page validation and cached page objects are
+ * kept. A framed lookup leaves the driver in its frame; the next plain
+ * lookup prepared with {@link #prepareLookup(By)} first returns to the frame
+ * last chosen through {@link #switchTo(FramePath)} or {@link #enter}.
+ */
+public final class FrameContext {
+    private static final Logger logger = LoggerFactory.getLogger(FrameContext.class);
+
+    private static final Map<WebDriver, FrameContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    // Totals across all drivers, for reporting
+    private static final AtomicLong SWITCH_REQUESTS = new AtomicLong();
+    private static final AtomicLong SWITCH_COMMANDS = new AtomicLong();
+    private static final AtomicLong NAIVE_COMMANDS = new AtomicLong();
+    private static final AtomicLong RESYNCS = new AtomicLong();
+
+    private final WebDriver driver;
+    private final NavigationTracker navigation;
+    // Null when unknown
+    private FramePath current = FramePath.top();
+    // Frame chosen by the page, which plain lookups return to after a framed lookup; null when unknown
+    private FramePath home = FramePath.top();
+    private boolean awayForLookup;
+    // Navigation generation the current frame was recorded in
+    private long generation;
+    private long frameGeneration;
+
+    private FrameContext(WebDriver driver) {
+        this.driver = driver;
+        this.navigation = NavigationTracker.forDriver(driver);
+        this.generation = navigation.getGeneration();
+    }
+
+    /**
+     * Get the frame context of a driver, creating it on first use; a
+     * decorated driver and the driver it wraps share one context
+     */
+    public static FrameContext forDriver(WebDriver driver) {
+        return CONTEXTS.computeIfAbsent(Drivers.unwrap(driver), key -> new FrameContext(driver));
+    }
+
+    /**
+     * Drop the frame context of a driver that has been quit
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            CONTEXTS.remove(Drivers.unwrap(driver));
+        }
+    }
+
+    /**
+     * Get the frame the driver is switched to, or null if unknown
+     */
+    public synchronized FramePath getCurrentPath() {
+        return isKnown() ? current : null;
+    }
+
+    /**
+     * Get the frame generation, bumped by every frame switch; element handles
+     * found in an earlier generation may belong to another frame
+     */
+    public synchronized long getFrameGeneration() {
+        return frameGeneration;
+    }
+
+    /**
+     * Switch to a frame, issuing only the commands needed from the current frame
+     * @return true if any switch command was issued
+     */
+    public synchronized boolean switchTo(FramePath target) {
+        boolean switched = reach(target);
+        home = target;
+        awayForLookup = false;
+        return switched;
+    }
+
+    /**
+     * Switch into a frame element already found within the current frame
+     */
+    public synchronized void enter(By frameLocator, WebElement frame) {
+        driver.switchTo().frame(frame);
+        SWITCH_COMMANDS.incrementAndGet();
+        FramePath entered = isKnown() ? current.child(frameLocator) : null;
+        switched();
+        current = entered;
+        home = entered;
+        awayForLookup = false;
+    }
+
+    /**
+     * Record that the driver is at the top-level document, e.g. after
+     * switching windows or a navigation command
+     */
+    public synchronized void markTopLevel() {
+        current = FramePath.top();
+        home = FramePath.top();
+        awayForLookup = false;
+        switched();
+    }
+
+    /**
+     * Forget the current frame after switching directly on the driver
+     */
+    public synchronized void invalidate() {
+        current = null;
+        home = null;
+        awayForLookup = false;
+        frameGeneration++;
+    }
+
+    /**
+     * Return to the page's frame before a plain lookup if a framed lookup
+     * left the driver elsewhere; framed locators switch by themselves
+     */
+    public synchronized void prepareLookup(By locator) {
+        if (!awayForLookup || locator instanceof FramePath.FramedBy) {
+            return;
+        }
+        awayForLookup = false;
+        if (isKnown() && home != null) {
+            reach(home);
+        }
+    }
+
+    /**
+     * Find elements within a frame, switching to it first when needed; the
+     * driver stays in the frame until the next plain lookup
+     */
+    public synchronized List<WebElement> findElements(FramePath path, By locator) {
+        boolean switched = reach(path);
+        awayForLookup = home != null && !path.equals(home);
+        List<WebElement> found = driver.findElements(locator);
+        if (!found.isEmpty() || switched) {
+            return found;
+        }
+        // The driver was believed to be in the frame already; the record may be out of date
+        RESYNCS.incrementAndGet();
+        current = null;
+        move(path);
+        return ImplicitWaitScope.findElementsNow(driver, locator);
+    }
+
+    /**
+     * Get switch totals across all drivers: requests, commands issued and the
+     * commands switching from the top-level document every time would have taken
+     */
+    public static Map<String, Object> getSwitchStatistics() {
+        long issued = SWITCH_COMMANDS.get();
+        long naive = NAIVE_COMMANDS.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", SWITCH_REQUESTS.get());
+        stats.put("commandsIssued", issued);
+        stats.put("commandsFromTop", naive);
+        stats.put("commandsSaved", naive - issued);
+        stats.put("resyncs", RESYNCS.get());
+        return stats;
+    }
+
+    private boolean reach(FramePath target) {
+        SWITCH_REQUESTS.incrementAndGet();
+        // What switching from the top-level document on every access would cost
+        NAIVE_COMMANDS.addAndGet(1 + 2L * target.depth());
+        try {
+            return move(target);
+        } catch (NoSuchFrameException | StaleElementReferenceException e) {
+            logger.debug("Frame switch to {} failed from {}, retrying from top: {}", target, current, e.getMessage());
+            RESYNCS.incrementAndGet();
+            current = null;
+            return move(target);
+        }
+    }
+
+    private boolean isKnown() {
+        return current != null && generation == navigation.getGeneration();
+    }
+
+    private boolean move(FramePath target) {
+        FramePath from = isKnown() ? current : null;
+        if (target.equals(from)) {
+            return false;
+        }
+        int common = from != null ? from.commonDepth(target) : 0;
+        // Going up costs one parentFrame per level, entering costs a find and a switch per level
+        int upCost = from != null ? from.depth() - common : Integer.MAX_VALUE;
+        int viaTopCost = 1 + common * 2;
+        current = null;
+        if (upCost <= viaTopCost) {
+            for (int i = from.depth(); i > common; i--) {
+                driver.switchTo().parentFrame();
+                SWITCH_COMMANDS.incrementAndGet();
+            }
+        } else {
+            driver.switchTo().defaultContent();
+            SWITCH_COMMANDS.incrementAndGet();
+            common = 0;
+        }
+        for (By frame : target.getFrames().subList(common, target.depth())) {
+            WebElement element = driver.findElement(frame);
+            driver.switchTo().frame(element);
+            SWITCH_COMMANDS.addAndGet(2);
+        }
+        switched();
+        current = target;
+        return true;
+    }
+
+    // Element handles of the frame left behind are no longer usable
+    private void switched() {
+        frameGeneration++;
+        generation = navigation.getGeneration();
+    }
+}
@@ -0,0 +1,250 @@
+package pom.support;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Frame routing of {@link FrameContext} against a fake driver that records
+ * switch commands and the frame it is in
+ */
+public class FrameContextTest {
+
+    private static final By FRAME_A = By.id("a");
+    private static final By FRAME_B = By.id("b");
+    private static final By FRAME_C = By.id("c");
+
+    private final List<String> frames = new ArrayList<>();
+    private final List<String> commands = new ArrayList<>();
+    private WebDriver driver;
+    private FrameContext context;
+
+    @BeforeMethod
+    public void createDriver() {
+        frames.clear();
+        commands.clear();
+        driver = fakeDriver();
+        context = FrameContext.forDriver(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseDriver() {
+        FrameContext.release(driver);
+        NavigationTracker.release(driver);
+    }
+
+    @Test
+    public void repeatedFramedLookupsSwitchOnce() {
+        By field = FramePath.of(FRAME_A, FRAME_B).locate(By.id("field"));
+
+        field.findElements(driver);
+        field.findElements(driver);
+
+        assertEquals(frames, List.of("a", "b"));
+        assertEquals(switchCommands(), List.of("frame a", "frame b"));
+    }
+
+    @Test
+    public void siblingFrameIsReachedThroughCommonParent() {
+        FramePath.of(FRAME_A, FRAME_B).locate(By.id("field")).findElements(driver);
+        commands.clear();
+
+        FramePath.of(FRAME_A, FRAME_C).locate(By.id("field")).findElements(driver);
+
+        assertEquals(frames, List.of("a", "c"));
+        assertEquals(switchCommands(), List.of("parent", "frame c"));
+    }
+
+    @Test
+    public void plainLookupReturnsToTopAfterFramedLookup() {
+        FramePath.of(FRAME_A).locate(By.id("field")).findElements(driver);
+        commands.clear();
+
+        context.prepareLookup(By.id("header"));
+
+        assertEquals(frames, List.of());
+        assertEquals(switchCommands(), List.of("parent"));
+    }
+
+    @Test
+    public void plainLookupStaysInExplicitlySelectedFrame() {
+        context.switchTo(FramePath.of(FRAME_A));
+        FramePath.of(FRAME_A, FRAME_B).locate(By.id("field")).findElements(driver);
+        context.prepareLookup(By.id("header"));
+        commands.clear();
+
+        context.prepareLookup(By.id("footer"));
+
+        assertEquals(frames, List.of("a"));
+        assertEquals(switchCommands(), List.of());
+    }
+
+    @Test
+    public void framedLookupDoesNotReturnToTop() {
+        By field = FramePath.of(FRAME_A).locate(By.id("field"));
+        field.findElements(driver);
+        commands.clear();
+
+        context.prepareLookup(field);
+
+        assertEquals(frames, List.of("a"));
+        assertEquals(switchCommands(), List.of());
+    }
+
+    @Test
+    public void frameSwitchIsNotANavigation() {
+        NavigationTracker navigation = NavigationTracker.forDriver(driver);
+        long navigationGeneration = navigation.getGeneration();
+        long frameGeneration = context.getFrameGeneration();
+
+        context.switchTo(FramePath.of(FRAME_A));
+
+        assertEquals(navigation.getGeneration(), navigationGeneration);
+        assertNotEquals(context.getFrameGeneration(), frameGeneration);
+    }
+
+    @Test
+    public void cachedHandlesAreDroppedAfterFrameSwitch() {
+        ElementCache cache = new ElementCache(driver);
+        By header = By.id("header");
+        WebElement element = cache.find(header);
+        assertSame(cache.peek(header), element);
+
+        context.switchTo(FramePath.of(FRAME_A));
+
+        assertNull(cache.peek(header));
+    }
+
+    @Test
+    public void navigationForgetsCurrentFrame() {
+        context.switchTo(FramePath.of(FRAME_A));
+        NavigationTracker.forDriver(driver).markNavigated();
+        frames.clear();
+        commands.clear();
+
+        context.switchTo(FramePath.of(FRAME_A));
+
+        assertEquals(switchCommands(), List.of("top", "frame a"));
+    }
+
+    @Test
+    public void decoratedDriverSharesTheContextOfTheDriverItWraps() {
+        FrameContext.release(driver);
+        NavigationTracker.release(driver);
+        WebDriver decorated = new EventFiringDecorator<>(new WebDriverListener() {
+        }).decorate(driver);
+        // The page registers the decorated driver first
+        FrameContext pageContext = FrameContext.forDriver(decorated);
+        NavigationTracker pageNavigation = NavigationTracker.forDriver(decorated);
+
+        // Selenium hands the wrapped driver to the framed locator
+        decorated.findElements(FramePath.of(FRAME_A).locate(By.id("field")));
+        commands.clear();
+        pageContext.prepareLookup(By.id("header"));
+
+        assertSame(FrameContext.forDriver(driver), pageContext);
+        assertSame(NavigationTracker.forDriver(driver), pageNavigation);
+        assertEquals(frames, List.of());
+        assertEquals(switchCommands(), List.of("parent"));
+
+        FrameContext.release(decorated);
+        NavigationTracker.release(decorated);
+        assertNotSame(FrameContext.forDriver(driver), pageContext);
+        assertNotSame(NavigationTracker.forDriver(driver), pageNavigation);
+    }
+
+    private List<String> switchCommands() {
+        List<String> switches = new ArrayList<>();
+        for (String command : commands) {
+            if (!command.startsWith("find")) {
+                switches.add(command);
+            }
+        }
+        return switches;
+    }
+
+    private WebElement element(String name) {
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { WebElement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return name;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private WebDriver fakeDriver() {
+        ClassLoader loader = getClass().getClassLoader();
+        WebDriver.Timeouts timeouts = (WebDriver.Timeouts) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebDriver.Timeouts.class },
+                (proxy, method, args) -> method.getName().equals("getImplicitWaitTimeout") ? Duration.ZERO : proxy);
+        WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebDriver.Options.class }, (proxy, method, args) -> timeouts);
+        WebDriver.TargetLocator targetLocator = (WebDriver.TargetLocator) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebDriver.TargetLocator.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "frame":
+                            frames.add(args[0].toString());
+                            commands.add("frame " + args[0]);
+                            break;
+                        case "parentFrame":
+                            frames.remove(frames.size() - 1);
+                            commands.add("parent");
+                            break;
+                        case "defaultContent":
+                            frames.clear();
+                            commands.add("top");
+                            break;
+                        default:
+                            break;
+                    }
+                    return null;
+                });
+        return (WebDriver) Proxy.newProxyInstance(loader, new Class<?>[] { WebDriver.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "manage":
+                            return options;
+                        case "switchTo":
+                            return targetLocator;
+                        case "findElement":
+                            commands.add("find " + args[0]);
+                            return element(((By) args[0]).toString().replace("By.id: ", ""));
+                        case "findElements":
+                            if (args[0] instanceof FramePath.FramedBy) {
+                                return ((By) args[0]).findElements((WebDriver) proxy);
+                            }
+                            commands.add("findAll " + args[0]);
+                            return List.of(element("found"));
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
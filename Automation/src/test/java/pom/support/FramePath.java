@@ -0,0 +1,151 @@
+package pom.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Frames from the top-level document down to a nested frame
+ *
+ * Each step is the locator of a frame element within the previous frame.
+ * {@link #locate(By)} binds a locator to the path; the bound locator
+ * switches to its frame through the driver's {@link FrameContext} before
+ * searching, issuing only the switches the current frame does not already
+ * satisfy, so it works with waits and page helpers like any other By.
+ *
+ * <pre>
+ * FramePath editor = FramePath.of(By.id("outer"), By.name("editor"));
+ * driver.findElement(editor.locate(By.id("body"))).sendKeys("text");
+ * </pre>
+ */
+public final class FramePath {
+
+    private static final FramePath TOP = new FramePath(Collections.emptyList());
+
+    private final List<By> frames;
+
+    private FramePath(List<By> frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Get the path of the top-level document
+     */
+    public static FramePath top() {
+        return TOP;
+    }
+
+    /**
+     * Get the path through the given frames, outermost first
+     */
+    public static FramePath of(By... frames) {
+        return frames.length == 0 ? TOP : new FramePath(Collections.unmodifiableList(Arrays.asList(frames.clone())));
+    }
+
+    /**
+     * Get the path of a frame within this one
+     */
+    public FramePath child(By frame) {
+        List<By> path = new ArrayList<>(frames);
+        path.add(frame);
+        return new FramePath(Collections.unmodifiableList(path));
+    }
+
+    /**
+     * Get the path of the enclosing frame; the top-level document is its own parent
+     */
+    public FramePath parent() {
+        return frames.size() <= 1 ? TOP : new FramePath(frames.subList(0, frames.size() - 1));
+    }
+
+    public List<By> getFrames() {
+        return frames;
+    }
+
+    public int depth() {
+        return frames.size();
+    }
+
+    public boolean isTop() {
+        return frames.isEmpty();
+    }
+
+    /**
+     * Get the number of leading frames this path shares with another
+     */
+    int commonDepth(FramePath other) {
+        int common = 0;
+        while (common < frames.size() && common < other.frames.size()
+                && frames.get(common).equals(other.frames.get(common))) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * Bind a locator to this frame
+     */
+    public By locate(By locator) {
+        return new FramedBy(this, locator);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FramePath && frames.equals(((FramePath) other).frames);
+    }
+
+    @Override
+    public int hashCode() {
+        return frames.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return frames.stream().map(By::toString).collect(Collectors.joining(" > ", "top" + (frames.isEmpty() ? "" : " > "), ""));
+    }
+
+    // ===============================
+    // FRAMED LOCATOR
+    // ===============================
+
+    /**
+     * Locator that searches within a frame, switching to it first when needed
+     */
+    public static final class FramedBy extends By {
+        private final FramePath path;
+        private final By locator;
+
+        private FramedBy(FramePath path, By locator) {
+            this.path = path;
+            this.locator = locator;
+        }
+
+        public FramePath getPath() {
+            return path;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            if (!(context instanceof WebDriver)) {
+                throw new IllegalArgumentException("Framed locators are searched from the driver, got " + context);
+            }
+            return FrameContext.forDriver((WebDriver) context).findElements(path, locator);
+        }
+
+        @Override
+        public String toString() {
+            return locator + " in " + path;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package pom.support;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Turns the implicit wait off for a block of lookups and restores it afterwards
+ *
+ * Presence and absence checks should answer for the page as it is; with an
+ * implicit wait configured, every lookup of a missing element otherwise blocks
+ * for the full implicit timeout before failing. Scopes nest per driver: only
+ * the outermost one clears and restores the timeout, and nothing is changed
+ * when the implicit wait is already zero. The implicit wait of each driver is
+ * remembered once set through {@link #setImplicitWait}, or read from the
+ * driver on first use, so a scope costs no extra command to look it up.
+ * Scopes and remembered waits are kept per unwrapped driver, so a decorated
+ * driver and the driver it wraps share them.
+ *
+ * <pre>
+ * return ImplicitWaitScope.withoutWait(driver, () -> driver.findElement(ERROR_MESSAGE).isDisplayed());
+ * </pre>
+ */
+public final class ImplicitWaitScope implements AutoCloseable {
+
+    private static final Map<WebDriver, ImplicitWaitScope> OUTERMOST = new ConcurrentHashMap<>();
+    // Implicit wait of each driver as last set; weak keys, so quit drivers need no release
+    private static final Map<WebDriver, Duration> IMPLICIT_WAITS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private Duration previous;
+    private int depth = 1;
+
+    private ImplicitWaitScope(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Set the implicit wait of a driver and remember it for later scopes;
+     * use instead of timeouts().implicitlyWait when configuring drivers
+     */
+    public static void setImplicitWait(WebDriver driver, Duration timeout) {
+        driver.manage().timeouts().implicitlyWait(timeout);
+        IMPLICIT_WAITS.put(Drivers.unwrap(driver), timeout);
+    }
+
+    /**
+     * Get the implicit wait in force for a driver without asking it: zero
+     * inside a scope, otherwise the value last set or read, and zero, the
+     * WebDriver default, when never set
+     */
+    public static Duration getImplicitWait(WebDriver driver) {
+        WebDriver key = Drivers.unwrap(driver);
+        if (OUTERMOST.containsKey(key)) {
+            return Duration.ZERO;
+        }
+        return IMPLICIT_WAITS.getOrDefault(key, Duration.ZERO);
+    }
+
+    /**
+     * Open a scope with no implicit wait on a driver
+     */
+    public static ImplicitWaitScope none(WebDriver driver) {
+        ImplicitWaitScope opened = new ImplicitWaitScope(driver);
+        ImplicitWaitScope scope = OUTERMOST.compute(Drivers.unwrap(driver), (key, outer) -> {
+            if (outer != null) {
+                outer.depth++;
+                return outer;
+            }
+            return opened;
+        });
+        // Driver commands stay outside compute, which locks part of the map
+        if (scope == opened) {
+            opened.previous = clearImplicitWait(driver);
+        }
+        return scope;
+    }
+
+    /**
+     * Run lookups with no implicit wait on a driver
+     */
+    public static <T> T withoutWait(WebDriver driver, Supplier<T> lookup) {
+        ImplicitWaitScope scope = none(driver);
+        try {
+            return lookup.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Find all matches on the page as it is, without waiting
+     */
+    public static List<WebElement> findElementsNow(WebDriver driver, By locator) {
+        return withoutWait(driver, () -> driver.findElements(locator));
+    }
+
+    /**
+     * Check whether any element matches, without waiting
+     */
+    public static boolean isPresentNow(WebDriver driver, By locator) {
+        return !findElementsNow(driver, locator).isEmpty();
+    }
+
+    /**
+     * Restore the implicit wait when the outermost scope closes
+     */
+    @Override
+    public void close() {
+        boolean[] outermost = new boolean[1];
+        OUTERMOST.computeIfPresent(Drivers.unwrap(driver), (key, outer) -> {
+            if (--outer.depth > 0) {
+                return outer;
+            }
+            outermost[0] = true;
+            return null;
+        });
+        if (outermost[0] && previous != null) {
+            try {
+                driver.manage().timeouts().implicitlyWait(previous);
+            } catch (WebDriverException e) {
+                // Session gone; nothing to restore
+            }
+        }
+    }
+
+    /**
+     * Set the implicit wait to zero
+     * @return The previous value, or null if nothing was changed
+     */
+    private static Duration clearImplicitWait(WebDriver driver) {
+        try {
+            WebDriver.Timeouts timeouts = driver.manage().timeouts();
+            WebDriver key = Drivers.unwrap(driver);
+            Duration current = IMPLICIT_WAITS.get(key);
+            if (current == null) {
+                current = timeouts.getImplicitWaitTimeout();
+                if (current != null) {
+                    IMPLICIT_WAITS.put(key, current);
+                }
+            }
+            if (current == null || current.isZero()) {
+                return null;
+            }
+            timeouts.implicitlyWait(Duration.ZERO);
+            return current;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package pom.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.interactions.Interactive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pom.wait.WaitEngine;
+
+/**
+ * Pointer and key gestures across elements, sent as one actions request
+ *
+ * Gestures are only queued when declared. {@link #perform()} resolves every
+ * locator they use with one script call, builds a single W3C action chain and
+ * sends it with one performActions request, optionally followed by
+ * releaseActions to lift any keys and buttons still held. A target that is
+ * not in the page yet, or that a page script cannot resolve, splits the
+ * batch: the gestures before it are sent, the target is waited for and the
+ * rest follows in another request. Pointer position and held keys carry over
+ * between the requests, so an item revealed by an earlier hover in the same
+ * batch can be clicked.
+ *
+ * <pre>
+ * InteractionBatch.on(driver)
+ *         .moveTo(By.id("menu"))
+ *         .click(By.id("menu-item"))
+ *         .dragAndDrop(By.id("draggable"), By.id("target"))
+ *         .perform();
+ * </pre>
+ */
+public final class InteractionBatch {
+    private static final Logger logger = LoggerFactory.getLogger(InteractionBatch.class);
+
+    // Argument: list of targets {element}, {using, value} or {} for the driver to resolve; returns each element or null
+    private static final String RESOLVE_SCRIPT = String.join("\n",
+            PageProbe.CSS_SELECTOR_FUNCTION,
+            "return arguments[0].map(function (t) {",
+            "  var el = null;",
+            "  if (t.element) {",
+            "    el = t.element;",
+            "  } else if (t.using === 'xpath') {",
+            "    el = document.evaluate(t.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)",
+            "        .singleNodeValue;",
+            "  } else if (t.using) {",
+            "    el = document.querySelector(cssSelector(t.using, t.value));",
+            "  }",
+            "  return el && el.nodeType === 1 && el.isConnected ? el : null;",
+            "});");
+
+    // Totals across all batches, for reporting
+    private static final AtomicLong BATCHES = new AtomicLong();
+    private static final AtomicLong GESTURES = new AtomicLong();
+    private static final AtomicLong REQUESTS = new AtomicLong();
+    private static final AtomicLong SEPARATE_REQUESTS = new AtomicLong();
+
+    private final WebDriver driver;
+    private final ElementCache elements;
+    // By or WebElement, each listed once
+    private final List<Object> targets = new ArrayList<>();
+    private final List<Gesture> gestures = new ArrayList<>();
+    private int timeoutSeconds = WaitEngine.Timeout.DEFAULT.getSeconds();
+    private int locatorReferences;
+    private boolean releaseAfter;
+
+    private InteractionBatch(WebDriver driver, ElementCache elements) {
+        this.driver = driver;
+        this.elements = elements;
+    }
+
+    /**
+     * Start a batch of gestures on the current page of a driver
+     */
+    public static InteractionBatch on(WebDriver driver) {
+        return new InteractionBatch(driver, null);
+    }
+
+    /**
+     * Start a batch of gestures, reusing and caching element handles
+     */
+    public static InteractionBatch on(WebDriver driver, ElementCache elements) {
+        return new InteractionBatch(driver, elements);
+    }
+
+    /**
+     * Wait up to a number of seconds for targets not present when the batch is sent
+     */
+    public InteractionBatch waitingUpTo(int seconds) {
+        this.timeoutSeconds = seconds;
+        return this;
+    }
+
+    /**
+     * Send releaseActions after the batch, also when it fails
+     */
+    public InteractionBatch releaseAfter() {
+        this.releaseAfter = true;
+        return this;
+    }
+
+    // ===============================
+    // POINTER GESTURES
+    // ===============================
+
+    public InteractionBatch moveTo(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.moveToElement(found.get(target)), target);
+    }
+
+    public InteractionBatch moveTo(WebElement element) {
+        int target = target(element);
+        return add((actions, found) -> actions.moveToElement(found.get(target)), target);
+    }
+
+    /**
+     * Move to an offset from the centre of an element
+     */
+    public InteractionBatch moveTo(By locator, int xOffset, int yOffset) {
+        int target = target(locator);
+        return add((actions, found) -> actions.moveToElement(found.get(target), xOffset, yOffset), target);
+    }
+
+    /**
+     * Move by an offset from the current pointer position
+     */
+    public InteractionBatch moveBy(int xOffset, int yOffset) {
+        return add((actions, found) -> actions.moveByOffset(xOffset, yOffset));
+    }
+
+    /**
+     * Click at the current pointer position
+     */
+    public InteractionBatch click() {
+        return add((actions, found) -> actions.click());
+    }
+
+    public InteractionBatch click(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.click(found.get(target)), target);
+    }
+
+    public InteractionBatch click(WebElement element) {
+        int target = target(element);
+        return add((actions, found) -> actions.click(found.get(target)), target);
+    }
+
+    public InteractionBatch doubleClick(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.doubleClick(found.get(target)), target);
+    }
+
+    public InteractionBatch doubleClick(WebElement element) {
+        int target = target(element);
+        return add((actions, found) -> actions.doubleClick(found.get(target)), target);
+    }
+
+    public InteractionBatch contextClick(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.contextClick(found.get(target)), target);
+    }
+
+    public InteractionBatch contextClick(WebElement element) {
+        int target = target(element);
+        return add((actions, found) -> actions.contextClick(found.get(target)), target);
+    }
+
+    /**
+     * Press the left button at the current pointer position
+     */
+    public InteractionBatch clickAndHold() {
+        return add((actions, found) -> actions.clickAndHold());
+    }
+
+    public InteractionBatch clickAndHold(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.clickAndHold(found.get(target)), target);
+    }
+
+    /**
+     * Release the left button at the current pointer position
+     */
+    public InteractionBatch release() {
+        return add((actions, found) -> actions.release());
+    }
+
+    public InteractionBatch release(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.release(found.get(target)), target);
+    }
+
+    public InteractionBatch dragAndDrop(By source, By destination) {
+        int from = target(source);
+        int to = target(destination);
+        return add((actions, found) -> actions.dragAndDrop(found.get(from), found.get(to)), from, to);
+    }
+
+    public InteractionBatch dragAndDropBy(By source, int xOffset, int yOffset) {
+        int from = target(source);
+        return add((actions, found) -> actions.dragAndDropBy(found.get(from), xOffset, yOffset), from);
+    }
+
+    /**
+     * Scroll with the wheel until an element is in view
+     */
+    public InteractionBatch scrollTo(By locator) {
+        int target = target(locator);
+        return add((actions, found) -> actions.scrollToElement(found.get(target)), target);
+    }
+
+    // ===============================
+    // KEY GESTURES
+    // ===============================
+
+    public InteractionBatch keyDown(CharSequence key) {
+        return add((actions, found) -> actions.keyDown(key));
+    }
+
+    public InteractionBatch keyUp(CharSequence key) {
+        return add((actions, found) -> actions.keyUp(key));
+    }
+
+    /**
+     * Type keys into the focused element
+     */
+    public InteractionBatch sendKeys(CharSequence... keys) {
+        return add((actions, found) -> actions.sendKeys(keys));
+    }
+
+    /**
+     * Click an element, then type keys into it
+     */
+    public InteractionBatch sendKeys(By locator, CharSequence... keys) {
+        int target = target(locator);
+        return add((actions, found) -> actions.sendKeys(found.get(target), keys), target);
+    }
+
+    public InteractionBatch sendKeys(WebElement element, CharSequence... keys) {
+        int target = target(element);
+        return add((actions, found) -> actions.sendKeys(found.get(target), keys), target);
+    }
+
+    /**
+     * Press a modifier, type keys and lift the modifier, e.g. Keys.CONTROL and "a"
+     */
+    public InteractionBatch chord(CharSequence modifier, CharSequence... keys) {
+        return add((actions, found) -> actions.keyDown(modifier).sendKeys(keys).keyUp(modifier));
+    }
+
+    public InteractionBatch pause(Duration duration) {
+        return add((actions, found) -> actions.pause(duration));
+    }
+
+    /**
+     * Get the number of queued gestures
+     */
+    public int size() {
+        return gestures.size();
+    }
+
+    /**
+     * Send the queued gestures and clear the queue; one performActions request
+     * when every target is present, otherwise one more per target waited for
+     * @throws org.openqa.selenium.TimeoutException if a target does not appear in time
+     */
+    public void perform() {
+        if (gestures.isEmpty()) {
+            if (releaseAfter) {
+                releaseInput();
+            }
+            return;
+        }
+        int gestureCount = gestures.size();
+        // What a round trip per gesture and per located target would have cost
+        SEPARATE_REQUESTS.addAndGet(gestureCount + locatorReferences);
+        try {
+            List<WebElement> found = resolveTargets();
+            int requests = 0;
+            int start = 0;
+            while (start < gestureCount) {
+                int end = start;
+                while (end < gestureCount && gestures.get(end).isResolved(found)) {
+                    end++;
+                }
+                if (end > start) {
+                    send(gestures.subList(start, end), found);
+                    requests++;
+                }
+                if (end < gestureCount) {
+                    awaitTargets(gestures.get(end), found);
+                }
+                start = end;
+            }
+            logger.debug("Performed {} gestures on {} targets in {} actions requests", gestureCount, targets.size(),
+                    requests);
+        } finally {
+            if (releaseAfter) {
+                releaseInput();
+            }
+            BATCHES.incrementAndGet();
+            GESTURES.addAndGet(gestureCount);
+            gestures.clear();
+            targets.clear();
+            locatorReferences = 0;
+        }
+    }
+
+    /**
+     * Get batch totals across all drivers: batches, gestures, requests sent and
+     * the requests one round trip per gesture and per located target would have taken
+     */
+    public static Map<String, Object> getBatchStatistics() {
+        long sent = REQUESTS.get();
+        long separate = SEPARATE_REQUESTS.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batches", BATCHES.get());
+        stats.put("gestures", GESTURES.get());
+        stats.put("requestsSent", sent);
+        stats.put("requestsSeparately", separate);
+        stats.put("requestsSaved", separate - sent);
+        return stats;
+    }
+
+    // ===============================
+    // PRIVATE HELPER METHODS
+    // ===============================
+
+    private InteractionBatch add(Step step, int... targets) {
+        gestures.add(new Gesture(step, targets));
+        return this;
+    }
+
+    private int target(Object target) {
+        if (target instanceof By) {
+            locatorReferences++;
+        }
+        int index = targets.indexOf(target);
+        if (index < 0) {
+            targets.add(target);
+            index = targets.size() - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Get an element for every target, resolving locators in one script call;
+     * targets not present yet are left null
+     */
+    private List<WebElement> resolveTargets() {
+        List<WebElement> found = new ArrayList<>(targets.size());
+        boolean anyLocator = false;
+        for (Object target : targets) {
+            found.add(target instanceof WebElement ? (WebElement) target : null);
+            anyLocator |= target instanceof By;
+        }
+        if (!anyLocator) {
+            return found;
+        }
+
+        List<?> resolved;
+        try {
+            resolved = runResolveScript(true);
+        } catch (StaleElementReferenceException e) {
+            if (elements == null) {
+                throw e;
+            }
+            // A cached handle went stale; resolve everything from the page
+            targets.stream().filter(By.class::isInstance).map(By.class::cast).forEach(elements::invalidate);
+            resolved = runResolveScript(false);
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            if (!(targets.get(i) instanceof By)) {
+                continue;
+            }
+            Object element = resolved.get(i);
+            if (element instanceof WebElement) {
+                found.set(i, store((By) targets.get(i), (WebElement) element));
+            }
+        }
+        return found;
+    }
+
+    // Wait for the targets of a gesture that were not present, e.g. until the gestures sent before reveal them
+    private void awaitTargets(Gesture gesture, List<WebElement> found) {
+        for (int target : gesture.targets) {
+            if (found.get(target) == null) {
+                By locator = (By) targets.get(target);
+                REQUESTS.incrementAndGet();
+                found.set(target, store(locator, WaitEngine.forDriver(driver).awaitPresent(locator, timeoutSeconds)));
+            }
+        }
+    }
+
+    private WebElement store(By locator, WebElement element) {
+        return elements != null ? elements.put(locator, element) : element;
+    }
+
+    private void send(List<Gesture> batch, List<WebElement> found) {
+        Actions actions = new Actions(driver);
+        for (Gesture gesture : batch) {
+            gesture.step.addTo(actions, found);
+        }
+        REQUESTS.incrementAndGet();
+        actions.perform();
+    }
+
+    // Unresolvable locators come back null and are waited for by the driver
+    private List<?> runResolveScript(boolean useCache) {
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        boolean scriptNeeded = false;
+        for (Object target : targets) {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            if (target instanceof By) {
+                By locator = (By) target;
+                WebElement cached = useCache && elements != null ? elements.peek(locator) : null;
+                String[] scriptLocator = PageProbe.scriptLocator(locator);
+                if (cached != null) {
+                    argument.put("element", cached);
+                } else if (scriptLocator != null) {
+                    argument.put("using", scriptLocator[0]);
+                    argument.put("value", scriptLocator[1]);
+                }
+            }
+            arguments.add(argument);
+            scriptNeeded |= !argument.isEmpty();
+        }
+        if (!scriptNeeded) {
+            return Collections.nCopies(targets.size(), null);
+        }
+        REQUESTS.incrementAndGet();
+        return (List<?>) ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, arguments);
+    }
+
+    private void releaseInput() {
+        if (driver instanceof Interactive) {
+            REQUESTS.incrementAndGet();
+            ((Interactive) driver).resetInputState();
+        } else {
+            logger.debug("Driver does not support releaseActions; input state left as is");
+        }
+    }
+
+    /**
+     * Adds one gesture to a chain once its targets are resolved
+     */
+    @FunctionalInterface
+    private interface Step {
+        void addTo(Actions actions, List<WebElement> found);
+    }
+
+    /**
+     * One queued gesture and the targets it uses
+     */
+    private static final class Gesture {
+        private final Step step;
+        private final int[] targets;
+
+        private Gesture(Step step, int[] targets) {
+            this.step = step;
+            this.targets = targets;
+        }
+
+        private boolean isResolved(List<WebElement> found) {
+            for (int target : targets) {
+                if (found.get(target) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
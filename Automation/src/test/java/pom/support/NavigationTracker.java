@@ -0,0 +1,129 @@
+package pom.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-driver navigation counter used to invalidate cached element handles
+ *
+ * The generation is bumped by page helpers that navigate or switch context
+ * and, when the session was created with BiDi enabled, by every committed
+ * navigation the browser reports, including ones triggered by clicks.
+ * Without BiDi, {@link #sync()} compares the top-level URL with the one last
+ * seen instead, which catches a click that loads another page but not one
+ * that reloads the same URL.
+ */
+public final class NavigationTracker {
+    private static final Logger logger = LoggerFactory.getLogger(NavigationTracker.class);
+
+    private static final Map<WebDriver, NavigationTracker> TRACKERS = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+    private final WebDriver driver;
+    private final BrowsingContextInspector inspector;
+    // Top-level URL at the last sync, when navigations are not reported by the browser
+    private String lastUrl;
+
+    private NavigationTracker(WebDriver driver) {
+        this.driver = driver;
+        this.inspector = subscribe(driver);
+    }
+
+    /**
+     * Get the tracker of a driver, creating it on first use; a decorated
+     * driver and the driver it wraps share one tracker
+     */
+    public static NavigationTracker forDriver(WebDriver driver) {
+        return TRACKERS.computeIfAbsent(Drivers.unwrap(driver), NavigationTracker::new);
+    }
+
+    /**
+     * Drop the tracker of a driver that has been quit
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        NavigationTracker tracker = TRACKERS.remove(Drivers.unwrap(driver));
+        if (tracker != null && tracker.inspector != null) {
+            try {
+                tracker.inspector.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close navigation listener: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the current navigation generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Record a navigation or context switch made through a page helper
+     */
+    public void markNavigated() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Record a navigation if the top-level URL changed since the last sync;
+     * costs one command, and nothing when navigations are reported by the browser
+     */
+    public void sync() {
+        if (inspector != null) {
+            return;
+        }
+        String url;
+        try {
+            url = driver.getCurrentUrl();
+        } catch (WebDriverException e) {
+            return;
+        }
+        if (url == null) {
+            return;
+        }
+        synchronized (this) {
+            if (lastUrl != null && !lastUrl.equals(url)) {
+                generation.incrementAndGet();
+            }
+            lastUrl = url;
+        }
+    }
+
+    /**
+     * Check whether navigations are reported by the browser, so handles are
+     * invalidated even when a click navigates
+     */
+    public boolean isEventDriven() {
+        return inspector != null;
+    }
+
+    private BrowsingContextInspector subscribe(WebDriver driver) {
+        if (!(driver instanceof HasBiDi)) {
+            return null;
+        }
+        try {
+            if (((HasBiDi) driver).maybeGetBiDi().isEmpty()) {
+                return null;
+            }
+            BrowsingContextInspector contextInspector = new BrowsingContextInspector(driver);
+            contextInspector.onNavigationCommitted(navigation -> markNavigated());
+            logger.debug("Tracking navigations through BiDi events");
+            return contextInspector;
+        } catch (Exception e) {
+            logger.debug("BiDi navigation events unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+}
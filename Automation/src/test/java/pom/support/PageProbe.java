@@ -0,0 +1,388 @@
+package pom.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Batched element state queries
+ *
+ * Collects the properties wanted for a set of locators and reads all of them,
+ * plus the page title and URL, with a single executeScript call instead of a
+ * findElement, isDisplayed and getText round trip per element. Attributes are
+ * read like WebElement.getAttribute (property first, then attribute); CSS
+ * values are the browser's computed values, so colours come back as rgb()
+ * rather than Selenium's rgba().
+ *
+ * <pre>
+ * PageProbe.Result state = PageProbe.on(driver)
+ *         .displayed(SUCCESS_MESSAGE).text(SUCCESS_MESSAGE)
+ *         .attribute(PASSWORD_FIELD, "type")
+ *         .run();
+ * </pre>
+ */
+public final class PageProbe {
+
+    /**
+     * Element properties that can be probed
+     */
+    public enum Property {
+        DISPLAYED("displayed"),
+        ENABLED("enabled"),
+        SELECTED("selected"),
+        TEXT("text");
+
+        private final String scriptName;
+
+        Property(String scriptName) {
+            this.scriptName = scriptName;
+        }
+    }
+
+    /**
+     * In-page translation of a {@link #scriptLocator(By)} strategy and value
+     * to a CSS selector, shared with other browser-side scripts; ids, names
+     * and class names are escaped with the browser's own CSS.escape
+     */
+    public static final String CSS_SELECTOR_FUNCTION = String.join("\n",
+            "function cssSelector(using, value) {",
+            "  switch (using) {",
+            "    case 'id': return '#' + CSS.escape(value);",
+            "    case 'name': return '[name=\"' + CSS.escape(value) + '\"]';",
+            "    case 'class name': return '.' + CSS.escape(value);",
+            "    default: return value;",
+            "  }",
+            "}");
+
+    /**
+     * In-page approximation of WebElement.isDisplayed, shared with other
+     * browser-side scripts
+     */
+    public static final String IS_DISPLAYED_FUNCTION = String.join("\n",
+            "function isDisplayed(el) {",
+            "  if (!el || !el.isConnected) { return false; }",
+            "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {",
+            "    var style = getComputedStyle(node);",
+            "    if (style.display === 'none' || style.opacity === '0') { return false; }",
+            "  }",
+            "  var own = getComputedStyle(el);",
+            "  return own.visibility !== 'hidden' && own.visibility !== 'collapse' && el.getClientRects().length > 0;",
+            "}");
+
+    // Argument: list of queries {using, value, elements, all, properties, attributes, css}
+    private static final String PROBE_SCRIPT = String.join("\n",
+            "var queries = arguments[0];",
+            CSS_SELECTOR_FUNCTION,
+            IS_DISPLAYED_FUNCTION,
+            "function resolve(q) {",
+            "  if (q.elements) { return q.elements; }",
+            "  if (q.using === 'xpath') {",
+            "    var snapshot = document.evaluate(q.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+            "    var nodes = [];",
+            "    for (var i = 0; i < snapshot.snapshotLength; i++) {",
+            "      if (snapshot.snapshotItem(i).nodeType === 1) { nodes.push(snapshot.snapshotItem(i)); }",
+            "    }",
+            "    return nodes;",
+            "  }",
+            "  return Array.prototype.slice.call(document.querySelectorAll(cssSelector(q.using, q.value)));",
+            "}",
+            "function describe(el, q) {",
+            "  var item = {};",
+            "  q.properties.forEach(function (p) {",
+            "    if (p === 'displayed') { item.displayed = isDisplayed(el); }",
+            "    else if (p === 'enabled') { item.enabled = !el.disabled; }",
+            "    else if (p === 'selected') { item.selected = !!(el.checked || el.selected); }",
+            "    else if (p === 'text') { item.text = isDisplayed(el) ? (el.innerText || '') : ''; }",
+            "  });",
+            "  if (q.attributes.length) {",
+            "    item.attributes = {};",
+            "    q.attributes.forEach(function (name) {",
+            "      var value = el[name];",
+            "      item.attributes[name] = value !== undefined && value !== null && typeof value !== 'object'",
+            "          && typeof value !== 'function' ? String(value) : el.getAttribute(name);",
+            "    });",
+            "  }",
+            "  if (q.css.length) {",
+            "    var style = getComputedStyle(el);",
+            "    item.css = {};",
+            "    q.css.forEach(function (name) { item.css[name] = style.getPropertyValue(name); });",
+            "  }",
+            "  return item;",
+            "}",
+            "return {",
+            "  title: document.title,",
+            "  url: location.href,",
+            "  results: queries.map(function (q) {",
+            "    var found = resolve(q);",
+            "    var targets = q.all ? found : found.slice(0, 1);",
+            "    return { count: found.length, items: targets.map(function (el) { return describe(el, q); }) };",
+            "  })",
+            "};");
+
+    private final WebDriver driver;
+    private final Map<Object, Query> queries = new LinkedHashMap<>();
+
+    private PageProbe(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Start a probe on the current page of a driver
+     */
+    public static PageProbe on(WebDriver driver) {
+        return new PageProbe(driver);
+    }
+
+    /**
+     * Read the visible text of each element with one round trip
+     */
+    public static List<String> getTexts(List<WebElement> elements) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        WebElement first = elements.get(0);
+        if (!(first instanceof WrapsDriver)) {
+            List<String> texts = new ArrayList<>();
+            elements.forEach(element -> texts.add(element.getText()));
+            return texts;
+        }
+        PageProbe probe = on(((WrapsDriver) first).getWrappedDriver());
+        probe.query(elements).properties.add(Property.TEXT);
+        probe.query(elements).all = true;
+        return probe.run().getTexts(elements);
+    }
+
+    public PageProbe displayed(By... locators) {
+        return with(Property.DISPLAYED, locators);
+    }
+
+    public PageProbe enabled(By... locators) {
+        return with(Property.ENABLED, locators);
+    }
+
+    public PageProbe selected(By... locators) {
+        return with(Property.SELECTED, locators);
+    }
+
+    public PageProbe text(By... locators) {
+        return with(Property.TEXT, locators);
+    }
+
+    /**
+     * Probe properties of a locator
+     */
+    public PageProbe with(Property property, By... locators) {
+        for (By locator : locators) {
+            query(locator).properties.add(property);
+        }
+        return this;
+    }
+
+    public PageProbe attribute(By locator, String attributeName) {
+        query(locator).attributes.add(attributeName);
+        return this;
+    }
+
+    public PageProbe css(By locator, String propertyName) {
+        query(locator).css.add(propertyName);
+        return this;
+    }
+
+    /**
+     * Probe every element matching the locator instead of only the first
+     */
+    public PageProbe all(By locator) {
+        query(locator).all = true;
+        return this;
+    }
+
+    /**
+     * Run all queries with one executeScript call
+     */
+    public Result run() {
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        queries.forEach((target, query) -> arguments.add(query.toArgument(driver, target)));
+
+        Object response = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, arguments);
+        return new Result(new ArrayList<>(queries.keySet()), (Map<?, ?>) response);
+    }
+
+    private Query query(Object target) {
+        return queries.computeIfAbsent(target, key -> new Query());
+    }
+
+    /**
+     * Properties requested for one locator or element list
+     */
+    private static final class Query {
+        private final Set<Property> properties = EnumSet.noneOf(Property.class);
+        private final List<String> attributes = new ArrayList<>();
+        private final List<String> css = new ArrayList<>();
+        private boolean all;
+
+        private Map<String, Object> toArgument(WebDriver driver, Object target) {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            if (target instanceof By) {
+                String[] scriptLocator = scriptLocator((By) target);
+                if (scriptLocator != null) {
+                    argument.put("using", scriptLocator[0]);
+                    argument.put("value", scriptLocator[1]);
+                } else {
+                    // Link text and custom locators are resolved by the driver
+                    argument.put("elements", ImplicitWaitScope.findElementsNow(driver, (By) target));
+                }
+            } else {
+                argument.put("elements", target);
+            }
+            List<String> propertyNames = new ArrayList<>();
+            properties.forEach(property -> propertyNames.add(property.scriptName));
+            argument.put("properties", propertyNames);
+            argument.put("attributes", attributes);
+            argument.put("css", css);
+            argument.put("all", all);
+            return argument;
+        }
+    }
+
+    /**
+     * Get the locator strategy and value a page script can resolve, or null
+     * if only the driver can resolve the locator. Scripts resolve "xpath"
+     * with document.evaluate and everything else through
+     * {@link #CSS_SELECTOR_FUNCTION}
+     */
+    public static String[] scriptLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!(parameters.value() instanceof String)) {
+            return null;
+        }
+        String value = (String) parameters.value();
+        switch (parameters.using()) {
+            case "css selector":
+            case "tag name":
+                return new String[] { "css selector", value };
+            case "xpath":
+                return new String[] { "xpath", value };
+            case "id":
+            case "name":
+            case "class name":
+                return new String[] { parameters.using(), value };
+            default:
+                return null; // link text and custom locators
+        }
+    }
+
+    // ===============================
+    // RESULT
+    // ===============================
+
+    /**
+     * Snapshot of the probed state
+     */
+    public static final class Result {
+        private final String title;
+        private final String url;
+        private final Map<Object, Map<?, ?>> results = new LinkedHashMap<>();
+
+        private Result(List<Object> targets, Map<?, ?> response) {
+            this.title = (String) response.get("title");
+            this.url = (String) response.get("url");
+            List<?> entries = (List<?>) response.get("results");
+            for (int i = 0; i < targets.size(); i++) {
+                results.put(targets.get(i), (Map<?, ?>) entries.get(i));
+            }
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Get number of elements matching a locator
+         */
+        public int getCount(By locator) {
+            return ((Number) result(locator).get("count")).intValue();
+        }
+
+        public boolean isPresent(By locator) {
+            return getCount(locator) > 0;
+        }
+
+        public boolean isDisplayed(By locator) {
+            return Boolean.TRUE.equals(first(locator).get("displayed"));
+        }
+
+        public boolean isEnabled(By locator) {
+            return Boolean.TRUE.equals(first(locator).get("enabled"));
+        }
+
+        public boolean isSelected(By locator) {
+            return Boolean.TRUE.equals(first(locator).get("selected"));
+        }
+
+        /**
+         * Get visible text of the first match, or an empty string if absent
+         */
+        public String getText(By locator) {
+            Object text = first(locator).get("text");
+            return text != null ? text.toString() : "";
+        }
+
+        /**
+         * Get visible text of every match; requires {@link PageProbe#all(By)}
+         */
+        public List<String> getTexts(By locator) {
+            return getTexts((Object) locator);
+        }
+
+        private List<String> getTexts(Object target) {
+            List<String> texts = new ArrayList<>();
+            for (Object item : (List<?>) result(target).get("items")) {
+                Object text = ((Map<?, ?>) item).get("text");
+                texts.add(text != null ? text.toString() : "");
+            }
+            return texts;
+        }
+
+        public String getAttribute(By locator, String attributeName) {
+            Object attributes = first(locator).get("attributes");
+            Object value = attributes instanceof Map ? ((Map<?, ?>) attributes).get(attributeName) : null;
+            return value != null ? value.toString() : null;
+        }
+
+        public String getCssValue(By locator, String propertyName) {
+            Object css = first(locator).get("css");
+            Object value = css instanceof Map ? ((Map<?, ?>) css).get(propertyName) : null;
+            return value != null ? value.toString() : "";
+        }
+
+        private Map<?, ?> result(Object target) {
+            Map<?, ?> result = results.get(target);
+            if (result == null) {
+                throw new IllegalArgumentException("Locator was not probed: " + target);
+            }
+            return result;
+        }
+
+        private Map<?, ?> first(By locator) {
+            List<?> items = (List<?>) result(locator).get("items");
+            return items.isEmpty() ? Collections.emptyMap() : (Map<?, ?>) items.get(0);
+        }
+    }
+}
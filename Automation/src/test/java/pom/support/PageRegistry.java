@@ -0,0 +1,123 @@
+package pom.support;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Per-driver cache of page objects, keyed by page class
+ *
+ * A page object is built once per navigation: asking for the same class
+ * again returns the same instance until the {@link NavigationTracker} records
+ * a navigation, after which a new one is built. Without browser navigation
+ * events each lookup first compares the current URL, so a page reached by a
+ * click is rebuilt too. Page classes need a public
+ * constructor taking the WebDriver. Pages are expected to validate lazily,
+ * so building one costs no round trips.
+ *
+ * <pre>
+ * Home_Page1 home = PageRegistry.forDriver(driver).get(Home_Page1.class);
+ * </pre>
+ */
+public final class PageRegistry {
+
+    private static final Map<WebDriver, PageRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    // Totals across all drivers, for reporting
+    private static final AtomicLong BUILT = new AtomicLong();
+    private static final AtomicLong REUSED = new AtomicLong();
+
+    private final WebDriver driver;
+    private final NavigationTracker navigation;
+    private final Map<Class<?>, Entry> pages = new ConcurrentHashMap<>();
+
+    private PageRegistry(WebDriver driver) {
+        this.driver = driver;
+        this.navigation = NavigationTracker.forDriver(driver);
+    }
+
+    /**
+     * Get the registry of a driver, creating it on first use
+     */
+    public static PageRegistry forDriver(WebDriver driver) {
+        return REGISTRIES.computeIfAbsent(driver, PageRegistry::new);
+    }
+
+    /**
+     * Drop the registry of a driver that has been quit
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            REGISTRIES.remove(driver);
+        }
+    }
+
+    /**
+     * Get the page object of a class for the current navigation, building it if needed
+     * @throws IllegalArgumentException if the class has no public constructor taking a WebDriver
+     */
+    public <T> T get(Class<T> pageClass) {
+        navigation.sync();
+        long generation = navigation.getGeneration();
+        Entry entry = pages.get(pageClass);
+        if (entry != null && entry.generation == generation) {
+            REUSED.incrementAndGet();
+            return pageClass.cast(entry.page);
+        }
+        T page = build(pageClass);
+        pages.put(pageClass, new Entry(page, generation));
+        BUILT.incrementAndGet();
+        return page;
+    }
+
+    /**
+     * Drop the cached page object of a class, e.g. after changing the page outside the driver
+     */
+    public void evict(Class<?> pageClass) {
+        pages.remove(pageClass);
+    }
+
+    /**
+     * Get page object totals across all drivers: built and reused
+     */
+    public static Map<String, Object> getRegistryStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pagesBuilt", BUILT.get());
+        stats.put("pagesReused", REUSED.get());
+        return stats;
+    }
+
+    private <T> T build(Class<T> pageClass) {
+        try {
+            Constructor<T> constructor = pageClass.getConstructor(WebDriver.class);
+            return constructor.newInstance(driver);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException e) {
+            throw new IllegalArgumentException("Page class needs a public constructor taking a WebDriver: "
+                    + pageClass.getName(), e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to build page " + pageClass.getName(), cause);
+        }
+    }
+
+    /**
+     * Page object together with the navigation generation it was built in
+     */
+    private static final class Entry {
+        private final Object page;
+        private final long generation;
+
+        private Entry(Object page, long generation) {
+            this.page = page;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package pom.support;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pom.wait.WaitEngine;
+
+/**
+ * Lazily collects table rows across pages
+ *
+ * Rows are read a page at a time with one {@link TableReader} call and
+ * handed out through an Iterator or Stream. The next page is only requested
+ * when the consumer has taken every row of the current one, so a consumer
+ * that stops early (findFirst, limit) never loads the remaining pages, and
+ * only one page of rows is held at a time. Pages are reached through a next
+ * control, numbered page links or infinite scroll; the collector ends when
+ * the control is missing or disabled, the page stops changing, or
+ * {@link #maxPages(int)} is reached. A page that does not change or load
+ * within {@link #pageChangeTimeout(int)} also ends the list, which is logged
+ * as a warning and reported by {@link #isEndedByTimeout()}, since the rows
+ * after it may be missing. Rows repeated across pages can be
+ * dropped by key; the keys of the most recent rows are remembered, bounded by
+ * {@link #distinctWindow(int)}.
+ *
+ * <pre>
+ * PagedCollector.of(driver, TableReader.of(driver, By.id("productTable")))
+ *         .pageLinks(By.cssSelector("#pagination li a"))
+ *         .distinctBy(row -&gt; row[0])
+ *         .stream()
+ *         .filter(row -&gt; row[1].startsWith("Smart"))
+ *         .findFirst();
+ * </pre>
+ */
+public final class PagedCollector {
+    private static final Logger logger = LoggerFactory.getLogger(PagedCollector.class);
+
+    private static final int DEFAULT_DISTINCT_WINDOW = 10_000;
+
+    // Arguments: table element, row selector; brings the last row into view to trigger loading more
+    private static final String SCROLL_SCRIPT = String.join("\n",
+            "var table = arguments[0], rowSelector = arguments[1];",
+            "var rows = rowSelector ? table.querySelectorAll(rowSelector) : table.rows || table.children;",
+            "(rows.length ? rows[rows.length - 1] : table).scrollIntoView({ block: 'end' });",
+            "window.scrollTo(0, document.documentElement.scrollHeight);");
+
+    private enum Mode {
+        SINGLE, NEXT_CONTROL, PAGE_LINKS, INFINITE_SCROLL
+    }
+
+    private final WebDriver driver;
+    private final TableReader reader;
+    private Mode mode = Mode.SINGLE;
+    private By control;
+    private Function<String[], String> key;
+    private int distinctWindow = DEFAULT_DISTINCT_WINDOW;
+    private int maxPages = Integer.MAX_VALUE;
+    private int pageChangeTimeoutSeconds = WaitEngine.Timeout.SHORT.getSeconds();
+    private boolean endedByTimeout;
+
+    private PagedCollector(WebDriver driver, TableReader reader) {
+        this.driver = driver;
+        this.reader = reader;
+    }
+
+    /**
+     * Start collecting the rows a table reader returns
+     */
+    public static PagedCollector of(WebDriver driver, TableReader reader) {
+        return new PagedCollector(driver, reader);
+    }
+
+    /**
+     * Move to the next page by clicking a control until it is missing or disabled
+     */
+    public PagedCollector nextControl(By nextLocator) {
+        this.mode = Mode.NEXT_CONTROL;
+        this.control = nextLocator;
+        return this;
+    }
+
+    /**
+     * Move through numbered page links in order; the first link is the current page
+     */
+    public PagedCollector pageLinks(By linksLocator) {
+        this.mode = Mode.PAGE_LINKS;
+        this.control = linksLocator;
+        return this;
+    }
+
+    /**
+     * Load more rows by scrolling the last row into view until no rows are
+     * added; such a list always ends by timeout, so size the timeout to the
+     * slowest load
+     */
+    public PagedCollector infiniteScroll() {
+        this.mode = Mode.INFINITE_SCROLL;
+        this.control = null;
+        return this;
+    }
+
+    /**
+     * Drop rows whose key was already returned
+     */
+    public PagedCollector distinctBy(Function<String[], String> rowKey) {
+        this.key = rowKey;
+        return this;
+    }
+
+    /**
+     * Limit how many recent keys are remembered for {@link #distinctBy(Function)}
+     */
+    public PagedCollector distinctWindow(int keys) {
+        this.distinctWindow = keys;
+        return this;
+    }
+
+    public PagedCollector maxPages(int pages) {
+        this.maxPages = pages;
+        return this;
+    }
+
+    /**
+     * Set how long to wait for a page change or new rows before treating the list as ended
+     */
+    public PagedCollector pageChangeTimeout(int seconds) {
+        this.pageChangeTimeoutSeconds = seconds;
+        return this;
+    }
+
+    /**
+     * Iterate over the rows, reading the first page now and later pages on demand
+     */
+    public Iterator<String[]> iterator() {
+        endedByTimeout = false;
+        return new Cursor();
+    }
+
+    /**
+     * Check whether the last iteration ended because a page did not change or
+     * load in time, rather than at the last page
+     */
+    public boolean isEndedByTimeout() {
+        return endedByTimeout;
+    }
+
+    public Stream<String[]> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    // ===============================
+    // CURSOR
+    // ===============================
+
+    /**
+     * Position in the collected rows; holds the current page only
+     */
+    private final class Cursor implements Iterator<String[]> {
+        private final Set<String> seen = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > distinctWindow;
+            }
+        });
+        private TableReader.Table page = reader.read();
+        private int index;
+        private int pagesRead = 1;
+        private String[] pending;
+
+        @Override
+        public boolean hasNext() {
+            while (pending == null) {
+                if (index < page.getRowCount()) {
+                    String[] row = page.getRow(index++);
+                    if (key == null || seen.add(key.apply(row))) {
+                        pending = row;
+                    }
+                } else if (pagesRead >= maxPages || !advance()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String[] row = pending;
+            pending = null;
+            return row;
+        }
+
+        /**
+         * Load the next page
+         * @return false if there is none
+         */
+        private boolean advance() {
+            switch (mode) {
+                case NEXT_CONTROL:
+                    if (!isControlEnabled()) {
+                        return false;
+                    }
+                    return changePage(() -> ImplicitWaitScope.findElementsNow(driver, control).get(0).click());
+                case PAGE_LINKS:
+                    List<WebElement> links = ImplicitWaitScope.findElementsNow(driver, control);
+                    if (pagesRead >= links.size()) {
+                        return false;
+                    }
+                    WebElement link = links.get(pagesRead);
+                    return changePage(link::click);
+                case INFINITE_SCROLL:
+                    return loadMore();
+                default:
+                    return false;
+            }
+        }
+
+        private boolean changePage(Runnable action) {
+            String before = signature(reader.read(0, 1));
+            action.run();
+            try {
+                WaitEngine.forDriver(driver).until(new PageChanged(before), pageChangeTimeoutSeconds);
+            } catch (TimeoutException e) {
+                endedByTimeout = true;
+                logger.warn("Table {} did not change within {}s after page {}, stopping; later pages were not read",
+                        reader.getTableLocator(), pageChangeTimeoutSeconds, pagesRead);
+                return false;
+            }
+            page = reader.read();
+            index = 0;
+            pagesRead++;
+            return true;
+        }
+
+        private boolean loadMore() {
+            int rendered = page.getOffset() + page.getRowCount();
+            WebElement table = ImplicitWaitScope.findElementsNow(driver, reader.getTableLocator()).stream()
+                    .findFirst().orElse(null);
+            if (table == null) {
+                return false;
+            }
+            ((JavascriptExecutor) driver).executeScript(SCROLL_SCRIPT, table, reader.getRowSelector());
+            try {
+                WaitEngine.forDriver(driver).until(new RowsAdded(rendered), pageChangeTimeoutSeconds);
+            } catch (TimeoutException e) {
+                endedByTimeout = true;
+                logger.warn("No rows added to {} within {}s after {} rows, stopping; treating it as the end of the list",
+                        reader.getTableLocator(), pageChangeTimeoutSeconds, rendered);
+                return false;
+            }
+            // Only the rows added since the last read
+            page = reader.read(rendered, -1);
+            index = 0;
+            pagesRead++;
+            return true;
+        }
+
+        private boolean isControlEnabled() {
+            PageProbe.Result state = PageProbe.on(driver).displayed(control).enabled(control)
+                    .attribute(control, "aria-disabled").attribute(control, "class").run();
+            String classes = state.getAttribute(control, "class");
+            return state.isDisplayed(control) && state.isEnabled(control)
+                    && !"true".equals(state.getAttribute(control, "aria-disabled"))
+                    && (classes == null || !classes.matches("(^|.*\\s)disabled(\\s.*|$)"));
+        }
+    }
+
+    private static String signature(TableReader.Table firstRow) {
+        return firstRow.getTotalRowCount() + "|"
+                + (firstRow.getRowCount() > 0 ? String.join("\u0001", firstRow.getRow(0)) : "");
+    }
+
+    /**
+     * Holds once the first row or row count of the table differs from before
+     */
+    private final class PageChanged implements ExpectedCondition<Boolean> {
+        private final String before;
+
+        private PageChanged(String before) {
+            this.before = before;
+        }
+
+        @Override
+        public Boolean apply(WebDriver ignored) {
+            return !before.equals(signature(reader.read(0, 1)));
+        }
+
+        @Override
+        public String toString() {
+            return "page of table " + reader.getTableLocator() + " to change";
+        }
+    }
+
+    /**
+     * Holds once the table has more rows than before
+     */
+    private final class RowsAdded implements ExpectedCondition<Boolean> {
+        private final int before;
+
+        private RowsAdded(int before) {
+            this.before = before;
+        }
+
+        @Override
+        public Boolean apply(WebDriver ignored) {
+            return reader.read(0, 0).getTotalRowCount() > before;
+        }
+
+        @Override
+        public String toString() {
+            return "rows to be added to table " + reader.getTableLocator();
+        }
+    }
+}
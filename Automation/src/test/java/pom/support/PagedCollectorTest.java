@@ -0,0 +1,254 @@
+package pom.support;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import pom.wait.WaitEngine;
+
+/**
+ * Paging of {@link PagedCollector} and {@link TableReader} against a fake
+ * driver that serves a table page by page
+ */
+public class PagedCollectorTest {
+
+    private static final By TABLE = By.id("products");
+    private static final By PAGE_LINKS = By.cssSelector("#pagination a");
+
+    // Rows of each page; infinite scroll renders them all, a page at a time
+    private final List<List<String>> pages = new ArrayList<>();
+    private int currentPage;
+    private int renderedPages = 1;
+    private boolean linksWork = true;
+    private int reads;
+    private int clicks;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void createDriver() {
+        pages.clear();
+        pages.add(List.of("Laptop", "Mouse", "Monitor"));
+        pages.add(List.of("Keyboard", "Webcam", "Headset"));
+        pages.add(List.of("Tablet", "Phone"));
+        currentPage = 0;
+        renderedPages = 1;
+        linksWork = true;
+        reads = 0;
+        clicks = 0;
+        driver = fakeDriver();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseDriver() {
+        WaitEngine.release(driver);
+    }
+
+    @Test
+    public void pageLinksAreFollowedInOrder() {
+        PagedCollector collector = PagedCollector.of(driver, TableReader.of(driver, TABLE)).pageLinks(PAGE_LINKS);
+
+        assertEquals(names(collector), List.of("Laptop", "Mouse", "Monitor", "Keyboard", "Webcam", "Headset",
+                "Tablet", "Phone"));
+        assertEquals(clicks, 2);
+        assertFalse(collector.isEndedByTimeout());
+    }
+
+    @Test
+    public void laterPagesAreNotLoadedOnceTheConsumerIsDone() {
+        Optional<String[]> mouse = PagedCollector.of(driver, TableReader.of(driver, TABLE)).pageLinks(PAGE_LINKS)
+                .stream().filter(row -> row[0].equals("Mouse")).findFirst();
+
+        assertEquals(mouse.get()[0], "Mouse");
+        assertEquals(clicks, 0);
+        assertEquals(reads, 1);
+    }
+
+    @Test
+    public void maxPagesLimitsThePagesRead() {
+        List<String> names = names(PagedCollector.of(driver, TableReader.of(driver, TABLE)).pageLinks(PAGE_LINKS)
+                .maxPages(2));
+
+        assertEquals(names.size(), 6);
+        assertEquals(clicks, 1);
+    }
+
+    @Test
+    public void rowsRepeatedAcrossPagesAreDropped() {
+        pages.set(1, List.of("Monitor", "Keyboard"));
+
+        List<String> names = names(PagedCollector.of(driver, TableReader.of(driver, TABLE)).pageLinks(PAGE_LINKS)
+                .distinctBy(row -> row[0]));
+
+        assertEquals(names, List.of("Laptop", "Mouse", "Monitor", "Keyboard", "Tablet", "Phone"));
+    }
+
+    @Test
+    public void pageThatDoesNotChangeEndsTheListByTimeout() {
+        linksWork = false;
+        PagedCollector collector = PagedCollector.of(driver, TableReader.of(driver, TABLE)).pageLinks(PAGE_LINKS)
+                .pageChangeTimeout(1);
+
+        assertEquals(names(collector), List.of("Laptop", "Mouse", "Monitor"));
+        assertTrue(collector.isEndedByTimeout());
+    }
+
+    @Test
+    public void infiniteScrollReadsOnlyTheAddedRows() {
+        PagedCollector collector = PagedCollector.of(driver, TableReader.of(driver, TABLE)).infiniteScroll()
+                .pageChangeTimeout(1);
+
+        assertEquals(names(collector), List.of("Laptop", "Mouse", "Monitor", "Keyboard", "Webcam", "Headset",
+                "Tablet", "Phone"));
+        assertEquals(renderedPages, 3);
+    }
+
+    @Test
+    public void tableRowsAreStreamedOnePageSizePerRead() {
+        renderedPages = 3;
+
+        List<String> names = TableReader.of(driver, TABLE).rows(3).map(row -> row[0]).limit(4)
+                .collect(Collectors.toList());
+
+        assertEquals(names, List.of("Laptop", "Mouse", "Monitor", "Keyboard"));
+        assertEquals(reads, 2);
+    }
+
+    @Test
+    public void rowStreamReadsNothingUntilConsumed() {
+        Stream<String[]> rows = TableReader.of(driver, TABLE).rows(3);
+        assertEquals(reads, 0);
+
+        assertEquals(rows.findFirst().get()[0], "Laptop");
+        assertEquals(reads, 1);
+    }
+
+    @Test
+    public void tableContentsCannotBeChangedByCallers() {
+        TableReader.Table table = TableReader.of(driver, TABLE).read();
+
+        table.getRows()[0][0] = "Changed";
+        table.getRow(1)[0] = "Changed";
+        table.toArray()[3][0] = "Changed";
+
+        assertEquals(table.getColumn("Name"), List.of("Laptop", "Mouse", "Monitor"));
+    }
+
+    private static List<String> names(PagedCollector collector) {
+        List<String> names = new ArrayList<>();
+        collector.iterator().forEachRemaining(row -> names.add(row[0]));
+        return names;
+    }
+
+    // Rows the table shows now: the current page, or every page rendered by scrolling
+    private List<String> visibleRows() {
+        List<String> rows = new ArrayList<>(pages.get(currentPage));
+        for (int page = 1; page < renderedPages && currentPage == 0; page++) {
+            rows.addAll(pages.get(page));
+        }
+        return rows;
+    }
+
+    private Map<String, Object> readTable(Map<?, ?> options) {
+        reads++;
+        List<String> rows = visibleRows();
+        int offset = ((Number) options.get("offset")).intValue();
+        int limit = ((Number) options.get("limit")).intValue();
+        int end = limit < 0 ? rows.size() : Math.min(rows.size(), offset + limit);
+
+        List<Object> page = new ArrayList<>();
+        for (String name : rows.subList(Math.min(offset, end), end)) {
+            page.add(List.of(name));
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("headers", List.of("Name"));
+        result.put("total", rows.size());
+        result.put("rows", page);
+        result.put("links", List.of());
+        result.put("attributes", Map.of());
+        return result;
+    }
+
+    private WebElement element(Runnable onClick) {
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { WebElement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "click":
+                            onClick.run();
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private List<WebElement> pageLinks() {
+        List<WebElement> links = new ArrayList<>();
+        for (int page = 0; page < pages.size(); page++) {
+            int target = page;
+            links.add(element(() -> {
+                clicks++;
+                if (linksWork) {
+                    currentPage = target;
+                }
+            }));
+        }
+        return links;
+    }
+
+    private WebDriver fakeDriver() {
+        ClassLoader loader = getClass().getClassLoader();
+        WebDriver.Timeouts timeouts = (WebDriver.Timeouts) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebDriver.Timeouts.class },
+                (proxy, method, args) -> method.getName().equals("getImplicitWaitTimeout") ? Duration.ZERO : proxy);
+        WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebDriver.Options.class }, (proxy, method, args) -> timeouts);
+        WebElement table = element(() -> {
+        });
+        return (WebDriver) Proxy.newProxyInstance(loader, new Class<?>[] { WebDriver.class, JavascriptExecutor.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "manage":
+                            return options;
+                        case "findElements":
+                            return PAGE_LINKS.equals(args[0]) ? pageLinks() : List.of(table);
+                        case "executeScript":
+                            Object[] scriptArgs = (Object[]) args[1];
+                            if (((String) args[0]).contains("scrollIntoView")) {
+                                renderedPages = Math.min(pages.size(), renderedPages + 1);
+                                return null;
+                            }
+                            return readTable((Map<?, ?>) scriptArgs[2]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "fake driver";
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,132 @@
+package pom.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Locator that pierces shadow roots, resolved with one executeScript call
+ *
+ * {@link #path(String...)} names the shadow hosts from the outside in, each a
+ * CSS selector inside the previous host's shadow root, followed by the target
+ * selector. {@link #deep(String)} takes selectors separated by
+ * <code>&gt;&gt;&gt;</code> and matches each one anywhere below the previous
+ * match, across any number of shadow roots. Either way the query costs one
+ * round trip however deep the nesting, and returns ordinary WebElements that
+ * work with waits and actions. Closed shadow roots cannot be entered.
+ *
+ * <pre>
+ * driver.findElement(ShadowBy.path("#shadow-root", "#inner-shadow-dom", "#nested-shadow-dom",
+ *         "#multi-nested-shadow-element"));
+ * driver.findElement(ShadowBy.deep("#shadow-root &gt;&gt;&gt; #multi-nested-shadow-element"));
+ * </pre>
+ */
+public final class ShadowBy extends By {
+
+    private static final String DEEP_SEPARATOR = ">>>";
+
+    // Arguments: root element or null, mode ('path' or 'deep'), selectors
+    private static final String QUERY_SCRIPT = String.join("\n",
+            "var root = arguments[0] || document, mode = arguments[1], selectors = arguments[2];",
+            "function scopeOf(el) { return el.shadowRoot || el; }",
+            "function deepAll(scope, selector, found) {",
+            "  Array.prototype.forEach.call(scope.querySelectorAll(selector), function (el) {",
+            "    if (found.indexOf(el) === -1) { found.push(el); }",
+            "  });",
+            "  Array.prototype.forEach.call(scope.querySelectorAll('*'), function (el) {",
+            "    if (el.shadowRoot) { deepAll(el.shadowRoot, selector, found); }",
+            "  });",
+            "  return found;",
+            "}",
+            "if (mode === 'path') {",
+            "  var scope = root;",
+            "  for (var i = 0; i < selectors.length - 1; i++) {",
+            "    var host = scope.querySelector(selectors[i]);",
+            "    if (!host || !host.shadowRoot) { return []; }",
+            "    scope = host.shadowRoot;",
+            "  }",
+            "  return Array.prototype.slice.call(scope.querySelectorAll(selectors[selectors.length - 1]));",
+            "}",
+            "var matches = [root];",
+            "selectors.forEach(function (selector) {",
+            "  var next = [];",
+            "  matches.forEach(function (match) {",
+            "    deepAll(match === document ? document : scopeOf(match), selector, next);",
+            "  });",
+            "  matches = next;",
+            "});",
+            "return matches;");
+
+    private final String mode;
+    private final List<String> selectors;
+
+    private ShadowBy(String mode, List<String> selectors) {
+        if (selectors.isEmpty() || selectors.stream().anyMatch(selector -> selector.trim().isEmpty())) {
+            throw new IllegalArgumentException("Shadow locator needs non-empty selectors: " + selectors);
+        }
+        this.mode = mode;
+        this.selectors = selectors;
+    }
+
+    /**
+     * Locate by shadow hosts from the outside in, then the target
+     * @param selectors CSS selector of each host, each within the previous host's shadow root, then the target
+     */
+    public static ShadowBy path(String... selectors) {
+        return new ShadowBy("path", Collections.unmodifiableList(Arrays.asList(selectors)));
+    }
+
+    /**
+     * Locate by selectors separated by <code>&gt;&gt;&gt;</code>, each matched at any
+     * depth below the previous match, including inside nested shadow roots
+     */
+    public static ShadowBy deep(String query) {
+        String[] parts = query.split(DEEP_SEPARATOR);
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = parts[i].trim();
+        }
+        return new ShadowBy("deep", Collections.unmodifiableList(Arrays.asList(parts)));
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        WebElement root = context instanceof WebElement ? (WebElement) context : null;
+        Object result = executorOf(context).executeScript(QUERY_SCRIPT, root, mode, selectors);
+        @SuppressWarnings("unchecked")
+        List<WebElement> elements = result instanceof List ? (List<WebElement>) result : Collections.emptyList();
+        return elements;
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> elements = findElements(context);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + this);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ShadowBy." + mode + ": " + String.join("path".equals(mode) ? " / " : " >>> ", selectors);
+    }
+
+    private static JavascriptExecutor executorOf(SearchContext context) {
+        if (context instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) context;
+        }
+        // Other contexts such as a ShadowRoot wrap a driver too, but cannot be passed to a script as the root
+        if (context instanceof WebElement && context instanceof WrapsDriver
+                && ((WrapsDriver) context).getWrappedDriver() instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+        }
+        throw new IllegalArgumentException("Shadow locators need a driver or element that runs scripts, got " + context);
+    }
+}
@@ -0,0 +1,372 @@
+package pom.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Reads a whole table with one executeScript call
+ *
+ * Returns the header texts and the body cell texts as a String[][], plus
+ * optionally the first link of every cell and cell attributes, instead of a
+ * findElements and getText round trip per row and cell. Header cells are the
+ * cells of the thead, or of the first row when it only has th cells. Grids
+ * built from divs can be read by passing row and cell CSS selectors. Large
+ * tables can be read in pages of rows with {@link #read(int, int)} or
+ * {@link #rows(int)}.
+ *
+ * <pre>
+ * TableReader.Table books = TableReader.of(driver, By.name("BookTable")).withLinks().read();
+ * List&lt;String&gt; authors = books.getColumn("Author");
+ * </pre>
+ */
+public final class TableReader {
+
+    // Arguments: table (locator value or element), using, options {rowSelector, cellSelector, links, attributes,
+    // offset, limit}
+    private static final String READ_SCRIPT = String.join("\n",
+            "var target = arguments[0], using = arguments[1], options = arguments[2];",
+            PageProbe.CSS_SELECTOR_FUNCTION,
+            "var table = typeof target !== 'string' ? target : using === 'xpath'",
+            "    ? document.evaluate(target, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue",
+            "    : document.querySelector(cssSelector(using, target));",
+            "if (!table) { return null; }",
+            "var rows = options.rowSelector ? Array.prototype.slice.call(table.querySelectorAll(options.rowSelector))",
+            "    : table.rows ? Array.prototype.slice.call(table.rows) : [];",
+            "function cellsOf(row) {",
+            "  return Array.prototype.slice.call(options.cellSelector ? row.querySelectorAll(options.cellSelector)",
+            "      : row.cells || row.children);",
+            "}",
+            "function text(cell) { return (cell.innerText || cell.textContent || '').trim(); }",
+            "var headerRows = rows.filter(function (row) {",
+            "  return row.parentElement && row.parentElement.tagName === 'THEAD';",
+            "});",
+            "if (!headerRows.length && rows.length && cellsOf(rows[0]).length",
+            "    && cellsOf(rows[0]).every(function (cell) { return cell.tagName === 'TH'; })) {",
+            "  headerRows = [rows[0]];",
+            "}",
+            "var headers = headerRows.length ? cellsOf(headerRows[headerRows.length - 1]).map(text) : [];",
+            "var body = rows.filter(function (row) { return headerRows.indexOf(row) === -1; });",
+            "var page = body.slice(options.offset, options.limit >= 0 ? options.offset + options.limit : undefined);",
+            "var result = { headers: headers, total: body.length, rows: [], links: [], attributes: {} };",
+            "options.attributes.forEach(function (name) { result.attributes[name] = []; });",
+            "page.forEach(function (row) {",
+            "  var cells = cellsOf(row);",
+            "  result.rows.push(cells.map(text));",
+            "  if (options.links) {",
+            "    result.links.push(cells.map(function (cell) {",
+            "      var link = cell.querySelector('a[href]');",
+            "      return link ? link.href : null;",
+            "    }));",
+            "  }",
+            "  options.attributes.forEach(function (name) {",
+            "    result.attributes[name].push(cells.map(function (cell) { return cell.getAttribute(name); }));",
+            "  });",
+            "});",
+            "return result;");
+
+    private final WebDriver driver;
+    private final By tableLocator;
+    private String rowSelector;
+    private String cellSelector;
+    private boolean links;
+    private final List<String> attributes = new ArrayList<>();
+
+    private TableReader(WebDriver driver, By tableLocator) {
+        this.driver = driver;
+        this.tableLocator = tableLocator;
+    }
+
+    /**
+     * Start reading the table matched by a locator
+     */
+    public static TableReader of(WebDriver driver, By tableLocator) {
+        return new TableReader(driver, tableLocator);
+    }
+
+    /**
+     * Read rows and cells of a div grid instead of table rows
+     * @param rowSelector CSS selector for rows, relative to the table
+     * @param cellSelector CSS selector for cells, relative to a row
+     */
+    public TableReader withSelectors(String rowSelector, String cellSelector) {
+        this.rowSelector = rowSelector;
+        this.cellSelector = cellSelector;
+        return this;
+    }
+
+    /**
+     * Also read the href of the first link in every cell
+     */
+    public TableReader withLinks() {
+        this.links = true;
+        return this;
+    }
+
+    /**
+     * Also read an attribute of every cell
+     */
+    public TableReader withAttribute(String attributeName) {
+        attributes.add(attributeName);
+        return this;
+    }
+
+    /**
+     * Read all body rows
+     */
+    public Table read() {
+        return read(0, -1);
+    }
+
+    /**
+     * Read a page of body rows
+     * @param offset Index of the first body row
+     * @param limit Maximum number of rows, or -1 for all
+     * @throws org.openqa.selenium.NoSuchElementException if the table does not exist
+     */
+    public Table read(int offset, int limit) {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("rowSelector", rowSelector);
+        options.put("cellSelector", cellSelector);
+        options.put("links", links);
+        options.put("attributes", attributes);
+        options.put("offset", offset);
+        options.put("limit", limit);
+
+        String[] scriptLocator = PageProbe.scriptLocator(tableLocator);
+        Object target = scriptLocator != null ? scriptLocator[1] : ImplicitWaitScope.findElementsNow(driver, tableLocator)
+                .stream().findFirst().orElse(null);
+        Object response = target == null ? null
+                : ((JavascriptExecutor) driver).executeScript(READ_SCRIPT, target,
+                        scriptLocator != null ? scriptLocator[0] : null, options);
+        if (response == null) {
+            throw new org.openqa.selenium.NoSuchElementException("Table not found: " + tableLocator);
+        }
+        return new Table(offset, (Map<?, ?>) response);
+    }
+
+    /**
+     * Stream body rows, reading one page per round trip as the stream is
+     * consumed; nothing is read until the first row is asked for
+     */
+    public Stream<String[]> rows(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        Iterator<String[]> iterator = new Iterator<String[]>() {
+            private Table page;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                if (page == null) {
+                    page = read(0, pageSize);
+                }
+                if (index < page.getRowCount()) {
+                    return true;
+                }
+                int next = page.getOffset() + page.getRowCount();
+                if (page.getRowCount() == 0 || next >= page.getTotalRowCount()) {
+                    return false;
+                }
+                page = read(next, pageSize);
+                index = 0;
+                return page.getRowCount() > 0;
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.getRow(index++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    By getTableLocator() {
+        return tableLocator;
+    }
+
+    String getRowSelector() {
+        return rowSelector;
+    }
+
+    // ===============================
+    // TABLE
+    // ===============================
+
+    /**
+     * Snapshot of a table or of a page of its rows
+     */
+    public static final class Table {
+        private final int offset;
+        private final int totalRowCount;
+        private final String[] headers;
+        private final String[][] rows;
+        private final String[][] links;
+        private final Map<String, String[][]> attributes = new LinkedHashMap<>();
+
+        private Table(int offset, Map<?, ?> response) {
+            this.offset = offset;
+            this.totalRowCount = ((Number) response.get("total")).intValue();
+            this.headers = toRow((List<?>) response.get("headers"));
+            this.rows = toArray((List<?>) response.get("rows"));
+            this.links = toArray((List<?>) response.get("links"));
+            ((Map<?, ?>) response.get("attributes")).forEach(
+                    (name, values) -> attributes.put(name.toString(), toArray((List<?>) values)));
+        }
+
+        public String[] getHeaders() {
+            return headers.clone();
+        }
+
+        /**
+         * Get a copy of the body cell texts, one array per row
+         */
+        public String[][] getRows() {
+            return copy(rows);
+        }
+
+        /**
+         * Get a copy of the header row followed by the body rows
+         */
+        public String[][] toArray() {
+            String[][] all = new String[rows.length + 1][];
+            all[0] = headers.clone();
+            for (int i = 0; i < rows.length; i++) {
+                all[i + 1] = rows[i].clone();
+            }
+            return all;
+        }
+
+        public String[] getRow(int index) {
+            return rows[index].clone();
+        }
+
+        /**
+         * Get the number of body rows read
+         */
+        public int getRowCount() {
+            return rows.length;
+        }
+
+        /**
+         * Get the number of body rows in the table, including rows outside this page
+         */
+        public int getTotalRowCount() {
+            return totalRowCount;
+        }
+
+        /**
+         * Get the index of the first row read within the table body
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * Get the index of a column by its header text, ignoring case
+         * @throws IllegalArgumentException if no header matches
+         */
+        public int columnIndex(String header) {
+            for (int i = 0; i < headers.length; i++) {
+                if (headers[i].equalsIgnoreCase(header.trim())) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("No column '" + header + "' in " + String.join(", ", headers));
+        }
+
+        /**
+         * Get the cell texts of a column; rows too short for it give null
+         */
+        public List<String> getColumn(String header) {
+            int column = columnIndex(header);
+            List<String> values = new ArrayList<>();
+            for (String[] row : rows) {
+                values.add(column < row.length ? row[column] : null);
+            }
+            return values;
+        }
+
+        public String getCell(int row, String header) {
+            int column = columnIndex(header);
+            return column < rows[row].length ? rows[row][column] : null;
+        }
+
+        /**
+         * Get the first row whose cell in a column has the given text, or null
+         */
+        public String[] findRow(String header, String text) {
+            int column = columnIndex(header);
+            for (String[] row : rows) {
+                if (column < row.length && row[column].equals(text)) {
+                    return row.clone();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Get the first link of every cell; requires {@link TableReader#withLinks()}
+         */
+        public String[][] getLinks() {
+            return copy(links);
+        }
+
+        /**
+         * Get an attribute of every cell; requires {@link TableReader#withAttribute(String)}
+         */
+        public String[][] getAttribute(String attributeName) {
+            String[][] values = attributes.get(attributeName);
+            if (values == null) {
+                throw new IllegalArgumentException("Attribute was not read: " + attributeName);
+            }
+            return copy(values);
+        }
+
+        // Callers get their own arrays, so the snapshot cannot be changed through them
+        private static String[][] copy(String[][] array) {
+            String[][] copy = new String[array.length][];
+            for (int i = 0; i < array.length; i++) {
+                copy[i] = array[i].clone();
+            }
+            return copy;
+        }
+
+        private static String[][] toArray(List<?> rows) {
+            if (rows == null) {
+                return new String[0][];
+            }
+            String[][] array = new String[rows.size()][];
+            for (int i = 0; i < rows.size(); i++) {
+                array[i] = toRow((List<?>) rows.get(i));
+            }
+            return array;
+        }
+
+        private static String[] toRow(List<?> cells) {
+            if (cells == null) {
+                return new String[0];
+            }
+            String[] row = new String[cells.size()];
+            for (int i = 0; i < cells.size(); i++) {
+                row[i] = cells.get(i) != null ? cells.get(i).toString() : null;
+            }
+            return row;
+        }
+    }
+}
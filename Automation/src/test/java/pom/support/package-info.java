@@ -0,0 +1 @@
+package pom.support;
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.testng.annotations.Test;
 
 import pom.pages.Home_Page;
 import pom.pages.Login_Page;
+import pom.support.ImplicitWaitScope;
 import pom.utils.Assertions;
 
 import org.testng.annotations.BeforeMethod;
@@ -21,7 +22,7 @@ public class LoginTest {
 		driver = new ChromeDriver();
 		driver.get("https://bonigarcia.dev/selenium-webdriver-java/login-form.html");
 		driver.manage().window().maximize();
-		driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+		ImplicitWaitScope.setImplicitWait(driver, Duration.ofSeconds(10));
 	}
 
 	@AfterMethod
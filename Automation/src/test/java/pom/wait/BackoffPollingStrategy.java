@@ -0,0 +1,93 @@
+package pom.wait;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polling that starts fast and backs off exponentially to a cap
+ *
+ * A condition that becomes true shortly after a poll is seen within a few
+ * tens of milliseconds, while long waits settle at the cap so a remote grid
+ * is not flooded with commands. Settle times of described conditions (e.g.
+ * "visibility of element located by By.id: login") are learned, and later
+ * waits for the same condition sleep straight to shortly before the expected
+ * settle time instead of polling all the way there. The estimate follows
+ * faster settles immediately and slower ones gradually.
+ */
+public class BackoffPollingStrategy implements PollingStrategy {
+
+    public static final long DEFAULT_INITIAL_INTERVAL_MS = 25;
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+    private static final int MAX_LEARNED_CONDITIONS = 1024;
+    private static final double LEARNING_RATE = 0.2;
+    private static final double EARLY_WAKE_FACTOR = 0.8;
+
+    private final long initialIntervalMs;
+    private final double multiplier;
+    private final long maxIntervalMs;
+    private final boolean learning;
+    private final Map<String, Double> settleEstimates = new ConcurrentHashMap<>();
+
+    public BackoffPollingStrategy(long initialIntervalMs, double multiplier, long maxIntervalMs, boolean learning) {
+        this.initialIntervalMs = Math.max(1, initialIntervalMs);
+        this.multiplier = Math.max(1.0, multiplier);
+        this.maxIntervalMs = Math.max(this.initialIntervalMs, maxIntervalMs);
+        this.learning = learning;
+    }
+
+    @Override
+    public Duration nextInterval(int polls) {
+        double interval = initialIntervalMs * Math.pow(multiplier, polls - 1);
+        return Duration.ofMillis((long) Math.min(interval, maxIntervalMs));
+    }
+
+    @Override
+    public Duration nextInterval(String conditionKey, int polls, long elapsedMs) {
+        Double settleMs = conditionKey != null ? settleEstimates.get(conditionKey) : null;
+        if (settleMs == null) {
+            return nextInterval(polls);
+        }
+
+        // Sleep to shortly before the expected settle time, then back off
+        // again from the initial interval
+        long wakeAtMs = (long) (settleMs * EARLY_WAKE_FACTOR);
+        if (elapsedMs + initialIntervalMs < wakeAtMs) {
+            return Duration.ofMillis(Math.min(wakeAtMs - elapsedMs, maxIntervalMs));
+        }
+        long sinceWakeMs = Math.max(0, elapsedMs - wakeAtMs);
+        long interval = Math.max(initialIntervalMs, (long) (sinceWakeMs * (multiplier - 1)));
+        return Duration.ofMillis(Math.min(interval, maxIntervalMs));
+    }
+
+    @Override
+    public void recordSettled(String conditionKey, long elapsedMs) {
+        if (!learning || conditionKey == null) {
+            return;
+        }
+        if (settleEstimates.size() >= MAX_LEARNED_CONDITIONS && !settleEstimates.containsKey(conditionKey)) {
+            return;
+        }
+        // Follow faster settles at once and slower ones gradually, so the
+        // estimate stays near the low end and early wake-ups stay safe
+        settleEstimates.merge(conditionKey, (double) elapsedMs, (previous, observed) -> observed < previous
+                ? observed
+                : previous + LEARNING_RATE * (observed - previous));
+    }
+
+    /**
+     * Get learned settle times in milliseconds, keyed by condition
+     */
+    public Map<String, Long> getSettleEstimates() {
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        settleEstimates.forEach((key, value) -> estimates.put(key, Math.round(value)));
+        return estimates;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("backoff(%dms x%.1f up to %dms%s)", initialIntervalMs, multiplier, maxIntervalMs,
+                learning ? ", learning" : "");
+    }
+}
@@ -0,0 +1,76 @@
+package pom.wait;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+/**
+ * Interval schedule and settle-time learning of {@link BackoffPollingStrategy}
+ */
+public class BackoffPollingStrategyTest {
+
+    private static final String CONDITION = "visibility of element located by By.id: login";
+
+    @Test
+    public void intervalsDoubleUpToTheCap() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, false);
+
+        assertEquals(strategy.nextInterval(1), Duration.ofMillis(25));
+        assertEquals(strategy.nextInterval(2), Duration.ofMillis(50));
+        assertEquals(strategy.nextInterval(5), Duration.ofMillis(400));
+        assertEquals(strategy.nextInterval(6), Duration.ofMillis(500));
+        assertEquals(strategy.nextInterval(50), Duration.ofMillis(500));
+    }
+
+    @Test
+    public void unknownConditionsBackOffByPollCount() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, true);
+
+        assertEquals(strategy.nextInterval(CONDITION, 3, 75), Duration.ofMillis(100));
+        assertEquals(strategy.nextInterval(null, 3, 75), Duration.ofMillis(100));
+    }
+
+    @Test
+    public void learnedConditionSleepsToShortlyBeforeSettleTime() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, true);
+        strategy.recordSettled(CONDITION, 400);
+
+        // Wakes at 80% of the learned 400 ms
+        assertEquals(strategy.nextInterval(CONDITION, 1, 0), Duration.ofMillis(320));
+        assertEquals(strategy.nextInterval(CONDITION, 2, 320), Duration.ofMillis(25));
+        assertEquals(strategy.nextInterval(CONDITION, 5, 420), Duration.ofMillis(100));
+    }
+
+    @Test
+    public void longSettleTimesAreSleptInCappedSteps() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, true);
+        strategy.recordSettled(CONDITION, 5000);
+
+        assertEquals(strategy.nextInterval(CONDITION, 1, 0), Duration.ofMillis(500));
+    }
+
+    @Test
+    public void estimateFollowsFasterSettlesAtOnceAndSlowerOnesGradually() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, true);
+
+        strategy.recordSettled(CONDITION, 400);
+        strategy.recordSettled(CONDITION, 200);
+        assertEquals(strategy.getSettleEstimates(), Map.of(CONDITION, 200L));
+
+        strategy.recordSettled(CONDITION, 700);
+        assertEquals(strategy.getSettleEstimates(), Map.of(CONDITION, 300L));
+    }
+
+    @Test
+    public void nothingIsLearnedWithLearningOff() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(25, 2.0, 500, false);
+        strategy.recordSettled(CONDITION, 400);
+
+        assertTrue(strategy.getSettleEstimates().isEmpty());
+        assertEquals(strategy.nextInterval(CONDITION, 1, 0), Duration.ofMillis(25));
+    }
+}
@@ -0,0 +1,193 @@
+package pom.wait;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import pom.support.PageProbe;
+
+/**
+ * Browser-side waits driven by DOM events instead of remote polling
+ *
+ * A single executeAsyncScript call checks the condition, then re-checks it on
+ * every MutationObserver batch (and IntersectionObserver change for
+ * visibility) until it holds or the timeout passes, so a wait costs one round
+ * trip. Only locators {@link PageProbe#scriptLocator(By)} translates for the
+ * page (CSS selector, id, name, class name, tag name, XPath) are supported. The session script timeout is
+ * raised when a wait needs longer than it allows.
+ */
+final class ObserverWait {
+
+    enum Condition {
+        PRESENT("present"),
+        VISIBLE("visible"),
+        INVISIBLE("invisible"),
+        TEXT("text");
+
+        private final String scriptName;
+
+        Condition(String scriptName) {
+            this.scriptName = scriptName;
+        }
+    }
+
+    private static final long SCRIPT_TIMEOUT_MARGIN_MS = 2000;
+
+    // Arguments: target (locator value or element), using, condition, text, timeoutMs, callback
+    private static final String OBSERVER_SCRIPT = String.join("\n",
+            "var target = arguments[0], using = arguments[1], condition = arguments[2], text = arguments[3],",
+            "    timeoutMs = arguments[4], done = arguments[arguments.length - 1];",
+            PageProbe.CSS_SELECTOR_FUNCTION,
+            "function find() {",
+            "  if (typeof target !== 'string') { return target && target.isConnected ? target : null; }",
+            "  if (using === 'xpath') {",
+            "    var node = document.evaluate(target, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)",
+            "        .singleNodeValue;",
+            "    return node && node.nodeType === 1 ? node : null;",
+            "  }",
+            "  return document.querySelector(cssSelector(using, target));",
+            "}",
+            PageProbe.IS_DISPLAYED_FUNCTION,
+            "function check() {",
+            "  var el = find();",
+            "  switch (condition) {",
+            "    case 'present': return el ? { value: el } : null;",
+            "    case 'visible': return isDisplayed(el) ? { value: el } : null;",
+            "    case 'invisible': return isDisplayed(el) ? null : { value: true };",
+            "    case 'text': return el && (el.innerText || el.textContent || '').indexOf(text) !== -1",
+            "        ? { value: true } : null;",
+            "  }",
+            "  return null;",
+            "}",
+            "// A located element that was detached will not come back",
+            "if (typeof target !== 'string' && !(target && target.isConnected)) { done({ stale: true }); return; }",
+            "var initial = check();",
+            "if (initial) { done(initial); return; }",
+            "var finished = false, observed = null, intersection = null;",
+            "function finish(result) {",
+            "  if (finished) { return; }",
+            "  finished = true;",
+            "  mutations.disconnect();",
+            "  if (intersection) { intersection.disconnect(); }",
+            "  document.removeEventListener('transitionend', recheck, true);",
+            "  document.removeEventListener('animationend', recheck, true);",
+            "  clearInterval(safety);",
+            "  clearTimeout(deadline);",
+            "  done(result);",
+            "}",
+            "function watchIntersection() {",
+            "  if (condition !== 'visible' || typeof IntersectionObserver === 'undefined') { return; }",
+            "  var el = find();",
+            "  if (!el || el === observed) { return; }",
+            "  if (intersection) { intersection.disconnect(); }",
+            "  observed = el;",
+            "  intersection = new IntersectionObserver(recheck);",
+            "  intersection.observe(el);",
+            "}",
+            "function recheck() {",
+            "  if (finished) { return; }",
+            "  var result = check();",
+            "  if (result) { finish(result); } else { watchIntersection(); }",
+            "}",
+            "var mutations = new MutationObserver(recheck);",
+            "mutations.observe(document.documentElement,",
+            "    { childList: true, subtree: true, attributes: true, characterData: true });",
+            "document.addEventListener('transitionend', recheck, true);",
+            "document.addEventListener('animationend', recheck, true);",
+            "watchIntersection();",
+            "// Catches style changes that cause no mutation, e.g. media queries",
+            "var safety = setInterval(recheck, 250);",
+            "var deadline = setTimeout(function () { finish({ timeout: true }); }, timeoutMs);");
+
+    private final WebDriver driver;
+    private long scriptTimeoutMs = -1;
+    private volatile boolean available = true;
+
+    ObserverWait(WebDriver driver) {
+        this.driver = driver;
+        this.available = driver instanceof JavascriptExecutor;
+    }
+
+    /**
+     * Check whether observer waits can still be used with this driver
+     */
+    boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Stop using observer waits, e.g. after the driver rejected async scripts
+     */
+    void disable() {
+        available = false;
+    }
+
+    /**
+     * Wait for a condition in the browser
+     * @param target Locator value from {@link PageProbe#scriptLocator(By)} or a WebElement
+     * @return The element for PRESENT and VISIBLE, Boolean.TRUE otherwise
+     * @throws TimeoutException if the condition did not hold within the timeout
+     * @throws StaleElementReferenceException if the target element is no longer attached
+     */
+    Object await(Object target, String using, Condition condition, String text, int timeoutSeconds,
+            String description) {
+        long timeoutMs = timeoutSeconds * 1000L;
+        long restoreMs = raiseScriptTimeout(timeoutMs + SCRIPT_TIMEOUT_MARGIN_MS);
+
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVER_SCRIPT, target, using,
+                    condition.scriptName, text, timeoutMs);
+        } catch (ScriptTimeoutException e) {
+            throw timeout(description, timeoutSeconds, e);
+        } finally {
+            if (restoreMs >= 0) {
+                setScriptTimeout(restoreMs);
+            }
+        }
+
+        if (result instanceof Map && ((Map<?, ?>) result).containsKey("stale")) {
+            throw new StaleElementReferenceException("Element is no longer attached to the document: " + description);
+        }
+        if (!(result instanceof Map) || ((Map<?, ?>) result).containsKey("timeout")) {
+            throw timeout(description, timeoutSeconds, null);
+        }
+        Object value = ((Map<?, ?>) result).get("value");
+        return value instanceof WebElement ? value : Boolean.TRUE;
+    }
+
+    /**
+     * Raise the session script timeout for one wait when it is shorter than
+     * the wait needs; the session value is read once and then tracked here
+     * @return The timeout to restore after the wait, or -1 if it was not raised
+     */
+    private synchronized long raiseScriptTimeout(long requiredMs) {
+        if (scriptTimeoutMs < 0) {
+            Duration current = driver.manage().timeouts().getScriptTimeout();
+            scriptTimeoutMs = current != null ? current.toMillis() : 0;
+        }
+        if (scriptTimeoutMs >= requiredMs) {
+            return -1;
+        }
+        long previousMs = scriptTimeoutMs;
+        setScriptTimeout(requiredMs);
+        return previousMs;
+    }
+
+    private synchronized void setScriptTimeout(long timeoutMs) {
+        driver.manage().timeouts().scriptTimeout(Duration.ofMillis(timeoutMs));
+        scriptTimeoutMs = timeoutMs;
+    }
+
+    private static TimeoutException timeout(String description, int timeoutSeconds, Throwable cause) {
+        return new TimeoutException(String.format(
+                "Expected condition failed: waiting for %s (observed for %d second(s))", description, timeoutSeconds),
+                cause);
+    }
+}
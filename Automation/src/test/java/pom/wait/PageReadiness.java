@@ -0,0 +1,143 @@
+package pom.wait;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v138.network.Network;
+import org.openqa.selenium.devtools.v138.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v138.network.model.ResourceType;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import novus.config.config_loader.LayeredConfiguration;
+
+/**
+ * Condition that holds once the page has settled
+ *
+ * The page is settled when document.readyState is "complete" and neither the
+ * DOM nor the network has been active for the quiet window. DOM activity is
+ * tracked by a MutationObserver installed in the page. Network activity is
+ * tracked through CDP Network events on Chromium browsers; requests open
+ * longer than the long-request limit, WebSockets and event streams are not
+ * counted. Other browsers fall back to the resource timing entries, which
+ * only show finished requests. Settings come from web.json
+ * timeouts.pageReadiness.
+ */
+public final class PageReadiness implements ExpectedCondition<Boolean> {
+    private static final Logger logger = LoggerFactory.getLogger(PageReadiness.class);
+
+    // Returns readyState and the time since the last DOM mutation and the last finished resource
+    private static final String STATE_SCRIPT = String.join("\n",
+            "var state = window.__pageReadiness;",
+            "if (!state) {",
+            "  state = window.__pageReadiness = { lastMutation: performance.now() };",
+            "  new MutationObserver(function () { state.lastMutation = performance.now(); })",
+            "      .observe(document, { childList: true, subtree: true, attributes: true, characterData: true });",
+            "}",
+            "var now = performance.now(), lastResource = 0;",
+            "performance.getEntriesByType('resource').forEach(function (entry) {",
+            "  lastResource = Math.max(lastResource, entry.responseEnd);",
+            "});",
+            "return { readyState: document.readyState, domQuietMs: now - state.lastMutation,",
+            "    resourceQuietMs: now - lastResource };");
+
+    private final long quietMs;
+    private final long longRequestNanos;
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private volatile long lastNetworkActivityNanos = System.nanoTime();
+    private final boolean networkTracked;
+
+    PageReadiness(WebDriver driver) {
+        LayeredConfiguration config = LayeredConfiguration.getInstance();
+        this.quietMs = config.getInt("web.timeouts.pageReadiness.quietMs", 500);
+        this.longRequestNanos = TimeUnit.MILLISECONDS.toNanos(
+                config.getInt("web.timeouts.pageReadiness.longRequestMs", 5000));
+        this.networkTracked = trackNetwork(driver);
+    }
+
+    /**
+     * Check whether in-flight requests are tracked through CDP
+     */
+    public boolean isNetworkTracked() {
+        return networkTracked;
+    }
+
+    @Override
+    public Boolean apply(WebDriver driver) {
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT);
+        } catch (JavascriptException e) {
+            return false; // Document is being replaced
+        }
+        if (!(result instanceof Map)) {
+            return false;
+        }
+        Map<?, ?> state = (Map<?, ?>) result;
+        long networkQuietMs = networkTracked ? networkQuietMs() : millis(state.get("resourceQuietMs"));
+        return "complete".equals(state.get("readyState"))
+                && millis(state.get("domQuietMs")) >= quietMs
+                && networkQuietMs >= quietMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("page to settle (readyState complete, %d ms without DOM or network activity)", quietMs);
+    }
+
+    private long networkQuietMs() {
+        long now = System.nanoTime();
+        // Long polls and streams never finish; stop counting them
+        inFlight.values().removeIf(startedNanos -> now - startedNanos >= longRequestNanos);
+        if (!inFlight.isEmpty()) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(now - lastNetworkActivityNanos);
+    }
+
+    private boolean trackNetwork(WebDriver driver) {
+        WebDriver target = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (!(target instanceof HasDevTools)) {
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) target).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            devTools.addListener(Network.requestWillBeSent(), this::requestStarted);
+            devTools.addListener(Network.loadingFinished(), finished -> requestEnded(finished.getRequestId().toString()));
+            devTools.addListener(Network.loadingFailed(), failed -> requestEnded(failed.getRequestId().toString()));
+            return true;
+        } catch (Exception e) {
+            logger.debug("CDP network tracking unavailable, using resource timing: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void requestStarted(RequestWillBeSent request) {
+        lastNetworkActivityNanos = System.nanoTime();
+        ResourceType type = request.getType().orElse(null);
+        if (type == ResourceType.WEBSOCKET || type == ResourceType.EVENTSOURCE) {
+            return;
+        }
+        inFlight.put(request.getRequestId().toString(), lastNetworkActivityNanos);
+    }
+
+    private void requestEnded(String requestId) {
+        lastNetworkActivityNanos = System.nanoTime();
+        inFlight.remove(requestId);
+    }
+
+    private static long millis(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
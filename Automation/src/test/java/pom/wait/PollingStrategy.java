@@ -0,0 +1,64 @@
+package pom.wait;
+
+import java.time.Duration;
+
+import novus.config.config_loader.LayeredConfiguration;
+
+/**
+ * Decides how long an explicit wait sleeps between two polls of its condition
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    int DEFAULT_POLLING_INTERVAL_MS = 500;
+
+    /**
+     * Get the sleep before the next poll
+     * @param polls Number of polls already made in the current wait, at least 1
+     */
+    Duration nextInterval(int polls);
+
+    /**
+     * Get the sleep before the next poll of a described condition
+     * @param conditionKey Description of the condition, or null if it has none
+     * @param polls Number of polls already made in the current wait, at least 1
+     * @param elapsedMs Time spent in the current wait so far
+     */
+    default Duration nextInterval(String conditionKey, int polls, long elapsedMs) {
+        return nextInterval(polls);
+    }
+
+    /**
+     * Called when a described condition became true after the given time
+     */
+    default void recordSettled(String conditionKey, long elapsedMs) {
+    }
+
+    /**
+     * Poll at a fixed interval, like a plain WebDriverWait
+     */
+    static PollingStrategy fixed(Duration interval) {
+        return polls -> interval;
+    }
+
+    /**
+     * Build the strategy configured in web.json: timeouts.pollingStrategy
+     * selects "fixed" (the default, every timeouts.pollingInterval) or "backoff", tuned by
+     * timeouts.pollingBackoff and capped at timeouts.pollingInterval
+     */
+    static PollingStrategy fromConfiguration() {
+        LayeredConfiguration configuration = LayeredConfiguration.getInstance();
+        int intervalMs = configuration.getInt("web.timeouts.pollingInterval", DEFAULT_POLLING_INTERVAL_MS);
+
+        if ("backoff".equalsIgnoreCase(configuration.get("web.timeouts.pollingStrategy", "fixed"))) {
+            return new BackoffPollingStrategy(
+                    configuration.getInt("web.timeouts.pollingBackoff.initialMs",
+                            (int) BackoffPollingStrategy.DEFAULT_INITIAL_INTERVAL_MS),
+                    Double.parseDouble(configuration.get("web.timeouts.pollingBackoff.multiplier",
+                            String.valueOf(BackoffPollingStrategy.DEFAULT_MULTIPLIER))),
+                    intervalMs,
+                    configuration.getBoolean("web.timeouts.pollingBackoff.learn", true));
+        }
+        return fixed(Duration.ofMillis(intervalMs));
+    }
+}
@@ -0,0 +1,98 @@
+package pom.wait;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import novus.config.telemetry.TimeBudget;
+
+/**
+ * Fixed sleeps recorded per call site
+ *
+ * Drop-in for Thread.sleep in suite code that has not been moved to a
+ * condition yet, e.g. {@link WaitEngine#awaitPageReady()}. The suite report
+ * lists every call site with the time its sleeps cost, so the remaining
+ * sleeps can be removed by cost.
+ */
+public final class Sleeps {
+
+    private static final Map<String, SleepSite> CALL_SITES = new ConcurrentHashMap<>();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private Sleeps() {
+    }
+
+    /**
+     * Sleep like Thread.sleep and record the time against the caller
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        String callSite = resolveCallSite();
+        long startNanos = System.nanoTime();
+        TimeBudget.enter(TimeBudget.Phase.SLEEP, "sleep " + callSite);
+        try {
+            Thread.sleep(millis);
+        } finally {
+            TimeBudget.exit();
+            SleepSite site = CALL_SITES.computeIfAbsent(callSite, key -> new SleepSite());
+            site.calls.increment();
+            site.sleptNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Get sleep statistics per call site, ordered by total time slept
+     */
+    public static Map<String, Object> getSleepStatistics() {
+        List<Map.Entry<String, SleepSite>> sites = new ArrayList<>(CALL_SITES.entrySet());
+        sites.sort((a, b) -> Long.compare(b.getValue().sleptNanos.sum(), a.getValue().sleptNanos.sum()));
+
+        long totalCalls = 0;
+        long totalNanos = 0;
+        Map<String, Object> callSites = new LinkedHashMap<>();
+        for (Map.Entry<String, SleepSite> site : sites) {
+            long calls = site.getValue().calls.sum();
+            long sleptNanos = site.getValue().sleptNanos.sum();
+            totalCalls += calls;
+            totalNanos += sleptNanos;
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("calls", calls);
+            stats.put("totalSleepMs", TimeUnit.NANOSECONDS.toMillis(sleptNanos));
+            callSites.put(site.getKey(), stats);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalSleeps", totalCalls);
+        result.put("totalSleepMs", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+        result.put("callSites", callSites);
+        return result;
+    }
+
+    public static void resetStatistics() {
+        CALL_SITES.clear();
+    }
+
+    /**
+     * Find the first frame outside this class and registered wait helpers
+     */
+    private static String resolveCallSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getDeclaringClass() != Sleeps.class
+                        && !WaitEngine.isWaitFrame(frame.getDeclaringClass()))
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    /**
+     * Accumulated sleeps of one call site
+     */
+    private static final class SleepSite {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder sleptNanos = new LongAdder();
+    }
+}
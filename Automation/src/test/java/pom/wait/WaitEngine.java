@@ -0,0 +1,534 @@
+package pom.wait;
+
+import java.lang.ref.SoftReference;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import novus.config.config_loader.LayeredConfiguration;
+import novus.config.telemetry.TimeBudget;
+import pom.support.PageProbe;
+
+/**
+ * Per-driver explicit wait engine
+ *
+ * One wait is created per driver and timeout and reused for every call, with
+ * timeouts taken from web.json timeouts.explicit and sleeps between polls
+ * decided by a {@link PollingStrategy}. Every wait records its duration and
+ * number of polls against the page-object method that asked for it, so the
+ * suite report can show where wait time goes. With web.json
+ * timeouts.waitMode "observer" the element waits run inside the browser and
+ * cost one round trip each.
+ */
+public final class WaitEngine {
+    private static final Logger logger = LoggerFactory.getLogger(WaitEngine.class);
+
+    /**
+     * Timeout classes from web.json timeouts.explicit
+     */
+    public enum Timeout {
+        DEFAULT("default", 20),
+        SHORT("short", 5),
+        MEDIUM("medium", 10),
+        LONG("long", 30);
+
+        private final String key;
+        private final int defaultSeconds;
+
+        Timeout(String key, int defaultSeconds) {
+            this.key = key;
+            this.defaultSeconds = defaultSeconds;
+        }
+
+        public int getSeconds() {
+            return LayeredConfiguration.getInstance().getInt("web.timeouts.explicit." + key, defaultSeconds);
+        }
+    }
+
+    // Weak keys with soft values: an engine refers to its driver, so a strong value would keep the key alive
+    private static final Map<WebDriver, SoftReference<WaitEngine>> ENGINES = new WeakHashMap<>();
+    private static final Set<Class<?>> WAIT_HELPERS = ConcurrentHashMap.newKeySet();
+    private static final Map<String, CallSiteStats> CALL_SITES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WaitCall> ACTIVE_CALL = new ThreadLocal<>();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static volatile PollingStrategy defaultPollingStrategy;
+
+    private final WebDriver driver;
+    private final PollingStrategy pollingStrategy;
+    private final ObserverWait observer;
+    private final Map<Integer, WebDriverWait> waits = new ConcurrentHashMap<>();
+    private volatile PageReadiness pageReadiness;
+
+    private WaitEngine(WebDriver driver, PollingStrategy pollingStrategy) {
+        this.driver = driver;
+        this.pollingStrategy = pollingStrategy;
+        // web.json timeouts.waitMode "observer" waits in the browser instead of polling
+        boolean observerMode = "observer".equalsIgnoreCase(
+                LayeredConfiguration.getInstance().get("web.timeouts.waitMode", "polling"));
+        this.observer = observerMode ? new ObserverWait(driver) : null;
+    }
+
+    /**
+     * Get the wait engine of a driver, creating it on first use; engines of
+     * drivers that are no longer referenced are dropped by the garbage collector
+     */
+    public static WaitEngine forDriver(WebDriver driver) {
+        synchronized (ENGINES) {
+            SoftReference<WaitEngine> reference = ENGINES.get(driver);
+            WaitEngine engine = reference != null ? reference.get() : null;
+            if (engine == null) {
+                engine = new WaitEngine(driver, getDefaultPollingStrategy());
+                ENGINES.put(driver, new SoftReference<>(engine));
+            }
+            return engine;
+        }
+    }
+
+    /**
+     * Drop the engine of a driver that has been quit
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            synchronized (ENGINES) {
+                ENGINES.remove(driver);
+            }
+        }
+    }
+
+    /**
+     * Replace the polling strategy used by engines created from now on
+     */
+    public static void setDefaultPollingStrategy(PollingStrategy strategy) {
+        defaultPollingStrategy = strategy;
+    }
+
+    private static PollingStrategy getDefaultPollingStrategy() {
+        if (defaultPollingStrategy == null) {
+            defaultPollingStrategy = PollingStrategy.fromConfiguration();
+        }
+        return defaultPollingStrategy;
+    }
+
+    /**
+     * Register a helper class whose frames are skipped when attributing
+     * waits, so time is recorded against the page object calling it
+     */
+    public static void registerWaitHelper(Class<?> helperClass) {
+        WAIT_HELPERS.add(helperClass);
+    }
+
+    /**
+     * Create a wait owned by the caller, e.g. a page object that customises
+     * it with withMessage or ignoring; it is instrumented like the shared ones
+     */
+    public WebDriverWait newWait(int timeoutSeconds) {
+        return new InstrumentedWait(driver, Duration.ofSeconds(timeoutSeconds), pollingStrategy);
+    }
+
+    /**
+     * Get the shared wait for a timeout class; do not customise it
+     */
+    public WebDriverWait getWait(Timeout timeout) {
+        return getWait(timeout.getSeconds());
+    }
+
+    /**
+     * Get the shared wait for a timeout in seconds; do not customise it
+     */
+    public WebDriverWait getWait(int timeoutSeconds) {
+        return waits.computeIfAbsent(timeoutSeconds,
+                seconds -> new InstrumentedWait(driver, Duration.ofSeconds(seconds), pollingStrategy));
+    }
+
+    /**
+     * Wait for a condition using a timeout class
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Timeout timeout) {
+        return getWait(timeout).until(condition);
+    }
+
+    /**
+     * Wait for a condition using a timeout in seconds
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, int timeoutSeconds) {
+        return getWait(timeoutSeconds).until(condition);
+    }
+
+    // ===============================
+    // ELEMENT WAITS
+    // ===============================
+
+    /**
+     * Wait until an element is present in the DOM
+     */
+    public WebElement awaitPresent(By locator, int timeoutSeconds) {
+        return observe(locator, ObserverWait.Condition.PRESENT, null,
+                ExpectedConditions.presenceOfElementLocated(locator), timeoutSeconds);
+    }
+
+    /**
+     * Wait until an element is visible
+     */
+    public WebElement awaitVisible(By locator, int timeoutSeconds) {
+        return observe(locator, ObserverWait.Condition.VISIBLE, null,
+                ExpectedConditions.visibilityOfElementLocated(locator), timeoutSeconds);
+    }
+
+    /**
+     * Wait until a located element is visible
+     */
+    public WebElement awaitVisible(WebElement element, int timeoutSeconds) {
+        return observe(element, null, ObserverWait.Condition.VISIBLE, null, ExpectedConditions.visibilityOf(element),
+                timeoutSeconds);
+    }
+
+    /**
+     * Wait until an element is invisible or absent
+     */
+    public boolean awaitInvisible(By locator, int timeoutSeconds) {
+        return observe(locator, ObserverWait.Condition.INVISIBLE, null,
+                ExpectedConditions.invisibilityOfElementLocated(locator), timeoutSeconds);
+    }
+
+    /**
+     * Wait until an element's text contains the given text
+     */
+    public boolean awaitText(By locator, String text, int timeoutSeconds) {
+        return observe(locator, ObserverWait.Condition.TEXT, text,
+                ExpectedConditions.textToBePresentInElementLocated(locator, text), timeoutSeconds);
+    }
+
+    private <T> T observe(By locator, ObserverWait.Condition condition, String text,
+            ExpectedCondition<T> fallback, int timeoutSeconds) {
+        String[] scriptLocator = observer != null ? PageProbe.scriptLocator(locator) : null;
+        if (scriptLocator == null) {
+            return until(fallback, timeoutSeconds);
+        }
+        return observe(scriptLocator[1], scriptLocator[0], condition, text, fallback, timeoutSeconds);
+    }
+
+    /**
+     * Wait in the browser with one round trip, falling back to polling when
+     * the driver rejects async scripts or the page navigates mid-wait
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T observe(Object target, String using, ObserverWait.Condition condition, String text,
+            ExpectedCondition<T> fallback, int timeoutSeconds) {
+        if (observer == null || !observer.isAvailable()) {
+            return until(fallback, timeoutSeconds);
+        }
+
+        WaitCall call = new WaitCall(null);
+        call.polls = 1;
+        String callSite = resolveCallSite();
+        boolean timedOut = false;
+        boolean polled = false;
+        TimeBudget.enter(TimeBudget.Phase.EXPLICIT_WAIT, "wait " + callSite);
+        try {
+            return (T) observer.await(target, using, condition, text, timeoutSeconds, fallback.toString());
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } catch (StaleElementReferenceException e) {
+            // Callers holding the handle find the element again
+            throw e;
+        } catch (UnsupportedCommandException | ClassCastException e) {
+            observer.disable();
+            polled = true;
+            return until(fallback, timeoutSeconds);
+        } catch (JavascriptException | NoSuchWindowException e) {
+            if (e instanceof JavascriptException && !isDocumentReplaced(e)) {
+                throw e;
+            }
+            // Document unloaded or replaced while waiting: poll for the remaining time
+            long remainingSeconds = timeoutSeconds - TimeUnit.MILLISECONDS.toSeconds(call.elapsedMs());
+            polled = true;
+            return until(fallback, (int) Math.max(1, remainingSeconds));
+        } finally {
+            TimeBudget.exit();
+            // Polling fallbacks record themselves
+            if (!polled) {
+                CALL_SITES.computeIfAbsent(callSite, site -> new CallSiteStats())
+                        .record(System.nanoTime() - call.startNanos, call.polls, timedOut);
+            }
+        }
+    }
+
+    // Script errors raised when the page the observer ran in went away
+    private static boolean isDocumentReplaced(WebDriverException e) {
+        String message = e.getMessage();
+        return message != null && (message.contains("unload") || message.contains("detached"));
+    }
+
+    // ===============================
+    // PAGE READINESS
+    // ===============================
+
+    /**
+     * Wait until the page has settled, up to web.json
+     * timeouts.pageReadiness.maxSeconds; replaces fixed sleeps after actions
+     * that load or re-render content
+     * @return false if the page was still busy at the deadline
+     */
+    public boolean awaitPageReady() {
+        return awaitPageReady(LayeredConfiguration.getInstance().getInt("web.timeouts.pageReadiness.maxSeconds", 30));
+    }
+
+    /**
+     * Wait until the page has settled, returning as soon as it has
+     * @return false if the page was still busy at the deadline
+     */
+    public boolean awaitPageReady(int maxSeconds) {
+        try {
+            return until(getPageReadiness(), maxSeconds);
+        } catch (TimeoutException e) {
+            logger.warn("Page did not settle within {} seconds, continuing", maxSeconds);
+            return false;
+        }
+    }
+
+    /**
+     * Get the page readiness condition, tracking network activity from first use
+     */
+    public PageReadiness getPageReadiness() {
+        if (pageReadiness == null) {
+            synchronized (this) {
+                if (pageReadiness == null) {
+                    pageReadiness = new PageReadiness(driver);
+                }
+            }
+        }
+        return pageReadiness;
+    }
+
+    // ===============================
+    // STATISTICS
+    // ===============================
+
+    /**
+     * Get wait statistics per call site, ordered by total wait time
+     */
+    public static Map<String, Object> getWaitStatistics() {
+        List<Map.Entry<String, CallSiteStats>> sites = new ArrayList<>(CALL_SITES.entrySet());
+        sites.sort((a, b) -> Long.compare(b.getValue().waitNanos.sum(), a.getValue().waitNanos.sum()));
+
+        long totalCalls = 0;
+        long totalPolls = 0;
+        long totalWaitNanos = 0;
+        long totalTimeouts = 0;
+        Map<String, Object> callSites = new LinkedHashMap<>();
+        for (Map.Entry<String, CallSiteStats> site : sites) {
+            CallSiteStats stats = site.getValue();
+            totalCalls += stats.calls.sum();
+            totalPolls += stats.polls.sum();
+            totalWaitNanos += stats.waitNanos.sum();
+            totalTimeouts += stats.timeouts.sum();
+            callSites.put(site.getKey(), stats.toMap());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalWaits", totalCalls);
+        result.put("totalPolls", totalPolls);
+        result.put("totalWaitMs", TimeUnit.NANOSECONDS.toMillis(totalWaitNanos));
+        result.put("timeouts", totalTimeouts);
+        result.put("callSites", callSites);
+        return result;
+    }
+
+    /**
+     * Clear recorded wait statistics
+     */
+    public static void resetStatistics() {
+        CALL_SITES.clear();
+    }
+
+    // ===============================
+    // PRIVATE HELPER METHODS
+    // ===============================
+
+    /**
+     * Find the first frame outside the wait machinery and registered helpers
+     */
+    private static String resolveCallSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !isWaitFrame(frame.getDeclaringClass()))
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    /**
+     * Check whether a stack frame belongs to the wait machinery or a registered helper
+     */
+    public static boolean isWaitFrame(Class<?> frameClass) {
+        Class<?> host = frameClass.getNestHost();
+        return host == WaitEngine.class || FluentWait.class.isAssignableFrom(frameClass) || WAIT_HELPERS.contains(host);
+    }
+
+    /**
+     * Sleep for the interval the strategy picks for the wait in progress
+     */
+    private static Sleeper strategySleeper(PollingStrategy strategy) {
+        return configuredInterval -> {
+            WaitCall call = ACTIVE_CALL.get();
+            Duration interval = call != null
+                    ? strategy.nextInterval(call.conditionKey, Math.max(1, call.polls), call.elapsedMs())
+                    : configuredInterval;
+            Thread.sleep(interval.toMillis());
+        };
+    }
+
+    /**
+     * Describe a condition for learning; lambdas have no stable description
+     */
+    private static String conditionKey(Function<?, ?> condition) {
+        Class<?> conditionClass = condition.getClass();
+        return conditionClass.isSynthetic() || conditionClass.isHidden() ? null : condition.toString();
+    }
+
+    /**
+     * WebDriverWait that counts polls and records each call against its call site
+     */
+    private static final class InstrumentedWait extends WebDriverWait {
+
+        private final PollingStrategy strategy;
+
+        private InstrumentedWait(WebDriver driver, Duration timeout, PollingStrategy strategy) {
+            super(driver, timeout, strategy.nextInterval(1), Clock.systemDefaultZone(), strategySleeper(strategy));
+            this.strategy = strategy;
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> condition) {
+            WaitCall call = new WaitCall(conditionKey(condition));
+            WaitCall outerCall = ACTIVE_CALL.get();
+            ACTIVE_CALL.set(call);
+            String callSite = resolveCallSite();
+            boolean timedOut = false;
+            TimeBudget.enter(TimeBudget.Phase.EXPLICIT_WAIT, "wait " + callSite);
+            try {
+                V result = super.until(new CountingCondition<>(condition, call));
+                if (call.conditionKey != null) {
+                    strategy.recordSettled(call.conditionKey, call.elapsedMs());
+                }
+                return result;
+            } catch (TimeoutException e) {
+                timedOut = true;
+                throw e;
+            } finally {
+                TimeBudget.exit();
+                if (outerCall != null) {
+                    ACTIVE_CALL.set(outerCall);
+                } else {
+                    ACTIVE_CALL.remove();
+                }
+                CALL_SITES.computeIfAbsent(callSite, site -> new CallSiteStats())
+                        .record(System.nanoTime() - call.startNanos, call.polls, timedOut);
+            }
+        }
+    }
+
+    /**
+     * Condition wrapper that counts evaluations and keeps the wrapped
+     * condition's description for timeout messages
+     */
+    private static final class CountingCondition<V> implements Function<WebDriver, V> {
+        private final Function<? super WebDriver, V> condition;
+        private final WaitCall call;
+
+        private CountingCondition(Function<? super WebDriver, V> condition, WaitCall call) {
+            this.condition = condition;
+            this.call = call;
+        }
+
+        @Override
+        public V apply(WebDriver driver) {
+            call.polls++;
+            return condition.apply(driver);
+        }
+
+        @Override
+        public String toString() {
+            return condition.toString();
+        }
+    }
+
+    /**
+     * State of one wait in progress
+     */
+    private static final class WaitCall {
+        private final String conditionKey;
+        private final long startNanos = System.nanoTime();
+        private int polls;
+
+        private WaitCall(String conditionKey) {
+            this.conditionKey = conditionKey;
+        }
+
+        private long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Accumulated waits of one call site
+     */
+    private static final class CallSiteStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long elapsedNanos, int pollCount, boolean timedOut) {
+            calls.increment();
+            polls.add(pollCount);
+            waitNanos.add(elapsedNanos);
+            maxWaitNanos.accumulate(elapsedNanos);
+            if (timedOut) {
+                timeouts.increment();
+            }
+        }
+
+        private Map<String, Object> toMap() {
+            long callCount = calls.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("calls", callCount);
+            stats.put("polls", polls.sum());
+            stats.put("totalWaitMs", TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()));
+            stats.put("averageWaitMs", callCount > 0 ? TimeUnit.NANOSECONDS.toMillis(waitNanos.sum() / callCount) : 0);
+            stats.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+            stats.put("timeouts", timeouts.sum());
+            return stats;
+        }
+    }
+}
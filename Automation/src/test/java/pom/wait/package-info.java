@@ -0,0 +1 @@
+package pom.wait;
\ No newline at end of file
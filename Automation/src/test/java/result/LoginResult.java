@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pom.pages1.Home_Page1;
 import pom.pages1.Login_Page1;
+import pom.support.PageRegistry;
 
 /**
  * Result wrapper class for login operations that supports both positive and negative test scenarios.
@@ -106,7 +107,7 @@ public class LoginResult {
     }
     
     /**
-     * Gets HomePage object if login was successful
+     * Gets HomePage object if login was successful, reusing the one built since the last navigation
      * @return HomePage instance
      * @throws IllegalStateException if login was not successful
      */
@@ -119,16 +120,17 @@ public class LoginResult {
         }
         
         logger.debug("Returning HomePage for successful login of user: {}", username);
-        return new Home_Page1(driver);
+        return PageRegistry.forDriver(driver).get(Home_Page1.class);
     }
     
     /**
-     * Gets LoginPage object (useful for negative test scenarios and method chaining)
+     * Gets LoginPage object (useful for negative test scenarios and method chaining), reusing
+     * the one built since the last navigation
      * @return LoginPage instance
      */
     public Login_Page1 getLoginPage() {
         logger.debug("Returning LoginPage for user: {}", username);
-        return new Login_Page1(driver);
+        return PageRegistry.forDriver(driver).get(Login_Page1.class);
     }
     
     /**
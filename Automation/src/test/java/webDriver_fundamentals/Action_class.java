@@ -13,6 +13,9 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import pom.support.InteractionBatch;
+import pom.wait.Sleeps;
+
 public class Action_class {
 	WebDriver driver;
 	@BeforeMethod
@@ -38,7 +41,7 @@ public class Action_class {
 		driver.findElement(By.linkText("Dropdown menu")).click();
 		WebElement dc_dopdown = driver.findElement(By.id("my-dropdown-2"));
 		actions.contextClick(dc_dopdown).build().perform();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -48,7 +51,7 @@ public class Action_class {
 		List<WebElement> img = driver.findElements(By.xpath("//div[@class='figure text-center col-3 py-2']"));
 		for (WebElement img1 : img) {
 			actions.moveToElement(img1).build().perform();
-			Thread.sleep(3000);
+			Sleeps.sleep(3000);
 		}
 	}
 	
@@ -59,7 +62,7 @@ public class Action_class {
 		driver.findElement(By.linkText("Dropdown menu")).click();
 		WebElement dc_dopdown = driver.findElement(By.id("my-dropdown-3"));
 		actions.doubleClick(dc_dopdown).build().perform();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -69,7 +72,7 @@ public class Action_class {
 		WebElement Drag = driver.findElement(By.id("draggable"));
 		WebElement Drop = driver.findElement(By.id("target"));
 		actions.dragAndDrop(Drag, Drop).build().perform();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -79,7 +82,7 @@ public class Action_class {
 		WebElement Drag = driver.findElement(By.id("draggable"));
 		WebElement Drop = driver.findElement(By.id("target"));
 		actions.clickAndHold(Drag).release(Drop).build().perform();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -89,21 +92,23 @@ public class Action_class {
         WebElement slider = driver.findElement(By.cssSelector("input[type='range']"));
 
         actions.clickAndHold(slider).moveByOffset(50, 0).release().perform();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
 	public void keyBoard() throws Exception {
-		Actions actions = new Actions(driver);
 		driver.findElement(By.linkText("Web form")).click();
-		WebElement textbox = driver.findElement(By.id("my-text-id"));
-		textbox.sendKeys("Prathamesh");
-		actions.keyDown(Keys.CONTROL).sendKeys("a").keyUp(Keys.CONTROL).perform(); // Ctrl+A to select all
-        actions.keyDown(Keys.CONTROL).sendKeys("c").keyUp(Keys.CONTROL).perform(); // Ctrl+C to copy
-		Thread.sleep(2000);
-		actions.sendKeys(Keys.TAB).perform();
-		actions.keyDown(Keys.CONTROL).sendKeys("v").keyUp(Keys.CONTROL).perform();
-		Thread.sleep(3000);
+		// Type, copy, tab and paste in one actions request
+		InteractionBatch.on(driver)
+				.sendKeys(By.id("my-text-id"), "Prathamesh")
+				.chord(Keys.CONTROL, "a") // Ctrl+A to select all
+				.chord(Keys.CONTROL, "c") // Ctrl+C to copy
+				.pause(Duration.ofSeconds(2))
+				.sendKeys(Keys.TAB)
+				.chord(Keys.CONTROL, "v")
+				.releaseAfter()
+				.perform();
+		Sleeps.sleep(3000);
 		
 	}
 	
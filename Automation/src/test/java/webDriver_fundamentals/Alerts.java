@@ -9,6 +9,7 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class Alerts {
 	WebDriver driver;
@@ -37,7 +38,7 @@ public class Alerts {
 	@Test
 	public void confirmation_alert() throws InterruptedException {
 		driver.findElement(By.id("confirmBtn")).click();
-		Thread.sleep(5000);
+		Sleeps.sleep(5000);
 		Alert test_alert = driver.switchTo().alert();
 		System.out.println(test_alert.getText());
 		test_alert.accept();
@@ -49,7 +50,7 @@ public class Alerts {
 		Alert test_alert = driver.switchTo().alert();
 		System.out.println(test_alert.getText());
 		test_alert.sendKeys("Prathamesh");
-		Thread.sleep(5000);
+		Sleeps.sleep(5000);
 		test_alert.accept();
 		System.out.println(driver.findElement(By.id("demo")).getText());
 	}
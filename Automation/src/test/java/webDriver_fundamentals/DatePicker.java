@@ -14,6 +14,7 @@ import org.openqa.selenium.support.ui.Select;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 public class DatePicker {
 	WebDriver driver;
@@ -37,7 +38,7 @@ public class DatePicker {
 				 
 		 WebElement dateInput = driver.findElement(By.name("my-date"));
 		    dateInput.click();
-		    Thread.sleep(1000); // Wait for calendar to appear
+		    Sleeps.sleep(1000); // Wait for calendar to appear
 
 		    // Step 2: Navigate to the desired month
 		    while (true) {
@@ -49,7 +50,7 @@ public class DatePicker {
 		        } else {
 		            WebElement nextBtn = driver.findElement(By.className("next"));
 		            nextBtn.click();
-		            Thread.sleep(500);
+		            Sleeps.sleep(500);
 		        }
 		    }
 
@@ -76,7 +77,7 @@ public class DatePicker {
 		dd2.selectByVisibleText("2024");
 		int cur_date = 23;
 		driver.findElement(By.xpath("(//*[@class='ui-state-default'])["+cur_date+"]")).click();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
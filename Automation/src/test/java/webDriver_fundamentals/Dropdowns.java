@@ -30,6 +30,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 
 
@@ -55,7 +56,7 @@ public class Dropdowns {
 		WebElement ddElement = driver.findElement(By.name("my-select"));
 		Select dd = new Select(ddElement);
 		dd.selectByVisibleText("One");
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		List<WebElement> options = dd.getOptions();
 		for (WebElement webElement : options) {
 			System.out.println(webElement.getText());
@@ -70,7 +71,7 @@ public class Dropdowns {
 //		Thread.sleep(3000);
 		WebElement facebook = mywait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//*[@class='wM6W7d'][1]/span")));
 		facebook.click();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
@@ -81,14 +82,14 @@ public class Dropdowns {
 		WebElement option = driver.findElement(By.xpath("//datalist/option[2]"));
 		String optionValue = option.getAttribute("value");
 		datalist.sendKeys(optionValue);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		}
 	
 	@Test
 	public void Multi_Select() throws Exception {
 		driver.get("https://demoqa.com/select-menu");
 		Actions actions = new Actions(driver);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		WebElement dropdown = driver.findElement(By.xpath("//div[@id='withOptGroup']"));
 		actions.scrollToElement(dropdown);
 		dropdown.click();
@@ -105,13 +106,13 @@ public class Dropdowns {
 		Rectangle screenRect = new Rectangle(Toolkit.getDefaultToolkit().getScreenSize());
 		BufferedImage screenFullImage = robot.createScreenCapture(screenRect);
 		ImageIO.write(screenFullImage, "png", new File("screenshot.png"));
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
 	public void colors() throws Exception {
 		driver.get("https://demoqa.com/select-menu");
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		
 		WebElement dropdown = driver.findElement(By.xpath("//div[@id='selectMenuContainer']//div[@class='row']//div[contains(@class,'css-tlfecz-indicatorContainer')]"));
 		dropdown.click();
@@ -134,7 +135,7 @@ public class Dropdowns {
 		    System.out.println(option.getText());
 		    option.click();
 		    dropdown.click();
-		    Thread.sleep(3000);
+		    Sleeps.sleep(3000);
 		}
 	}
 }
@@ -15,6 +15,10 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import pom.support.FrameContext;
+import pom.support.FramePath;
+import pom.support.NavigationTracker;
+
 public class Frames {
 	WebDriver driver;
 	@BeforeMethod
@@ -28,6 +32,8 @@ public class Frames {
 	
 	@AfterMethod
 	public void AfterMethod() {
+		NavigationTracker.release(driver);
+		FrameContext.release(driver);
 		driver.quit();
 	}
 	
@@ -37,8 +43,8 @@ public class Frames {
 		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 		 String frameName = "frame-body";
 		 wait.until(ExpectedConditions.presenceOfElementLocated(By.name(frameName)));
-		 driver.switchTo().frame(frameName);
-		 By pName = By.tagName("p");
+		 // The locator carries its frame; only the first lookup switches
+		 By pName = FramePath.of(By.name(frameName)).locate(By.tagName("p"));
 		 wait.until(ExpectedConditions.numberOfElementsToBeMoreThan(pName, 0));
 		 List<WebElement> paragraphs = driver.findElements(pName);
 //		 assertThat(paragraphs).hasSize(20);
@@ -51,11 +57,10 @@ public class Frames {
 		//navigate to url
         driver.get("https://demoqa.com/frames");
         
-        //Switch to Frame using Index
-        driver.switchTo().frame(driver.findElement(By.id("frame1")));
+        By heading = By.id("sampleHeading");
         
-        //Identifying the heading in webelement
-        WebElement frame1Heading= driver.findElement(By.id("sampleHeading"));
+        //Locators bound to a frame switch only when the driver is elsewhere
+        WebElement frame1Heading= driver.findElement(FramePath.of(By.id("frame1")).locate(heading));
         
         //Finding the text of the heading
         String frame1Text=frame1Heading.getText();
@@ -63,17 +68,15 @@ public class Frames {
         //Print the heading text
         System.out.println(frame1Text);
         
-        driver.switchTo().parentFrame();
-        
-        System.out.println(driver.findElement(By.xpath("//*[@id='framesWrapper']/h1")).getText());
-        driver.switchTo().frame(driver.findElement(By.id("frame2")));
+        System.out.println(driver.findElement(FramePath.top().locate(By.xpath("//*[@id='framesWrapper']/h1"))).getText());
         
-        WebElement frame2Heading= driver.findElement(By.id("sampleHeading"));
+        WebElement frame2Heading= driver.findElement(FramePath.of(By.id("frame2")).locate(heading));
         
       //Finding the text of the heading
         String frame2Text=frame2Heading.getText();
         
         //Print the heading text
         System.out.println(frame2Text);
+        System.out.println(FrameContext.getSwitchStatistics());
 	}
 }
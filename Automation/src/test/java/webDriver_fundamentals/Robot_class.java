@@ -15,6 +15,7 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import pom.wait.Sleeps;
 
 
 
@@ -55,31 +56,31 @@ public class Robot_class {
 		Robot robot = new Robot();
 	
 		robot.mouseWheel(10); // Scroll down 3 notches
-		Thread.sleep(5000);
+		Sleeps.sleep(5000);
 		robot.mouseWheel(-10); // Scroll up 3 notches
-		Thread.sleep(5000);
+		Sleeps.sleep(5000);
 	}
 	
 	@Test
 	public void mouse_move() throws Exception {
 		Robot robot = new Robot();
 		robot.mouseMove(30, 500); // Move cursor to x=300, y=500
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		robot.mouseMove(500, 30);
 		robot.mousePress(InputEvent.BUTTON3_DOWN_MASK);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		robot.mouseRelease(InputEvent.BUTTON3_DOWN_MASK);
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 	}
 	
 	@Test
 	public void keyPress() throws Exception {
 		Robot robot = new Robot();
-		Thread.sleep(3000);
+		Sleeps.sleep(3000);
 		robot.keyPress(KeyEvent.VK_CONTROL);
 		robot.keyPress(KeyEvent.VK_R);
 		robot.keyRelease(KeyEvent.VK_R);
 		robot.keyRelease(KeyEvent.VK_CONTROL);
-		Thread.sleep(5000);
+		Sleeps.sleep(5000);
 	}
 }
@@ -12,6 +12,10 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import pom.support.PagedCollector;
+import pom.support.TableReader;
+import pom.wait.WaitEngine;
+
 public class WebTable {
 	WebDriver driver;
 	@BeforeMethod
@@ -25,52 +29,26 @@ public class WebTable {
 	
 	@AfterMethod
 	public void AfterMethod() {
+		WaitEngine.release(driver);
 		driver.quit();
 	}
 	
 	@Test
 	public void f() {
 		driver.get("https://testautomationpractice.blogspot.com/#");
-		WebElement table = driver.findElement(By.name("BookTable"));
-		List<WebElement> rows = table.findElements(By.tagName("tr"));
-		for(int i = 0; i < rows.size(); i++) {
-			if(i == 0) {
-				List<WebElement> cols = rows.get(i).findElements(By.tagName("th"));
-				for(int j = 0; j < cols.size(); j++) {
-					String colValue = cols.get(j).getText();
-					System.out.print(colValue +"\t");
-				}
-				System.out.println();
-			}else {
-				List<WebElement> cols = rows.get(i).findElements(By.tagName("td"));
-				for(int j = 0; j < cols.size(); j++) {
-					String colValue = cols.get(j).getText();
-					System.out.print(colValue +"\t");
-				}
-				System.out.println();
-			}
+		// Header and body in one script call instead of a getText per cell
+		String[][] table = TableReader.of(driver, By.name("BookTable")).read().toArray();
+		for(String[] row : table) {
+			System.out.println(String.join("\t", row));
 		}
 	}
 	
 	@Test
 	public void spec_col() {
 		driver.get("https://testautomationpractice.blogspot.com/#");
-		WebElement table = driver.findElement(By.name("BookTable"));
-		List<WebElement> rows = table.findElements(By.tagName("tr"));		
-		List<WebElement> header = rows.get(0).findElements(By.tagName("th"));
-		int columnNum = -1;
-		for(int i = 0; i < header.size()-1; i++) {
-			String headerVal = header.get(i).getText();
-			if(headerVal.equals("Author")) {
-				System.out.println(headerVal);
-				columnNum = i;
-			}
-		}
-		System.out.println(columnNum);
-		for (int j = 1; j < rows.size(); j++) {
-			List<WebElement> cols = rows.get(j).findElements(By.tagName("td"));
-			System.out.println(cols.get(columnNum).getText());
-		}
+		TableReader.Table table = TableReader.of(driver, By.name("BookTable")).read();
+		System.out.println(table.columnIndex("Author"));
+		table.getColumn("Author").forEach(System.out::println);
 	}
 	
 	@Test
@@ -79,7 +57,7 @@ public class WebTable {
 		for(int i = 0; i < 5; i++ ) {
 			System.out.println(driver.findElement(By.xpath("//*[@class = 'chrome-cpu']")).getText());
 			driver.navigate().refresh();
-			Thread.sleep(3000);
+			WaitEngine.forDriver(driver).awaitPageReady();
 		}
 		
 	}
@@ -96,9 +74,8 @@ public class WebTable {
 		        if (firstName.equals("Alden")) {
 		            WebElement actionCell = cells.get(cells.size() - 1); // Last column has action buttons
 		            WebElement editBtn = actionCell.findElement(By.cssSelector("span[id^='edit-record']"));
-		            Thread.sleep(3000);
 		            editBtn.click(); // Click edit
-		            Thread.sleep(3000);
+		            WaitEngine.forDriver(driver).awaitPageReady();
 		            break;
 		            
 		        }
@@ -121,41 +98,22 @@ public class WebTable {
 				WebElement choose_but = flight_but.findElement(By.tagName("input"));
 				System.out.println(choose_but.getAttribute("value"));
 				choose_but.click();
-				Thread.sleep(3000);
+				WaitEngine.forDriver(driver).awaitPageReady();
 				break;
 			}
 		}
-		Thread.sleep(2000);
 	}
 	
 	@Test
 	public void Pagination1() {
 		driver.get("https://testautomationpractice.blogspot.com/#");
-		List<WebElement> list_Options = driver.findElements(By.xpath("//*[@id='pagination']//li"));
-		System.out.println(list_Options.size());
-		for (int i = 0; i < list_Options.size(); i++) {
-			WebElement page_link = list_Options.get(i).findElement(By.tagName("a"));
-			page_link.click();
-			WebElement table = driver.findElement(By.id("productTable"));
-			List<WebElement> rows = table.findElements(By.tagName("tr"));
-			for(int j = 0; j < rows.size(); j++) {
-				if(j == 0) {
-					List<WebElement> cols = rows.get(j).findElements(By.tagName("th"));
-					for(int k = 0; k < cols.size(); k++) {
-						String colValue = cols.get(k).getText();
-						System.out.print(colValue +"\t");
-					}
-					System.out.println();
-				}else {
-					List<WebElement> cols = rows.get(j).findElements(By.tagName("td"));
-					for(int k = 0; k < cols.size(); k++) {
-						String colValue = cols.get(k).getText();
-						System.out.print(colValue +"\t");
-					}
-					System.out.println();
-				}
-			}
-		}
-		
+		TableReader products = TableReader.of(driver, By.id("productTable"));
+		System.out.println(String.join("\t", products.read(0, 0).getHeaders()));
+		// One script call per page; later pages are only opened as rows are consumed
+		PagedCollector.of(driver, products)
+				.pageLinks(By.xpath("//*[@id='pagination']//li/a"))
+				.distinctBy(row -> row[0])
+				.stream()
+				.forEach(row -> System.out.println(String.join("\t", row)));
 	}
 }